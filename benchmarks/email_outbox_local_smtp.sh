@@ -0,0 +1,43 @@
+#!/usr/bin/env bash
+# Exercises the email outbox against a local SMTP stand-in (Mailpit) instead of a real mail server.
+#
+# 1. Start Mailpit and the app pointed at it:
+#      docker run -d --name mailpit -p 1025:1025 -p 8025:8025 axllent/mailpit
+#      SPRING_MAIL_HOST=localhost SPRING_MAIL_PORT=1025 SPRING_MAIL_SMTP_AUTH=false SPRING_MAIL_SMTP_STARTTLS=false \
+#        ./mvnw spring-boot:run
+# 2. BASE_URL=http://localhost:8080 COUNT=50 benchmarks/email_outbox_local_smtp.sh
+#
+# Signs up COUNT users, prints the slowest signup (it should not include any SMTP time), then waits for Mailpit
+# to have received every verification email. Stop Mailpit halfway through a run to watch the outbox retry:
+# the mail.outbox.retried metric climbs and the emails arrive once it is back.
+#
+# Needs curl and jq.
+set -euo pipefail
+
+BASE_URL=${BASE_URL:-http://localhost:8080}
+MAILPIT_URL=${MAILPIT_URL:-http://localhost:8025}
+COUNT=${COUNT:-50}
+RUN=$(date +%s)
+
+before=$(curl -fsS "$MAILPIT_URL/api/v1/messages?limit=1" | jq '.total')
+
+slowest=0
+for i in $(seq 1 "$COUNT"); do
+  t=$(curl -fsS -o /dev/null -w '%{time_total}' -H 'Content-Type: application/json' \
+    -d "{\"username\":\"outbox-$RUN-$i\",\"email\":\"outbox-$RUN-$i@example.test\",\"password\":\"Secret123!\"}" \
+    "$BASE_URL/api/auth/signup")
+  slowest=$(echo "$t $slowest" | awk '{print ($1 > $2) ? $1 : $2}')
+done
+echo "Slowest of $COUNT signups: ${slowest}s"
+
+for _ in $(seq 1 60); do
+  received=$(( $(curl -fsS "$MAILPIT_URL/api/v1/messages?limit=1" | jq '.total') - before ))
+  if (( received >= COUNT )); then
+    echo "OK: Mailpit received all $COUNT verification emails"
+    exit 0
+  fi
+  sleep 1
+done
+echo "FAIL: Mailpit received $received of $COUNT emails after 60s" >&2
+curl -fsS "$BASE_URL/actuator/metrics/mail.outbox.retried" | jq -c '.measurements' >&2 || true
+exit 1
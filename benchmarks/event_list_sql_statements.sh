@@ -0,0 +1,62 @@
+#!/usr/bin/env bash
+# SQL-statements-per-request regression check for the event read endpoints.
+#
+# Hits GET /api/events with growing page sizes plus GET /api/events/{id}, then reads the per-request
+# statement counts the app records (metric http.server.requests.sql.statements, exposed on
+# /actuator/metrics). With batched association loading the maximum stays flat however large the page
+# is; an N+1 regression makes it grow with the page size and fails the check.
+#
+#   BASE_URL=http://localhost:8080 TOKEN=<jwt> MAX_STATEMENTS=12 benchmarks/event_list_sql_statements.sh
+#
+# TOKEN is an access token from /api/auth/signin; /actuator/metrics needs it like every other endpoint.
+# A metric that cannot be read counts as a failure, never as zero statements.
+#
+# Needs curl and jq, and a database with at least a few events (ideally with artists/sponsors/tiers).
+set -euo pipefail
+
+BASE_URL=${BASE_URL:-http://localhost:8080}
+TOKEN=${TOKEN:?set TOKEN to an access token from /api/auth/signin}
+MAX_STATEMENTS=${MAX_STATEMENTS:-12}
+METRIC="$BASE_URL/actuator/metrics/http.server.requests.sql.statements"
+
+api() {
+  curl -fsS -H "Authorization: Bearer $TOKEN" "$@"
+}
+
+max_for() {
+  local max
+  max=$(api -G "$METRIC" --data-urlencode "tag=method:GET" --data-urlencode "tag=uri:$1" \
+    | jq -er '.measurements[] | select(.statistic == "MAX") | .value') || {
+    echo "FAIL: could not read $METRIC for $1" >&2
+    return 1
+  }
+  echo "$max"
+}
+
+status=0
+for size in 1 20 100; do
+  api -o /dev/null "$BASE_URL/api/events?size=$size"
+  printf 'GET /api/events?size=%-4s max statements so far: %s\n' "$size" "$(max_for /api/events)"
+done
+
+event_id=$(api "$BASE_URL/api/events?size=1" | jq -r '.content[0].id // empty')
+if [[ -n "$event_id" ]]; then
+  api -o /dev/null "$BASE_URL/api/events/$event_id"
+  printf 'GET /api/events/{id}          max statements: %s\n' "$(max_for '/api/events/{id}')"
+  uris=(/api/events '/api/events/{id}')
+else
+  echo "No events to open; checking /api/events only" >&2
+  uris=(/api/events)
+fi
+
+for uri in "${uris[@]}"; do
+  if ! max=$(max_for "$uri"); then
+    status=1
+    continue
+  fi
+  if (( ${max%.*} > MAX_STATEMENTS )); then
+    echo "FAIL: $uri ran ${max%.*} statements in one request (budget $MAX_STATEMENTS)" >&2
+    status=1
+  fi
+done
+exit $status
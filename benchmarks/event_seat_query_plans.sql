@@ -0,0 +1,116 @@
+-- Query-plan benchmark for the event_seats hot paths (Flyway V3 indexes).
+--
+-- Seeds one 100k-seat event (four tiers, ~30% of seats taken) next to 400k seats of other events,
+-- then runs EXPLAIN ANALYZE for each hot query twice: with the pre-V3 indexes only, and with the V3 ones.
+-- Everything runs in one transaction that is rolled back, so it is safe against a dev database that is
+-- already migrated:
+--
+--   psql "$SPRING_DATASOURCE_URL" -f benchmarks/event_seat_query_plans.sql > plans.txt
+--
+-- Expect sequential scans (or bitmap scans over idx_event_seat_status) in the first pass and index /
+-- index-only scans on idx_event_seat_event_tier_status and idx_event_seat_available in the second.
+
+\set ON_ERROR_STOP on
+\timing on
+
+begin;
+
+-- ---------- fixture ----------
+
+insert into event_venues (id, type_code, type_name, venue_code, venue_name, address,
+                          total_events, live_events, events_upcoming, created_at)
+values ('00000000-0000-0000-0000-00000000b001', '100', 'Arena', 'BENCH-VENUE', 'Benchmark Arena', 'n/a',
+        0, 0, 0, now());
+
+insert into seat_layout (id, type_code, type_name, venue_id, layout_name, total_capacity, is_active, created_at)
+values ('00000000-0000-0000-0000-00000000b002', '220', 'Freestyle',
+        '00000000-0000-0000-0000-00000000b001', 'Benchmark layout', 500000, true, now());
+
+-- five events: the measured one plus four neighbours so per-event filters actually have to filter
+insert into events (id, type_code, type_name, event_code, event_name, event_start, event_end, venue_id,
+                    seat_layout_id, event_manager, event_operator1, event_checker1, created_at, edited_at, version)
+select ('00000000-0000-0000-0000-0000000e000' || n)::uuid, '100', 'Concert', 'BENCH-' || n, 'Benchmark ' || n,
+       now() + interval '30 days', now() + interval '30 days 3 hours',
+       '00000000-0000-0000-0000-00000000b001', '00000000-0000-0000-0000-00000000b002',
+       gen_random_uuid(), gen_random_uuid(), gen_random_uuid(), now(), now(), 0
+from generate_series(1, 5) n;
+
+insert into seats (id, seat_layout_id, seat_row, seat_number, label, type)
+select gen_random_uuid(), '00000000-0000-0000-0000-00000000b002',
+       'T' || (i % 4), i, 'B-' || i, 'GENERAL'
+from generate_series(1, 500000) i;
+
+insert into event_seats (id, event_id, seat_id, status, tier_code, price, created_at, updated_at)
+select gen_random_uuid(),
+       ('00000000-0000-0000-0000-0000000e000' || (1 + (rn - 1) / 100000))::uuid,
+       s.id,
+       case when rn % 10 < 2 then 'SOLD' when rn % 10 = 2 then 'RESERVED' when rn % 50 = 3 then 'BLOCKED'
+            else 'AVAILABLE' end,
+       s.seat_row, 50.00,
+       now() - (rn || ' seconds')::interval, now()
+from (select id, seat_row, row_number() over (order by seat_number) rn from seats
+      where seat_layout_id = '00000000-0000-0000-0000-00000000b002') s;
+
+-- ---------- pass 1: pre-V3 indexes ----------
+
+drop index if exists idx_event_seat_event_tier_status;
+drop index if exists idx_event_seat_available;
+create index if not exists idx_event_seat_status on event_seats (status);
+analyze event_seats;
+
+\echo '=== pass 1: findAvailableSeats (first 10 free seats of a tier)'
+explain (analyze, buffers, costs off)
+select es.id from event_seats es
+where es.event_id = '00000000-0000-0000-0000-0000000e0001' and es.tier_code = 'T1' and es.status = 'AVAILABLE'
+order by es.created_at
+limit 10;
+
+\echo '=== pass 1: countByEventAndTierAndStatuses'
+explain (analyze, buffers, costs off)
+select count(*) from event_seats es
+where es.event_id = '00000000-0000-0000-0000-0000000e0001' and es.tier_code = 'T1'
+  and es.status in ('RESERVED', 'BLOCKED');
+
+\echo '=== pass 1: aggregateSeatStatus'
+explain (analyze, buffers, costs off)
+select es.status, count(*) from event_seats es
+where es.event_id = '00000000-0000-0000-0000-0000000e0001'
+group by es.status;
+
+\echo '=== pass 1: findByEventId'
+explain (analyze, buffers, costs off)
+select es.*, s.* from event_seats es join seats s on s.id = es.seat_id
+where es.event_id = '00000000-0000-0000-0000-0000000e0001';
+
+-- ---------- pass 2: V3 indexes ----------
+
+drop index if exists idx_event_seat_status;
+create index idx_event_seat_event_tier_status on event_seats (event_id, tier_code, status);
+create index idx_event_seat_available on event_seats (event_id, tier_code, created_at) where status = 'AVAILABLE';
+analyze event_seats;
+
+\echo '=== pass 2: findAvailableSeats (first 10 free seats of a tier)'
+explain (analyze, buffers, costs off)
+select es.id from event_seats es
+where es.event_id = '00000000-0000-0000-0000-0000000e0001' and es.tier_code = 'T1' and es.status = 'AVAILABLE'
+order by es.created_at
+limit 10;
+
+\echo '=== pass 2: countByEventAndTierAndStatuses'
+explain (analyze, buffers, costs off)
+select count(*) from event_seats es
+where es.event_id = '00000000-0000-0000-0000-0000000e0001' and es.tier_code = 'T1'
+  and es.status in ('RESERVED', 'BLOCKED');
+
+\echo '=== pass 2: aggregateSeatStatus'
+explain (analyze, buffers, costs off)
+select es.status, count(*) from event_seats es
+where es.event_id = '00000000-0000-0000-0000-0000000e0001'
+group by es.status;
+
+\echo '=== pass 2: findByEventId'
+explain (analyze, buffers, costs off)
+select es.*, s.* from event_seats es join seats s on s.id = es.seat_id
+where es.event_id = '00000000-0000-0000-0000-0000000e0001';
+
+rollback;
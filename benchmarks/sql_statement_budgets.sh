@@ -0,0 +1,56 @@
+#!/usr/bin/env bash
+# Checks the hold and ticket read endpoints against their @SqlStatementBudget.
+#
+# Walks the holds and tickets of one event with growing page sizes and opens a single hold. Then it reads
+# http.server.requests.sql.budget.exceeded, which the app increments whenever a request runs more
+# statements than its handler's budget. The check fails if any request went over. Running the app with
+# APP_SQL_STATEMENT_BUDGET_FAIL_ON_EXCEED=true also turns every overrun into a failed request.
+#
+#   BASE_URL=http://localhost:8080 TOKEN=<jwt> EVENT_ID=<uuid> benchmarks/sql_statement_budgets.sh
+#
+# TOKEN is an access token from /api/auth/signin; the API and /actuator/metrics both need it. Only a 404
+# from the metric means "nothing exceeded"; any other error fails the check.
+#
+# Needs curl and jq, and an event with some active holds (with seats and discounts) and tickets.
+set -euo pipefail
+
+BASE_URL=${BASE_URL:-http://localhost:8080}
+TOKEN=${TOKEN:?set TOKEN to an access token from /api/auth/signin}
+EVENT_ID=${EVENT_ID:?set EVENT_ID to an event with holds and tickets}
+EXCEEDED="$BASE_URL/actuator/metrics/http.server.requests.sql.budget.exceeded"
+
+api() {
+  curl -fsS -H "Authorization: Bearer $TOKEN" "$@"
+}
+
+for limit in 1 20 100; do
+  api -o /dev/null "$BASE_URL/api/holds/events/$EVENT_ID?limit=$limit"
+  api -o /dev/null "$BASE_URL/api/tickets?eventId=$EVENT_ID&limit=$limit"
+done
+
+hold_id=$(api "$BASE_URL/api/holds/events/$EVENT_ID?limit=1" | jq -r '.items[0].id // empty')
+if [[ -n "$hold_id" ]]; then
+  api -o /dev/null "$BASE_URL/api/holds/$hold_id"
+fi
+
+# The counter only exists once some request has exceeded its budget
+body=$(mktemp)
+trap 'rm -f "$body"' EXIT
+code=$(curl -sS -o "$body" -w '%{http_code}' -H "Authorization: Bearer $TOKEN" "$EXCEEDED")
+case "$code" in
+  404)
+    echo "OK: no request exceeded its SQL statement budget"
+    exit 0
+    ;;
+  200) ;;
+  *)
+    echo "FAIL: could not read $EXCEEDED (HTTP $code)" >&2
+    exit 1
+    ;;
+esac
+echo "FAIL: requests over their SQL statement budget:" >&2
+for uri in $(jq -r '.availableTags[] | select(.tag == "uri") | .values[]' "$body"); do
+  count=$(api -G "$EXCEEDED" --data-urlencode "tag=uri:$uri" | jq -r '.measurements[0].value')
+  echo "  $uri: $count" >&2
+done
+exit 1
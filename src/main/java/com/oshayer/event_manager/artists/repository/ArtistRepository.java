@@ -1,11 +1,33 @@
 package com.oshayer.event_manager.artists.repository;
 
+import com.oshayer.event_manager.artists.dto.ArtistResponse;
 import com.oshayer.event_manager.artists.entity.ArtistEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface ArtistRepository extends JpaRepository<ArtistEntity, UUID> {
     Optional<ArtistEntity> findByName(String name);
+
+    /**
+     * Keyset page of artists straight into response DTOs, optionally filtered by a lower-case name pattern.
+     * Rows come after ({@code descending}: before) the cursor row in (name, id) order; the pageable must sort
+     * by name then id in the same direction.
+     */
+    @Query("""
+        select new com.oshayer.event_manager.artists.dto.ArtistResponse(
+            a.id, a.name, a.description, a.email, a.mobile, a.address,
+            a.facebookLink, a.instagramLink, a.youtubeLink, a.websiteLink, a.imageUrl)
+        from ArtistEntity a
+        where (:pattern is null or lower(a.name) like :pattern)
+          and (:afterId is null
+               or (:descending = false and (a.name > :afterName or (a.name = :afterName and a.id > :afterId)))
+               or (:descending = true and (a.name < :afterName or (a.name = :afterName and a.id < :afterId))))
+    """)
+    List<ArtistResponse> findPage(String pattern, String afterName, UUID afterId, boolean descending,
+                                  Pageable pageable);
 }
@@ -1,13 +1,14 @@
 package com.oshayer.event_manager.artists.service;
 
 import com.oshayer.event_manager.artists.dto.*;
+import com.oshayer.event_manager.shared.web.CursorPage;
+import org.springframework.data.domain.Sort;
 
-import java.util.List;
 import java.util.UUID;
 
 public interface ArtistService {
     ArtistResponse create(ArtistCreateRequest request);
-    List<ArtistResponse> getAll();
+    CursorPage<ArtistResponse> list(String query, String cursor, Integer limit, Sort.Direction direction);
     ArtistResponse getById(UUID id);
     ArtistResponse update(UUID id, ArtistUpdateRequest request);
     void delete(UUID id);
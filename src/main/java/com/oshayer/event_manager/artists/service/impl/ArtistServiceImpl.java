@@ -4,21 +4,26 @@ import com.oshayer.event_manager.artists.dto.*;
 import com.oshayer.event_manager.artists.entity.ArtistEntity;
 import com.oshayer.event_manager.artists.repository.ArtistRepository;
 import com.oshayer.event_manager.artists.service.ArtistService;
+import com.oshayer.event_manager.shared.cache.ReferenceDataCache;
+import com.oshayer.event_manager.shared.web.CursorPage;
+import com.oshayer.event_manager.shared.web.KeysetCursor;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class ArtistServiceImpl implements ArtistService {
 
     private final ArtistRepository repository;
+    private final ReferenceDataCache referenceDataCache;
 
-    public ArtistServiceImpl(ArtistRepository repository) {
+    public ArtistServiceImpl(ArtistRepository repository, ReferenceDataCache referenceDataCache) {
         this.repository = repository;
+        this.referenceDataCache = referenceDataCache;
     }
 
     @Override
@@ -40,8 +45,15 @@ public class ArtistServiceImpl implements ArtistService {
     }
 
     @Override
-    public List<ArtistResponse> getAll() {
-        return repository.findAll().stream().map(this::toResponse).collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<ArtistResponse> list(String query, String cursor, Integer limit, Sort.Direction direction) {
+        int size = CursorPage.limit(limit);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<ArtistResponse> rows = repository.findPage(
+                CursorPage.containsPattern(query),
+                after != null ? after.key() : null, after != null ? after.id() : null,
+                direction.isDescending(), CursorPage.fetch(size, Sort.by(direction, "name", "id")));
+        return CursorPage.of(rows, size, r -> new KeysetCursor(r.getName(), r.getId()));
     }
 
     @Override
@@ -67,7 +79,9 @@ public class ArtistServiceImpl implements ArtistService {
         if (request.getWebsiteLink() != null) existing.setWebsiteLink(request.getWebsiteLink());
         if (request.getImageUrl() != null) existing.setImageUrl(request.getImageUrl());
 
-        return toResponse(repository.save(existing));
+        ArtistEntity updated = repository.save(existing);
+        referenceDataCache.evictAfterCommit(ArtistEntity.class, id);
+        return toResponse(updated);
     }
 
     @Override
@@ -76,6 +90,7 @@ public class ArtistServiceImpl implements ArtistService {
             throw new RuntimeException("Artist not found with id: " + id);
         }
         repository.deleteById(id);
+        referenceDataCache.evictAfterCommit(ArtistEntity.class, id);
     }
 
     private ArtistResponse toResponse(ArtistEntity e) {
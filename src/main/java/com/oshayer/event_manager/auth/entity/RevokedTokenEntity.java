@@ -0,0 +1,35 @@
+package com.oshayer.event_manager.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+@Entity
+@Table(
+        name = "revoked_tokens",
+        indexes = {
+                @Index(name = "idx_revoked_tokens_revoked_at", columnList = "revoked_at"),
+                @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at")
+        }
+)
+public class RevokedTokenEntity {
+
+    // the token's jti claim
+    @Id
+    @Column(name = "jti")
+    private UUID jti;
+
+    @Column(name = "user_id")
+    private UUID userId;
+
+    // when the token expires on its own; the row is useless after that
+    @Column(name = "expires_at", nullable = false)
+    private OffsetDateTime expiresAt;
+
+    // set by the database (see RevokedTokenRepository.insertIfAbsent)
+    @Column(name = "revoked_at", nullable = false, insertable = false, updatable = false)
+    private OffsetDateTime revokedAt;
+}
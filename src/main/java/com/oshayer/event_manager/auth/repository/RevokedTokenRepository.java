@@ -0,0 +1,46 @@
+package com.oshayer.event_manager.auth.repository;
+
+import com.oshayer.event_manager.auth.entity.RevokedTokenEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedTokenEntity, UUID> {
+
+    /** Revoking twice is a no-op. revoked_at takes the database clock, which every node's poll compares against. */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "revoked_tokens"))
+    @Query(value = """
+        insert into revoked_tokens (jti, user_id, expires_at, revoked_at)
+        values (:jti, :userId, :expiresAt, now())
+        on conflict (jti) do nothing
+    """, nativeQuery = true)
+    int insertIfAbsent(UUID jti, UUID userId, OffsetDateTime expiresAt);
+
+    /** Revocations recorded after {@code since} for tokens that have not expired yet, oldest first. */
+    @Query("""
+        select t.jti as jti, t.expiresAt as expiresAt, t.revokedAt as revokedAt
+        from RevokedTokenEntity t
+        where t.revokedAt > :since
+          and t.expiresAt > :now
+        order by t.revokedAt
+    """)
+    List<RevokedTokenView> findRevokedSince(OffsetDateTime since, OffsetDateTime now);
+
+    @Modifying
+    @Query("delete from RevokedTokenEntity t where t.expiresAt <= :now")
+    int deleteExpired(OffsetDateTime now);
+
+    interface RevokedTokenView {
+        UUID getJti();
+        OffsetDateTime getExpiresAt();
+        OffsetDateTime getRevokedAt();
+    }
+}
@@ -0,0 +1,28 @@
+package com.oshayer.event_manager.auth.security;
+
+import com.oshayer.event_manager.users.entity.EnumUserRole;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.security.Principal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Principal of a JWT-authenticated request, built from the token's claims alone. Code that needs the full
+ * {@code UserEntity} loads it by {@link #id()}. {@code tokenId}, {@code issuedAt} and {@code expiresAt} describe
+ * the token itself, for revocation.
+ */
+public record AuthenticatedUser(UUID id, String email, EnumUserRole role, UUID organizationId,
+                                UUID tokenId, Instant issuedAt, Instant expiresAt) implements Principal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    public List<GrantedAuthority> authorities() {
+        return List.of(new SimpleGrantedAuthority(role.name()));
+    }
+}
@@ -5,6 +5,7 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -13,12 +14,17 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
+/**
+ * Authenticates from the bearer token's claims: one signature check, one probe of the in-memory revocation list,
+ * and no user query unless the user's entry in {@link UserAuthStateCache} has expired.
+ */
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final CustomUserDetailsService customUserDetailsService;
+    private final TokenRevocationList tokenRevocationList;
+    private final UserAuthStateCache userAuthStateCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -26,35 +32,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     FilterChain filterChain)
             throws ServletException, IOException {
 
-        String header = request.getHeader("Authorization");
-        String token = null;
-        String email = null;
-
-
-
-        if (header != null && header.startsWith("Bearer ")) {
-            token = header.substring(7);
-            System.out.println("JWT token received: " + token);
-
-            email = jwtTokenProvider.getEmailFromJwt(token);
-            System.out.println("Email from JWT: " + email);
-
-        }
-
-        if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            if (jwtTokenProvider.validateToken(token)) {
-                System.out.println("Token is valid. Loading user...");
-
-                var userDetails = customUserDetailsService.loadUserByUsername(email);
-                System.out.println("User found: " + userDetails.getUsername());
-                System.out.println("Authorities: " + userDetails.getAuthorities());
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                authentication.setDetails(
-                        new WebAuthenticationDetailsSource().buildDetails(request)
-                );
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-            }
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+
+        if (header != null && header.startsWith("Bearer ")
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            jwtTokenProvider.parse(header.substring(7))
+                    .filter(user -> !tokenRevocationList.isRevoked(user.tokenId()))
+                    .filter(userAuthStateCache::isCurrent)
+                    .ifPresent(user -> {
+                        UsernamePasswordAuthenticationToken authentication =
+                                new UsernamePasswordAuthenticationToken(user, null, user.authorities());
+                        authentication.setDetails(
+                                new WebAuthenticationDetailsSource().buildDetails(request)
+                        );
+                        SecurityContextHolder.getContext().setAuthentication(authentication);
+                    });
         }
 
         filterChain.doFilter(request, response);
@@ -1,40 +1,75 @@
 package com.oshayer.event_manager.auth.security;
 
+import com.oshayer.event_manager.users.entity.EnumUserRole;
+import com.oshayer.event_manager.users.entity.UserEntity;
 import io.jsonwebtoken.*;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
 @Component
 public class JwtTokenProvider {
 
-    @Value("${app.jwtSecret}")
-    private String jwtSecret;
+    private static final String CLAIM_USER_ID = "uid";
+    private static final String CLAIM_ROLE = "role";
+    private static final String CLAIM_ORGANIZATION_ID = "org";
 
-    @Value("${app.jwtExpirationMs}")
-    private int jwtExpirationMs;
+    // Built once instead of on every call; the parser is immutable and thread-safe
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final long jwtExpirationMs;
 
-    public String generateToken(String email) {
-        return Jwts.builder()
-                .setSubject(email)
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + jwtExpirationMs))
-                .signWith(io.jsonwebtoken.SignatureAlgorithm.HS512, jwtSecret)
-                .compact();
+    public JwtTokenProvider(@Value("${app.jwtSecret}") String jwtSecret,
+                            @Value("${app.jwtExpirationMs}") long jwtExpirationMs) {
+        // jjwt reads a String secret as Base64, so this is the same key the configured secret always produced
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+        this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        this.jwtExpirationMs = jwtExpirationMs;
     }
 
-    public String getEmailFromJwt(String token) {
-        return Jwts.parser().setSigningKey(jwtSecret).parseClaimsJws(token).getBody().getSubject();
+    public String generateToken(UserEntity user) {
+        JwtBuilder builder = Jwts.builder()
+                .setId(UUID.randomUUID().toString())
+                .setSubject(user.getEmail())
+                .claim(CLAIM_USER_ID, user.getId().toString())
+                .claim(CLAIM_ROLE, user.getRole().name())
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + jwtExpirationMs));
+        if (user.getOrganization() != null) {
+            builder.claim(CLAIM_ORGANIZATION_ID, user.getOrganization().getId().toString());
+        }
+        return builder.signWith(signingKey, SignatureAlgorithm.HS512).compact();
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * Verifies the token and reads the principal from its claims in one pass. Empty when the token is invalid,
+     * expired, or was issued before tokens carried the user claims and a jti (those holders simply log in again).
+     */
+    public Optional<AuthenticatedUser> parse(String token) {
         try {
-            Jwts.parser().setSigningKey(jwtSecret).parseClaimsJws(token);
-            return true;
-        } catch (JwtException e) {
-            return false;
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            String userId = claims.get(CLAIM_USER_ID, String.class);
+            String role = claims.get(CLAIM_ROLE, String.class);
+            if (userId == null || role == null || claims.getId() == null || claims.getIssuedAt() == null) {
+                return Optional.empty();
+            }
+            String organizationId = claims.get(CLAIM_ORGANIZATION_ID, String.class);
+            return Optional.of(new AuthenticatedUser(
+                    UUID.fromString(userId),
+                    claims.getSubject(),
+                    EnumUserRole.valueOf(role),
+                    organizationId != null ? UUID.fromString(organizationId) : null,
+                    UUID.fromString(claims.getId()),
+                    claims.getIssuedAt().toInstant(),
+                    claims.getExpiration().toInstant()));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
         }
     }
 }
-
@@ -0,0 +1,130 @@
+package com.oshayer.event_manager.auth.security;
+
+import com.oshayer.event_manager.auth.repository.RevokedTokenRepository;
+import com.oshayer.event_manager.auth.repository.RevokedTokenRepository.RevokedTokenView;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Revoked token ids ({@code jti}), mirrored from {@code revoked_tokens}. A Bloom filter answers "not revoked" for
+ * almost every request with one in-memory probe; only its rare positives consult the exact set. Other nodes'
+ * revocations arrive through an incremental poll on {@code revoked_at}, which re-reads a short overlap so rows
+ * that committed late are not skipped.
+ */
+@Slf4j
+@Component
+public class TokenRevocationList {
+
+    private static final OffsetDateTime BEGINNING = Instant.EPOCH.atOffset(ZoneOffset.UTC);
+
+    private final RevokedTokenRepository repository;
+    private final TransactionTemplate transaction;
+    private final int minCapacity;
+    private final double falsePositiveRate;
+    private final Duration pollOverlap;
+
+    // jti -> when the token expires on its own
+    private final Map<UUID, Instant> revoked = new ConcurrentHashMap<>();
+    private volatile UuidBloomFilter filter;
+    private volatile OffsetDateTime watermark = BEGINNING;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    public TokenRevocationList(RevokedTokenRepository repository,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.auth.revocation.bloom.min-capacity:10000}") int minCapacity,
+                               @Value("${app.auth.revocation.bloom.false-positive-rate:0.001}") double falsePositiveRate,
+                               @Value("${app.auth.revocation.poll-overlap:PT30S}") Duration pollOverlap) {
+        this.repository = repository;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.minCapacity = minCapacity;
+        this.falsePositiveRate = falsePositiveRate;
+        this.pollOverlap = pollOverlap;
+        this.filter = new UuidBloomFilter(minCapacity, falsePositiveRate);
+
+        Gauge.builder("auth.revocation.size", revoked, Map::size)
+                .description("Revoked, not yet expired tokens held in memory")
+                .register(meterRegistry);
+    }
+
+    public boolean isRevoked(UUID jti) {
+        return filter.mightContain(jti) && revoked.containsKey(jti);
+    }
+
+    /** Revokes the token here right away and records it for the other nodes' next poll. */
+    public void revoke(UUID jti, UUID userId, Instant expiresAt) {
+        transaction.executeWithoutResult(tx ->
+                repository.insertIfAbsent(jti, userId, expiresAt.atOffset(ZoneOffset.UTC)));
+        remember(jti, expiresAt);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+        log.info("Loaded {} revoked tokens", revoked.size());
+    }
+
+    @Scheduled(fixedDelayString = "${app.auth.revocation.refresh-ms:1000}")
+    public void refresh() {
+        // the startup load and the first scheduled poll may overlap; a lock rather than synchronized because this
+        // waits on the database
+        refreshLock.lock();
+        try {
+            OffsetDateTime since = watermark == BEGINNING ? BEGINNING : watermark.minus(pollOverlap);
+            List<RevokedTokenView> rows = repository.findRevokedSince(since, OffsetDateTime.now());
+            for (RevokedTokenView row : rows) {
+                remember(row.getJti(), row.getExpiresAt().toInstant());
+                if (row.getRevokedAt().isAfter(watermark)) {
+                    watermark = row.getRevokedAt();
+                }
+            }
+
+            Instant now = Instant.now();
+            boolean pruned = revoked.values().removeIf(expiresAt -> expiresAt.isBefore(now));
+            if (pruned || filter.isOverCapacity()) {
+                rebuild();
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.auth.revocation.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        Integer purged = transaction.execute(tx -> repository.deleteExpired(OffsetDateTime.now()));
+        if (purged != null && purged > 0) {
+            log.debug("Purged {} expired token revocations", purged);
+        }
+    }
+
+    // Guarded with rebuild() so an id added while the filter is being replaced cannot miss the new one
+    private synchronized void remember(UUID jti, Instant expiresAt) {
+        if (revoked.putIfAbsent(jti, expiresAt) == null) {
+            filter.add(jti);
+        }
+    }
+
+    private synchronized void rebuild() {
+        UuidBloomFilter rebuilt = new UuidBloomFilter(Math.max(minCapacity, revoked.size() * 2), falsePositiveRate);
+        revoked.keySet().forEach(rebuilt::add);
+        filter = rebuilt;
+    }
+}
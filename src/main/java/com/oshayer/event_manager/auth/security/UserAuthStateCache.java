@@ -0,0 +1,68 @@
+package com.oshayer.event_manager.auth.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.oshayer.event_manager.users.entity.EnumUserRole;
+import com.oshayer.event_manager.users.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Short-lived, bounded view of the account fields a token depends on. A token is honoured only while its user
+ * exists, is verified, still has the role and organization the token was issued with, and has not invalidated
+ * older tokens (password change or reset); the cache keeps that check off the database for all but one request
+ * per user per TTL, and caps how long a deleted or demoted account keeps working.
+ */
+@Component
+public class UserAuthStateCache {
+
+    private final UserRepository userRepository;
+    private final Cache<UUID, Optional<AuthState>> states;
+
+    public UserAuthStateCache(UserRepository userRepository,
+                              @Value("${app.auth.principal-cache.ttl:PT30S}") Duration ttl,
+                              @Value("${app.auth.principal-cache.max-size:10000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.states = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    public boolean isCurrent(AuthenticatedUser user) {
+        return states.get(user.id(), this::load)
+                .filter(state -> state.emailVerified()
+                        && state.role() == user.role()
+                        && Objects.equals(state.organizationId(), user.organizationId())
+                        && issuedAfterCutoff(user, state))
+                .isPresent();
+    }
+
+    /** Forgets the user right away (account deleted, password changed) instead of waiting for the TTL. */
+    public void evict(UUID userId) {
+        states.invalidate(userId);
+    }
+
+    private Optional<AuthState> load(UUID userId) {
+        return userRepository.findAuthStateById(userId)
+                .map(view -> new AuthState(Boolean.TRUE.equals(view.getEmailVerified()), view.getRole(),
+                        view.getOrganizationId(),
+                        view.getTokensValidAfter() != null ? view.getTokensValidAfter().toInstant() : null));
+    }
+
+    private static boolean issuedAfterCutoff(AuthenticatedUser user, AuthState state) {
+        // iat has whole seconds only
+        return state.tokensValidAfter() == null
+                || !user.issuedAt().isBefore(state.tokensValidAfter().truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    private record AuthState(boolean emailVerified, EnumUserRole role, UUID organizationId,
+                             Instant tokensValidAfter) {}
+}
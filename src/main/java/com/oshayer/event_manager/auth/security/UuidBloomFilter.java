@@ -0,0 +1,64 @@
+package com.oshayer.event_manager.auth.security;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size Bloom filter over UUIDs. {@link #mightContain} never returns false for an added id; it returns true
+ * for an absent one with roughly the configured probability while no more than {@code capacity} ids were added.
+ * Adds and probes are lock-free; the filter cannot remove, so the owner rebuilds it when entries expire.
+ */
+final class UuidBloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+    private final int capacity;
+    private final AtomicInteger added = new AtomicInteger();
+
+    UuidBloomFilter(int capacity, double falsePositiveRate) {
+        this.capacity = Math.max(1, capacity);
+        double ln2 = Math.log(2);
+        long bits = (long) Math.ceil(-this.capacity * Math.log(falsePositiveRate) / (ln2 * ln2));
+        int wordCount = (int) Math.max(1, (bits + 63) / 64);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = wordCount * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / this.capacity * ln2));
+    }
+
+    void add(UUID id) {
+        long h1 = mix(id.getMostSignificantBits());
+        long h2 = mix(id.getLeastSignificantBits()) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            long mask = 1L << bit;
+            words.accumulateAndGet((int) (bit >>> 6), mask, (word, m) -> word | m);
+        }
+        added.incrementAndGet();
+    }
+
+    boolean mightContain(UUID id) {
+        long h1 = mix(id.getMostSignificantBits());
+        long h2 = mix(id.getLeastSignificantBits()) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** True once more ids were added than the filter was sized for, so its false-positive rate is climbing. */
+    boolean isOverCapacity() {
+        return added.get() > capacity;
+    }
+
+    // SplitMix64 finalizer; jti values are random already, this only guards against ones that are not
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
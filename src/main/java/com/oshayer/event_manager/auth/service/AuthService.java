@@ -7,6 +7,7 @@ public interface AuthService {
     JwtResponse login(LoginRequest request);
     void verifyEmail(String token);
     void changePassword(ChangePasswordRequest request);
+    void logout();
     void forgotPassword(ForgotPasswordRequest request);
     void resetPassword(ResetPasswordRequest request);
 
@@ -1,8 +1,10 @@
 package com.oshayer.event_manager.auth.service.impl;
 
 import com.oshayer.event_manager.auth.dto.*;
-import com.oshayer.event_manager.auth.security.CustomUserDetails;
+import com.oshayer.event_manager.auth.security.AuthenticatedUser;
 import com.oshayer.event_manager.auth.security.JwtTokenProvider;
+import com.oshayer.event_manager.auth.security.TokenRevocationList;
+import com.oshayer.event_manager.auth.security.UserAuthStateCache;
 import com.oshayer.event_manager.auth.service.AuthService;
 import com.oshayer.event_manager.users.entity.EnumUserRole;
 import com.oshayer.event_manager.users.entity.UserEntity;
@@ -15,8 +17,10 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.time.OffsetDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
@@ -30,8 +34,12 @@ public class AuthServiceImpl implements AuthService {
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
     private final EmailService emailService;
+    private final TokenRevocationList tokenRevocationList;
+    private final UserAuthStateCache userAuthStateCache;
 
+    // The verification email is queued in the outbox with the user row, so both commit or neither does
     @Override
+    @Transactional
     public void signup(SignupRequest request) {
         if (userRepository.existsByEmail(request.getEmail())) {
             throw new RuntimeException("Email already in use");
@@ -72,7 +80,7 @@ public class AuthServiceImpl implements AuthService {
             throw new RuntimeException("Email not verified");
         }
 
-        String token = jwtTokenProvider.generateToken(user.getEmail());
+        String token = jwtTokenProvider.generateToken(user);
         return JwtResponse.builder().token(token).build();
     }
 
@@ -93,25 +101,35 @@ public class AuthServiceImpl implements AuthService {
 
     @Override
     public void changePassword(ChangePasswordRequest request) {
-        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-
-        if (!(principal instanceof CustomUserDetails customUserDetails)) {
-            throw new RuntimeException("No authenticated user found");
-        }
-
-        UserEntity user = customUserDetails.getUser();
+        AuthenticatedUser authenticatedUser = currentUser();
+        UserEntity user = userRepository.findById(authenticatedUser.id())
+                .orElseThrow(() -> new RuntimeException("No authenticated user found"));
 
         // Verify current password
         if (!passwordEncoder.matches(request.getCurrentPassword(), user.getPasswordHash())) {
             throw new RuntimeException("Current password is incorrect");
         }
 
-        // Set new password
+        // Set new password; every token issued so far stops working, this one immediately
         user.setPasswordHash(passwordEncoder.encode(request.getNewPassword()));
+        user.setTokensValidAfter(OffsetDateTime.now());
         userRepository.save(user);
+        revokeCurrentToken(authenticatedUser);
+        userAuthStateCache.evict(user.getId());
+    }
+
+    @Override
+    public void logout() {
+        AuthenticatedUser authenticatedUser = currentUser();
+        revokeCurrentToken(authenticatedUser);
+        userRepository.findById(authenticatedUser.id()).ifPresent(user -> {
+            user.setLastLogoutAt(OffsetDateTime.now());
+            userRepository.save(user);
+        });
     }
 
     @Override
+    @Transactional
     public void forgotPassword(ForgotPasswordRequest request) {
         UserEntity user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new RuntimeException("No user found with this email"));
@@ -137,7 +155,21 @@ public class AuthServiceImpl implements AuthService {
         user.setPasswordHash(passwordEncoder.encode(request.getNewPassword()));
         user.setResetPasswordToken(null);
         user.setResetPasswordExpiry(null);
+        user.setTokensValidAfter(OffsetDateTime.now());
         userRepository.save(user);
+        userAuthStateCache.evict(user.getId());
+    }
+
+    private AuthenticatedUser currentUser() {
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        if (!(principal instanceof AuthenticatedUser authenticatedUser)) {
+            throw new RuntimeException("No authenticated user found");
+        }
+        return authenticatedUser;
+    }
+
+    private void revokeCurrentToken(AuthenticatedUser authenticatedUser) {
+        tokenRevocationList.revoke(authenticatedUser.tokenId(), authenticatedUser.id(), authenticatedUser.expiresAt());
     }
 
 
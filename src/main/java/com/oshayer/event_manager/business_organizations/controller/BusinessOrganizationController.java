@@ -2,11 +2,12 @@ package com.oshayer.event_manager.business_organizations.controller;
 
 import com.oshayer.event_manager.business_organizations.dto.*;
 import com.oshayer.event_manager.business_organizations.service.BusinessOrganizationService;
+import com.oshayer.event_manager.shared.web.CursorPage;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -26,8 +27,12 @@ public class BusinessOrganizationController {
     }
 
     @GetMapping
-    public ResponseEntity<List<BusinessOrganizationResponse>> getAll() {
-        return ResponseEntity.ok(service.getAll());
+    public ResponseEntity<CursorPage<BusinessOrganizationResponse>> list(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "asc") String direction) {
+        return ResponseEntity.ok(service.list(q, cursor, limit, Sort.Direction.fromString(direction)));
     }
 
     @GetMapping("/{id}")
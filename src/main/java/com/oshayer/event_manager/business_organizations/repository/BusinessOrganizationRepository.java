@@ -1,11 +1,32 @@
 package com.oshayer.event_manager.business_organizations.repository;
 
+import com.oshayer.event_manager.business_organizations.dto.BusinessOrganizationResponse;
 import com.oshayer.event_manager.business_organizations.entity.BusinessOrganizationEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface BusinessOrganizationRepository extends JpaRepository<BusinessOrganizationEntity, UUID> {
     Optional<BusinessOrganizationEntity> findByName(String name);
+
+    /**
+     * Keyset page of organizations straight into response DTOs, optionally filtered by a lower-case name
+     * pattern. Paging works as in {@code ArtistRepository.findPage}.
+     */
+    @Query("""
+        select new com.oshayer.event_manager.business_organizations.dto.BusinessOrganizationResponse(
+            o.id, o.name, o.description, o.email, o.mobile, o.address,
+            o.facebookLink, o.youtubeLink, o.websiteLink, o.imageUrl)
+        from BusinessOrganizationEntity o
+        where (:pattern is null or lower(o.name) like :pattern)
+          and (:afterId is null
+               or (:descending = false and (o.name > :afterName or (o.name = :afterName and o.id > :afterId)))
+               or (:descending = true and (o.name < :afterName or (o.name = :afterName and o.id < :afterId))))
+    """)
+    List<BusinessOrganizationResponse> findPage(String pattern, String afterName, UUID afterId, boolean descending,
+                                                Pageable pageable);
 }
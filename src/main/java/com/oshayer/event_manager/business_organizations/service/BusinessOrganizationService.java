@@ -3,13 +3,14 @@ package com.oshayer.event_manager.business_organizations.service;
 import com.oshayer.event_manager.business_organizations.dto.BusinessOrganizationCreateRequest;
 import com.oshayer.event_manager.business_organizations.dto.BusinessOrganizationResponse;
 import com.oshayer.event_manager.business_organizations.dto.BusinessOrganizationUpdateRequest;
+import com.oshayer.event_manager.shared.web.CursorPage;
+import org.springframework.data.domain.Sort;
 
-import java.util.List;
 import java.util.UUID;
 
 public interface BusinessOrganizationService {
     BusinessOrganizationResponse create(BusinessOrganizationCreateRequest request);
-    List<BusinessOrganizationResponse> getAll();
+    CursorPage<BusinessOrganizationResponse> list(String query, String cursor, Integer limit, Sort.Direction direction);
     BusinessOrganizationResponse getById(UUID id);
     BusinessOrganizationResponse update(UUID id, BusinessOrganizationUpdateRequest request);
     void delete(UUID id);
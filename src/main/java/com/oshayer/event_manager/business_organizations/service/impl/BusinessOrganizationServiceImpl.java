@@ -4,21 +4,27 @@ import com.oshayer.event_manager.business_organizations.dto.*;
 import com.oshayer.event_manager.business_organizations.entity.BusinessOrganizationEntity;
 import com.oshayer.event_manager.business_organizations.repository.BusinessOrganizationRepository;
 import com.oshayer.event_manager.business_organizations.service.BusinessOrganizationService;
+import com.oshayer.event_manager.shared.cache.ReferenceDataCache;
+import com.oshayer.event_manager.shared.web.CursorPage;
+import com.oshayer.event_manager.shared.web.KeysetCursor;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class BusinessOrganizationServiceImpl implements BusinessOrganizationService {
 
     private final BusinessOrganizationRepository repository;
+    private final ReferenceDataCache referenceDataCache;
 
-    public BusinessOrganizationServiceImpl(BusinessOrganizationRepository repository) {
+    public BusinessOrganizationServiceImpl(BusinessOrganizationRepository repository,
+                                           ReferenceDataCache referenceDataCache) {
         this.repository = repository;
+        this.referenceDataCache = referenceDataCache;
     }
 
     @Override
@@ -40,10 +46,16 @@ public class BusinessOrganizationServiceImpl implements BusinessOrganizationServ
     }
 
     @Override
-    public List<BusinessOrganizationResponse> getAll() {
-        return repository.findAll().stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<BusinessOrganizationResponse> list(String query, String cursor, Integer limit,
+                                                         Sort.Direction direction) {
+        int size = CursorPage.limit(limit);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<BusinessOrganizationResponse> rows = repository.findPage(
+                CursorPage.containsPattern(query),
+                after != null ? after.key() : null, after != null ? after.id() : null,
+                direction.isDescending(), CursorPage.fetch(size, Sort.by(direction, "name", "id")));
+        return CursorPage.of(rows, size, r -> new KeysetCursor(r.getName(), r.getId()));
     }
 
     @Override
@@ -69,6 +81,7 @@ public class BusinessOrganizationServiceImpl implements BusinessOrganizationServ
         if (request.getImageUrl() != null) existing.setImageUrl(request.getImageUrl());
 
         BusinessOrganizationEntity updated = repository.save(existing);
+        referenceDataCache.evictAfterCommit(BusinessOrganizationEntity.class, id);
         return toResponse(updated);
     }
 
@@ -78,6 +91,7 @@ public class BusinessOrganizationServiceImpl implements BusinessOrganizationServ
             throw new RuntimeException("Business Organization not found with id: " + id);
         }
         repository.deleteById(id);
+        referenceDataCache.evictAfterCommit(BusinessOrganizationEntity.class, id);
     }
 
     private BusinessOrganizationResponse toResponse(BusinessOrganizationEntity e) {
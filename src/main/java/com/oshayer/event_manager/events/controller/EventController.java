@@ -1,23 +1,34 @@
 package com.oshayer.event_manager.events.controller;
 
 import com.oshayer.event_manager.events.dto.CreateEventRequest;
+import com.oshayer.event_manager.events.dto.EventListingResponse;
 import com.oshayer.event_manager.events.dto.EventResponse;
+import com.oshayer.event_manager.events.dto.EventSeatMapDelta;
+import com.oshayer.event_manager.events.dto.EventSeatMapGeometry;
 import com.oshayer.event_manager.events.dto.EventSeatMapResponse;
+import com.oshayer.event_manager.events.dto.EventSeatMapStatus;
 import com.oshayer.event_manager.events.dto.EventSeatResponse;
 import com.oshayer.event_manager.events.dto.EventTicketDetailsResponse;
 import com.oshayer.event_manager.events.dto.SeatAssignmentUpdateRequest;
 import com.oshayer.event_manager.events.dto.SeatInventorySyncRequest;
 import com.oshayer.event_manager.events.dto.UpdateEventRequest;
 import com.oshayer.event_manager.events.service.EventService;
+import com.oshayer.event_manager.events.service.SeatMapFeedService;
+import com.oshayer.event_manager.shared.web.ConditionalResponses;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 
@@ -26,7 +37,15 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class EventController {
 
+    // Event pages show tier availability, so shared caches may only serve them briefly
+    private static final CacheControl EVENT_CACHE = CacheControl.maxAge(Duration.ofSeconds(15))
+            .cachePublic()
+            .staleWhileRevalidate(Duration.ofSeconds(30));
+    // Ticket details feed checkout: always revalidate (a 304 is one lookup)
+    private static final CacheControl TICKET_DETAILS_CACHE = CacheControl.noCache().cachePublic();
+
     private final EventService eventService;
+    private final SeatMapFeedService seatMapFeedService;
 
     // CREATE
     @PostMapping
@@ -39,8 +58,9 @@ public class EventController {
 
     // GET (by id)
     @GetMapping("/{id}")
-    public ResponseEntity<EventResponse> get(@PathVariable UUID id) {
-        return ResponseEntity.ok(eventService.get(id));
+    public ResponseEntity<EventResponse> get(@PathVariable UUID id, WebRequest request) {
+        return ConditionalResponses.withETag(request, eventService.getCacheTag(id), EVENT_CACHE,
+                () -> eventService.get(id));
     }
 
     @GetMapping("/{id}/seats")
@@ -53,6 +73,42 @@ public class EventController {
         return ResponseEntity.ok(eventService.getSeatMap(id));
     }
 
+    // Seats changed since a seat-map version (poll with the version from the last response)
+    @GetMapping(value = "/{id}/seat-map", params = "since")
+    public ResponseEntity<EventSeatMapDelta> getSeatMapChanges(@PathVariable UUID id, @RequestParam long since) {
+        return ResponseEntity.ok(seatMapFeedService.changesSince(id, since));
+    }
+
+    // Same changes pushed over Server-Sent Events; reconnecting browsers resume from Last-Event-ID
+    @GetMapping(value = "/{id}/seat-map/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamSeatMap(
+            @PathVariable UUID id,
+            @RequestParam(required = false) Long since,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return seatMapFeedService.subscribe(id, since != null ? since : lastEventId);
+    }
+
+    // Split seat map for large layouts: static geometry plus a 2-bit-per-seat status vector
+    @GetMapping("/{id}/seat-map/geometry")
+    public ResponseEntity<EventSeatMapGeometry> getSeatMapGeometry(@PathVariable UUID id) {
+        return ResponseEntity.ok(seatMapFeedService.geometry(id));
+    }
+
+    @GetMapping("/{id}/seat-map/status")
+    public ResponseEntity<EventSeatMapStatus> getSeatMapStatus(@PathVariable UUID id) {
+        return ResponseEntity.ok(seatMapFeedService.status(id));
+    }
+
+    @GetMapping(value = "/{id}/seat-map/status/packed", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<byte[]> getPackedSeatMapStatus(@PathVariable UUID id) {
+        var packed = seatMapFeedService.packedStatuses(id);
+        return ResponseEntity.ok()
+                .header("X-Seat-Map-Version", Long.toString(packed.version()))
+                .header("X-Seat-Map-Geometry-Version", Long.toString(packed.structureVersion()))
+                .header("X-Seat-Count", Integer.toString(packed.size()))
+                .body(packed.packed());
+    }
+
     @PostMapping("/{id}/seats/sync")
     public ResponseEntity<List<EventSeatResponse>> syncSeatInventory(
             @PathVariable UUID id,
@@ -69,8 +125,9 @@ public class EventController {
 
     // Tickets + assets
     @GetMapping("/{id}/ticket-details")
-    public ResponseEntity<EventTicketDetailsResponse> getTicketDetails(@PathVariable UUID id) {
-        return ResponseEntity.ok(eventService.getTicketDetails(id));
+    public ResponseEntity<EventTicketDetailsResponse> getTicketDetails(@PathVariable UUID id, WebRequest request) {
+        return ConditionalResponses.withETag(request, eventService.getCacheTag(id), TICKET_DETAILS_CACHE,
+                () -> eventService.getTicketDetails(id));
     }
 
     // LIST (paged)
@@ -80,6 +137,13 @@ public class EventController {
         return ResponseEntity.ok(eventService.list(pageable));
     }
 
+    // LIST (paged event cards: venue name + ticket tier aggregates, constant cost per page)
+    @GetMapping("/listing")
+    public ResponseEntity<Page<EventListingResponse>> listSummaries(
+            @PageableDefault(size = 20, sort = "eventStart") Pageable pageable) {
+        return ResponseEntity.ok(eventService.listSummaries(pageable));
+    }
+
     // UPDATE (full/partial via PUT – your UpdateEventRequest is partial-friendly)
     @PutMapping("/{id}")
     public ResponseEntity<EventResponse> update(
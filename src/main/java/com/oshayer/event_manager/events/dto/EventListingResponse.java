@@ -0,0 +1,32 @@
+package com.oshayer.event_manager.events.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+/**
+ * Event card for listings: event identity and schedule, venue name and an aggregate of the visible ticket
+ * tiers. Built by a single query per page; use {@link EventResponse} for the full event.
+ */
+@Data @NoArgsConstructor @AllArgsConstructor @Builder
+public class EventListingResponse {
+    private UUID id;
+
+    private String typeCode;
+    private String typeName;
+    private String eventCode;
+    private String eventName;
+    private ZonedDateTime eventStart;
+    private ZonedDateTime eventEnd;
+
+    private UUID venueId;
+    private String venueName;
+    private UUID seatLayoutId;
+
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+    private Long totalTickets;
+    private Long availableTickets;
+}
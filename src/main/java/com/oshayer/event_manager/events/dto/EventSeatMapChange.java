@@ -0,0 +1,11 @@
+package com.oshayer.event_manager.events.dto;
+
+import com.oshayer.event_manager.events.entity.EventSeatEntity;
+
+import java.util.UUID;
+
+public record EventSeatMapChange(
+        UUID eventSeatId,
+        EventSeatEntity.EventSeatStatus status
+) {
+}
@@ -0,0 +1,17 @@
+package com.oshayer.event_manager.events.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Seat status changes between two seat-map versions. When {@code reset} is true the client's version
+ * is no longer known to the server and it has to reload the full seat map.
+ */
+public record EventSeatMapDelta(
+        UUID eventId,
+        long since,
+        long version,
+        boolean reset,
+        List<EventSeatMapChange> changes
+) {
+}
@@ -0,0 +1,19 @@
+package com.oshayer.event_manager.events.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The parts of the seat map that do not change while seats are sold. The first {@code seatCount} seats
+ * are in seat ordinal order, matching the packed status vector of the same {@code geometryVersion}; any
+ * layout seats not on sale for the event follow them.
+ */
+public record EventSeatMapGeometry(
+        UUID eventId,
+        UUID seatLayoutId,
+        long geometryVersion,
+        int seatCount,
+        SeatLayoutSummaryResponse layout,
+        List<EventSeatMapGeometrySeat> seats
+) {
+}
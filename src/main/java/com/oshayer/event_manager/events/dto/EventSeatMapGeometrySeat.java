@@ -0,0 +1,16 @@
+package com.oshayer.event_manager.events.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record EventSeatMapGeometrySeat(
+        UUID seatId,
+        UUID eventSeatId,
+        String row,
+        Integer number,
+        String label,
+        String type,
+        String tierCode,
+        BigDecimal price
+) {
+}
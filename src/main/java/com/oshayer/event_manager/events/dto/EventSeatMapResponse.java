@@ -5,6 +5,7 @@ import java.util.UUID;
 
 public record EventSeatMapResponse(
         UUID eventId,
+        long version,
         UUID seatLayoutId,
         SeatLayoutSummaryResponse layout,
         List<EventTicketTierResponse> ticketTiers,
@@ -0,0 +1,18 @@
+package com.oshayer.event_manager.events.dto;
+
+import java.util.UUID;
+
+/**
+ * Seat statuses packed two bits per seat in ordinal order (seat {@code i} in byte {@code i / 4} at bit
+ * offset {@code (i % 4) * 2}, value = {@code EventSeatStatus} ordinal), base64 encoded. Only valid
+ * against the geometry with the same {@code geometryVersion}.
+ */
+public record EventSeatMapStatus(
+        UUID eventId,
+        long version,
+        long geometryVersion,
+        int seatCount,
+        String encoding,
+        String statuses
+) {
+}
@@ -19,4 +19,6 @@ public class EventTicketTierResponse {
     private Boolean visible;
     private Integer soldQuantity;
     private Integer usedQuantity;
+    private Integer reservedQuantity;
+    private Integer blockedQuantity;
 }
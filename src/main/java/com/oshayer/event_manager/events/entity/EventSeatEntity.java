@@ -4,6 +4,7 @@ import com.oshayer.event_manager.seat.entity.SeatEntity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
@@ -17,8 +18,9 @@ import java.util.UUID;
         uniqueConstraints = {
                 @UniqueConstraint(name = "uk_event_seat", columnNames = {"event_id", "seat_id"})
         },
+        // Managed by Flyway (V3), together with the partial idx_event_seat_available
         indexes = {
-                @Index(name = "idx_event_seat_status", columnList = "status")
+                @Index(name = "idx_event_seat_event_tier_status", columnList = "event_id, tier_code, status")
         }
 )
 @Getter
@@ -26,6 +28,9 @@ import java.util.UUID;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+// Status is owned by the in-memory seat inventory; only write the columns that actually changed
+// so a tier/price edit never clobbers a status written back in between.
+@DynamicUpdate
 public class EventSeatEntity {
 
     @Id
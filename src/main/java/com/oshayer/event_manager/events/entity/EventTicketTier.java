@@ -3,6 +3,7 @@ package com.oshayer.event_manager.events.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
@@ -18,6 +19,8 @@ import java.util.UUID;
 )
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
+// The seat counters are moved by conditional UPDATEs; only write the columns an edit actually changed
+@DynamicUpdate
 public class EventTicketTier {
 
     @Id
@@ -56,6 +59,15 @@ public class EventTicketTier {
     @Column(name = "used_quantity", nullable = false)
     private Integer usedQuantity = 0;
 
+    // Seats currently RESERVED / BLOCKED in this tier
+    @Builder.Default
+    @Column(name = "reserved_quantity", nullable = false)
+    private Integer reservedQuantity = 0;
+
+    @Builder.Default
+    @Column(name = "blocked_quantity", nullable = false)
+    private Integer blockedQuantity = 0;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private ZonedDateTime createdAt;
@@ -0,0 +1,386 @@
+package com.oshayer.event_manager.events.inventory;
+
+import com.oshayer.event_manager.events.entity.EventSeatEntity.EventSeatStatus;
+import jakarta.persistence.EntityNotFoundException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory seat state for a single event.
+ * <p>
+ * Every seat gets an ordinal (layout order: row, then number) and its status is kept as one byte
+ * in a primitive array. All mutations happen under the instance monitor so multi-seat claims are
+ * all-or-nothing. Nothing here touches the database: the caller persists every change in its own
+ * transaction (claims with a conditional UPDATE) and undoes it here with {@link #restore} on rollback.
+ * <p>
+ * Every status change also bumps a version and is appended to a bounded change log, so seat-map
+ * clients holding a version can be sent just the seats that changed since (see {@link #changesSince(long)}).
+ */
+public final class EventSeatInventory {
+
+    private static final EventSeatStatus[] STATUSES = EventSeatStatus.values();
+    private static final byte AVAILABLE = (byte) EventSeatStatus.AVAILABLE.ordinal();
+    private static final byte RESERVED = (byte) EventSeatStatus.RESERVED.ordinal();
+    private static final int CHANGE_LOG_CAPACITY = 16_384;
+    private static final int BITS_PER_STATUS = 2;
+
+    static {
+        if (STATUSES.length > 1 << BITS_PER_STATUS) {
+            throw new IllegalStateException("Seat statuses no longer fit the packed seat-map encoding");
+        }
+    }
+
+    private final UUID eventId;
+    private final Map<UUID, Integer> ordinalBySeatId = new ConcurrentHashMap<>();
+    private final Map<UUID, Integer> ordinalByEventSeatId = new ConcurrentHashMap<>();
+    // Ordinal changed at version v lives at changeLog[v % capacity]
+    private final int[] changeLog = new int[CHANGE_LOG_CAPACITY];
+
+    private UUID[] eventSeatIds;
+    private UUID[] seatIds;
+    private String[] labels;
+    private String[] tierCodes;
+    private byte[] statuses;
+    private int size;
+    private boolean retired;
+    private long version;
+    // The change log never reaches back past this: clients cannot patch in seats they have not seen
+    private long structureVersion;
+    private volatile long lastUsedMillis = System.currentTimeMillis();
+
+    /**
+     * @param initialVersion version of the freshly loaded state; should be higher than any version handed
+     *                       out for this event before (a reload must not reuse versions of the old log)
+     */
+    public EventSeatInventory(UUID eventId, List<InventorySlot> slots, long initialVersion) {
+        this.eventId = eventId;
+        this.version = initialVersion;
+        this.structureVersion = initialVersion;
+        int capacity = Math.max(slots.size(), 16);
+        this.eventSeatIds = new UUID[capacity];
+        this.seatIds = new UUID[capacity];
+        this.labels = new String[capacity];
+        this.tierCodes = new String[capacity];
+        this.statuses = new byte[capacity];
+        slots.forEach(this::add);
+    }
+
+    public UUID getEventId() {
+        return eventId;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /** Marks the inventory as in use, so idle eviction keeps it loaded. */
+    public void touch() {
+        lastUsedMillis = System.currentTimeMillis();
+    }
+
+    public long lastUsedMillis() {
+        return lastUsedMillis;
+    }
+
+    /**
+     * Claims the given seats (by {@code seats.id}) atomically: either every seat moves from
+     * AVAILABLE to RESERVED or none does. The caller persists the claim.
+     */
+    public synchronized Change claim(Collection<UUID> seatIdsToClaim) {
+        ensureLive();
+        int[] claimed = new int[seatIdsToClaim.size()];
+        int count = 0;
+        for (UUID seatId : seatIdsToClaim) {
+            Integer ordinal = ordinalBySeatId.get(seatId);
+            if (ordinal == null) {
+                revert(claimed, count, AVAILABLE);
+                throw new EntityNotFoundException("Seat with ID " + seatId + " not found for this event");
+            }
+            if (statuses[ordinal] != AVAILABLE) {
+                revert(claimed, count, AVAILABLE);
+                throw new IllegalStateException("Seat " + labels[ordinal] + " is not available.");
+            }
+            statuses[ordinal] = RESERVED;
+            claimed[count++] = ordinal;
+        }
+        return change(claimed, count, AVAILABLE, RESERVED);
+    }
+
+    /**
+     * Claims up to {@code quantity} AVAILABLE seats of the given tier in ordinal order.
+     * The returned change may hold fewer seats than requested when the pool is short.
+     * The caller persists the claim.
+     */
+    public synchronized Change claimByTier(String tierCode, int quantity) {
+        ensureLive();
+        int[] claimed = new int[quantity];
+        int count = 0;
+        for (int ordinal = 0; ordinal < size && count < quantity; ordinal++) {
+            if (statuses[ordinal] == AVAILABLE && tierCode.equals(tierCodes[ordinal])) {
+                statuses[ordinal] = RESERVED;
+                claimed[count++] = ordinal;
+            }
+        }
+        return change(claimed, count, AVAILABLE, RESERVED);
+    }
+
+    /**
+     * Moves the given event seats (by {@code event_seats.id}) to {@code target}, whatever their
+     * current status. Unknown ids are ignored. The caller persists the change.
+     */
+    public synchronized Change transition(Collection<UUID> eventSeatIdsToMove, EventSeatStatus target) {
+        ensureLive();
+        byte next = (byte) target.ordinal();
+        List<UUID> moved = new ArrayList<>(eventSeatIdsToMove.size());
+        List<EventSeatStatus> previous = new ArrayList<>(eventSeatIdsToMove.size());
+        List<String> tiers = new ArrayList<>(eventSeatIdsToMove.size());
+        for (UUID eventSeatId : eventSeatIdsToMove) {
+            Integer ordinal = ordinalByEventSeatId.get(eventSeatId);
+            if (ordinal == null || statuses[ordinal] == next) {
+                continue;
+            }
+            previous.add(STATUSES[statuses[ordinal]]);
+            moved.add(eventSeatId);
+            tiers.add(tierCodes[ordinal]);
+            statuses[ordinal] = next;
+            logChange(ordinal);
+        }
+        return new Change(moved, tiers, previous, target);
+    }
+
+    /**
+     * Undoes a change, but only for seats still in the status the change put them in. Meant for a
+     * change whose transaction rolled back, so the database already has the old statuses.
+     */
+    public synchronized void restore(Change change) {
+        ensureLive();
+        byte applied = (byte) change.target().ordinal();
+        for (int i = 0; i < change.eventSeatIds().size(); i++) {
+            Integer ordinal = ordinalByEventSeatId.get(change.eventSeatIds().get(i));
+            if (ordinal != null && statuses[ordinal] == applied) {
+                statuses[ordinal] = (byte) change.previous().get(i).ordinal();
+                logChange(ordinal);
+            }
+        }
+    }
+
+    /**
+     * Adds seats created after the inventory was loaded. Their status is taken as already persisted.
+     * Clients cannot patch unknown seats into their map, so this starts a new log and every older
+     * version gets a reset.
+     */
+    public synchronized void append(List<InventorySlot> slots) {
+        ensureLive();
+        int before = size;
+        slots.stream()
+                .filter(slot -> !ordinalByEventSeatId.containsKey(slot.eventSeatId()))
+                .forEach(this::add);
+        if (size > before) {
+            structureVersion = ++version;
+        }
+    }
+
+    public synchronized EventSeatStatus statusOf(UUID eventSeatId) {
+        Integer ordinal = ordinalByEventSeatId.get(eventSeatId);
+        return ordinal == null ? null : STATUSES[statuses[ordinal]];
+    }
+
+    public synchronized String tierOf(UUID eventSeatId) {
+        Integer ordinal = ordinalByEventSeatId.get(eventSeatId);
+        return ordinal == null ? null : tierCodes[ordinal];
+    }
+
+    public synchronized long count(String tierCode, Set<EventSeatStatus> wanted) {
+        long count = 0;
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            if (tierCode.equals(tierCodes[ordinal]) && wanted.contains(STATUSES[statuses[ordinal]])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public synchronized long version() {
+        return version;
+    }
+
+    /**
+     * Version at which the current set of seats (and their ordinals) came to be. Changes on reload and
+     * whenever seats are appended; anything keyed on ordinals is stale once it differs.
+     */
+    public synchronized long structureVersion() {
+        return structureVersion;
+    }
+
+    /**
+     * The {@code event_seats.id} of every ordinal, in ordinal order.
+     */
+    public synchronized Ordering ordering() {
+        return new Ordering(structureVersion, List.of(Arrays.copyOf(eventSeatIds, size)));
+    }
+
+    /**
+     * Every status packed into two bits per seat in ordinal order: seat {@code i} sits in byte {@code i / 4}
+     * at bit offset {@code (i % 4) * 2}, with the {@link EventSeatStatus} ordinal as the value.
+     */
+    public synchronized PackedStatuses packedStatuses() {
+        byte[] packed = new byte[(size + 3) / 4];
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            packed[ordinal >> 2] |= (byte) (statuses[ordinal] << ((ordinal & 3) * BITS_PER_STATUS));
+        }
+        return new PackedStatuses(version, structureVersion, size, packed);
+    }
+
+    /**
+     * Point-in-time copy of every seat status keyed by {@code event_seats.id}.
+     */
+    public synchronized Map<UUID, EventSeatStatus> snapshot() {
+        Map<UUID, EventSeatStatus> copy = new HashMap<>(size * 2);
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            copy.put(eventSeatIds[ordinal], STATUSES[statuses[ordinal]]);
+        }
+        return copy;
+    }
+
+    /**
+     * Same as {@link #snapshot()}, together with the version it reflects.
+     */
+    public synchronized Snapshot versionedSnapshot() {
+        return new Snapshot(version, snapshot());
+    }
+
+    /**
+     * Current status of every seat changed after {@code since}, each seat once. Returns a reset when
+     * {@code since} is not covered by the log (too old, from before a reload, or from the future), in
+     * which case the client has to fetch a fresh snapshot.
+     */
+    public synchronized Delta changesSince(long since) {
+        if (since > version || since < structureVersion || version - since > CHANGE_LOG_CAPACITY) {
+            return new Delta(since, version, true, Map.of());
+        }
+        BitSet changed = new BitSet(size);
+        for (long v = since + 1; v <= version; v++) {
+            changed.set(changeLog[(int) (v % CHANGE_LOG_CAPACITY)]);
+        }
+        Map<UUID, EventSeatStatus> changes = new LinkedHashMap<>(changed.cardinality() * 2);
+        for (int ordinal = changed.nextSetBit(0); ordinal >= 0; ordinal = changed.nextSetBit(ordinal + 1)) {
+            changes.put(eventSeatIds[ordinal], STATUSES[statuses[ordinal]]);
+        }
+        return new Delta(since, version, false, changes);
+    }
+
+    /**
+     * Stops accepting mutations. Callers holding a reference get {@link RetiredException} and
+     * are expected to reload.
+     */
+    public synchronized void retire() {
+        retired = true;
+    }
+
+    // -------- helpers --------
+
+    private void add(InventorySlot slot) {
+        if (size == statuses.length) {
+            int capacity = size + (size >> 1) + 1;
+            eventSeatIds = Arrays.copyOf(eventSeatIds, capacity);
+            seatIds = Arrays.copyOf(seatIds, capacity);
+            labels = Arrays.copyOf(labels, capacity);
+            tierCodes = Arrays.copyOf(tierCodes, capacity);
+            statuses = Arrays.copyOf(statuses, capacity);
+        }
+        int ordinal = size++;
+        eventSeatIds[ordinal] = slot.eventSeatId();
+        seatIds[ordinal] = slot.seatId();
+        labels[ordinal] = slot.label();
+        tierCodes[ordinal] = slot.tierCode() != null ? slot.tierCode().intern() : null;
+        statuses[ordinal] = (byte) (slot.status() != null ? slot.status() : EventSeatStatus.AVAILABLE).ordinal();
+        ordinalBySeatId.put(slot.seatId(), ordinal);
+        ordinalByEventSeatId.put(slot.eventSeatId(), ordinal);
+    }
+
+    private void logChange(int ordinal) {
+        changeLog[(int) (++version % CHANGE_LOG_CAPACITY)] = ordinal;
+    }
+
+    private void revert(int[] ordinals, int count, byte previous) {
+        for (int i = 0; i < count; i++) {
+            statuses[ordinals[i]] = previous;
+        }
+    }
+
+    private Change change(int[] ordinals, int count, byte previous, byte next) {
+        List<UUID> ids = new ArrayList<>(count);
+        List<String> tiers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(eventSeatIds[ordinals[i]]);
+            tiers.add(tierCodes[ordinals[i]]);
+            logChange(ordinals[i]);
+        }
+        return new Change(ids, tiers, Collections.nCopies(count, STATUSES[previous]), STATUSES[next]);
+    }
+
+    private void ensureLive() {
+        if (retired) {
+            throw new RetiredException();
+        }
+    }
+
+    /**
+     * Result of a mutation: the affected {@code event_seats.id}s with their tier codes and prior statuses,
+     * and the new status.
+     */
+    public record Change(List<UUID> eventSeatIds, List<String> tierCodes, List<EventSeatStatus> previous,
+                         EventSeatStatus target) {
+        public boolean isEmpty() {
+            return eventSeatIds.isEmpty();
+        }
+    }
+
+    /**
+     * Seat statuses keyed by {@code event_seats.id} as of {@code version}.
+     */
+    public record Snapshot(long version, Map<UUID, EventSeatStatus> statuses) {
+    }
+
+    /**
+     * Seat ordinals as of {@code structureVersion}: {@code eventSeatIds.get(i)} is ordinal {@code i}.
+     */
+    public record Ordering(long structureVersion, List<UUID> eventSeatIds) {
+    }
+
+    /**
+     * Output of {@link #packedStatuses()}; {@code size} seats, {@code packed} holds the 2-bit codes.
+     */
+    public record PackedStatuses(long version, long structureVersion, int size, byte[] packed) {
+    }
+
+    /**
+     * Seats whose status changed between {@code since} and {@code version}, with their status at
+     * {@code version}. When {@code reset} is set the changes are empty and the client must reload.
+     */
+    public record Delta(long since, long version, boolean reset, Map<UUID, EventSeatStatus> changes) {
+        public boolean isEmpty() {
+            return !reset && changes.isEmpty();
+        }
+    }
+
+    /**
+     * Thrown when a mutation hits an inventory that has been evicted.
+     */
+    public static final class RetiredException extends RuntimeException {
+        RetiredException() {
+            super("Seat inventory was evicted", null, false, false);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.oshayer.event_manager.events.inventory;
+
+import com.oshayer.event_manager.events.entity.EventSeatEntity.EventSeatStatus;
+
+import java.util.UUID;
+
+/**
+ * Flat projection of one {@code event_seats} row, used to seed an {@link EventSeatInventory}
+ * without hydrating the seat entities.
+ */
+public record InventorySlot(
+        UUID eventSeatId,
+        UUID seatId,
+        String label,
+        String tierCode,
+        EventSeatStatus status
+) {
+}
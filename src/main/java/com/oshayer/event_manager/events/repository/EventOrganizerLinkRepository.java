@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -13,6 +14,9 @@ public interface EventOrganizerLinkRepository extends JpaRepository<EventOrganiz
 
     List<EventOrganizerLink> findByEventId(UUID eventId);
 
+    // One query for a whole page of events; served by the (event_id, ...) unique index
+    List<EventOrganizerLink> findByEventIdIn(Collection<UUID> eventIds);
+
     boolean existsByEventIdAndOrgId(UUID eventId, UUID orgId);
 
     @Modifying(clearAutomatically = true, flushAutomatically = true)
@@ -1,10 +1,15 @@
 package com.oshayer.event_manager.events.repository;
 
 import com.oshayer.event_manager.events.entity.EventEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.math.BigDecimal;
 import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -30,6 +35,29 @@ public interface EventRepository extends JpaRepository<EventEntity, UUID> {
     """)
     long countCompleted(ZonedDateTime now);
 
+    /** Events that are running now or start by {@code until}. */
+    @Query("""
+        select e.id from EventEntity e
+        where e.eventStart <= :until
+          and (e.eventEnd is null or e.eventEnd >= :now)
+    """)
+    List<UUID> findIdsOpenBy(ZonedDateTime now, ZonedDateTime until);
+
+    /** Events that have ticket tiers but no {@code event_seats} rows at all. */
+    @Query("""
+        select e.id from EventEntity e
+        where exists (select 1 from EventTicketTier t where t.eventId = e.id)
+          and not exists (select 1 from EventSeatEntity s where s.event.id = e.id)
+    """)
+    List<UUID> findIdsWithTiersButNoSeats();
+
+    /** Those of the given events that have already ended. */
+    @Query("""
+        select e.id from EventEntity e
+        where e.id in :ids and e.eventEnd < :now
+    """)
+    List<UUID> findIdsEndedAmong(Collection<UUID> ids, ZonedDateTime now);
+
     @Query("""
         select count(e) from EventEntity e
         where e.venueId = :venueId
@@ -51,4 +79,74 @@ public interface EventRepository extends JpaRepository<EventEntity, UUID> {
           and e.eventEnd < :now
     """)
     long countCompletedByVenue(UUID venueId, ZonedDateTime now);
+
+    /** Image URLs of several events in one query (instead of one lazy collection load per event). */
+    @Query("""
+        select e.id as eventId, i as imageUrl
+        from EventEntity e
+        join e.imageUrls i
+        where e.id in :eventIds
+    """)
+    List<EventImageView> findImageUrls(Collection<UUID> eventIds);
+
+    /**
+     * Digest of everything the event read endpoints render: the event row's version, the edit times of its
+     * venue and seat layout, and the ticket tiers (whose counters move without touching the event row).
+     * Empty when the event does not exist. Backs the ETags of {@code GET /api/events/{id}} and ticket details.
+     */
+    @Query(value = """
+        select md5(concat_ws('|', e.version, v.edited_at, l.edited_at,
+                   (select string_agg(concat_ws(':', t.tier_code, t.version, t.sold_quantity, t.used_quantity,
+                                                t.reserved_quantity, t.blocked_quantity), ',' order by t.tier_code)
+                    from event_ticket_tiers t
+                    where t.event_id = e.id)))
+        from events e
+        left join event_venues v on v.id = e.venue_id
+        left join seat_layout l on l.id = e.seat_layout_id
+        where e.id = :eventId
+    """, nativeQuery = true)
+    Optional<String> findCacheTag(UUID eventId);
+
+    /**
+     * Listing read model: one row per event with its venue name and visible-tier aggregates, so a page costs
+     * one query (plus the count) whatever its size. Sortable by event properties or the aggregate aliases.
+     */
+    @Query(value = """
+        select e.id as id, e.typeCode as typeCode, e.typeName as typeName,
+               e.eventCode as eventCode, e.eventName as eventName,
+               e.eventStart as eventStart, e.eventEnd as eventEnd,
+               e.venueId as venueId, v.venueName as venueName, e.seatLayoutId as seatLayoutId,
+               min(t.price) as minPrice, max(t.price) as maxPrice,
+               coalesce(sum(t.totalQuantity), 0) as totalTickets,
+               coalesce(sum(t.totalQuantity - t.soldQuantity
+                       - coalesce(t.reservedQuantity, 0) - coalesce(t.blockedQuantity, 0)), 0) as availableTickets
+        from EventEntity e
+        left join EventVenue v on v.id = e.venueId
+        left join EventTicketTier t on t.eventId = e.id and t.visible = true
+        group by e.id, e.typeCode, e.typeName, e.eventCode, e.eventName, e.eventStart, e.eventEnd,
+                 e.venueId, v.venueName, e.seatLayoutId
+    """, countQuery = "select count(e) from EventEntity e")
+    Page<EventListingView> findListing(Pageable pageable);
+
+    interface EventListingView {
+        UUID getId();
+        String getTypeCode();
+        String getTypeName();
+        String getEventCode();
+        String getEventName();
+        ZonedDateTime getEventStart();
+        ZonedDateTime getEventEnd();
+        UUID getVenueId();
+        String getVenueName();
+        UUID getSeatLayoutId();
+        BigDecimal getMinPrice();
+        BigDecimal getMaxPrice();
+        Long getTotalTickets();
+        Long getAvailableTickets();
+    }
+
+    interface EventImageView {
+        UUID getEventId();
+        String getImageUrl();
+    }
 }
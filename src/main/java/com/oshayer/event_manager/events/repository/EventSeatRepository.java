@@ -2,11 +2,16 @@ package com.oshayer.event_manager.events.repository;
 
 import com.oshayer.event_manager.events.entity.EventSeatEntity;
 import com.oshayer.event_manager.events.entity.EventSeatEntity.EventSeatStatus;
+import com.oshayer.event_manager.events.inventory.InventorySlot;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Collection;
 import java.util.Optional;
@@ -52,6 +57,82 @@ public interface EventSeatRepository extends JpaRepository<EventSeatEntity, UUID
     """)
     List<EventSeatEntity> findAvailableSeats(UUID eventId, String tierCode, EventSeatStatus status, Pageable pageable);
 
+    @Query("""
+        select es from EventSeatEntity es
+        join fetch es.seat s
+        where es.id in :ids
+    """)
+    List<EventSeatEntity> findAllWithSeatByIdIn(Collection<UUID> ids);
+
+    /**
+     * Lightweight rows used to seed the in-memory seat inventory, in layout order.
+     */
+    @Query("""
+        select new com.oshayer.event_manager.events.inventory.InventorySlot(
+            es.id, s.id, s.label, es.tierCode, es.status
+        )
+        from EventSeatEntity es
+        join es.seat s
+        where es.event.id = :eventId
+        order by s.row asc, s.number asc
+    """)
+    List<InventorySlot> findInventorySlots(UUID eventId);
+
+    /**
+     * Set-based claim: flips only the seats that are still AVAILABLE and returns the ids that were
+     * actually claimed. A short result means another request got there first.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "event_seats"))
+    @Query(value = """
+        update event_seats
+        set status = 'RESERVED', updated_at = now()
+        where event_id = :eventId
+          and seat_id in (:seatIds)
+          and status = 'AVAILABLE'
+        returning id
+    """, nativeQuery = true)
+    List<UUID> claimAvailableBySeatIds(UUID eventId, Collection<UUID> seatIds);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "event_seats"))
+    @Query(value = """
+        update event_seats
+        set status = 'RESERVED', updated_at = now()
+        where id in (:ids)
+          and status = 'AVAILABLE'
+        returning id
+    """, nativeQuery = true)
+    List<UUID> claimAvailableByIds(Collection<UUID> ids);
+
+    /**
+     * Set-based release for the expiry sweeper: every seat of the given holds that is still RESERVED
+     * goes back to AVAILABLE. Returns the released rows so the in-memory inventory can follow.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "event_seats"))
+    @Query(value = """
+        update event_seats es
+        set status = 'AVAILABLE', updated_at = now()
+        from reservation_hold_seats rhs
+        where rhs.event_seat_id = es.id
+          and rhs.hold_id in (:holdIds)
+          and es.status = 'RESERVED'
+        returning es.id as id, es.event_id as eventId, es.tier_code as tierCode
+    """, nativeQuery = true)
+    List<ReleasedSeatView> releaseReservedSeatsOfHolds(Collection<UUID> holdIds);
+
+    @Modifying
+    @Query("""
+        update EventSeatEntity es
+        set es.status = :status, es.updatedAt = :now
+        where es.id in :ids
+    """)
+    int updateStatusByIdIn(Collection<UUID> ids, EventSeatStatus status, OffsetDateTime now);
+
     @Modifying
     void deleteAllByEvent_Id(UUID eventId);
+
+    interface ReleasedSeatView {
+        UUID getId();
+        UUID getEventId();
+        String getTierCode();
+    }
 }
@@ -1,13 +1,52 @@
 package com.oshayer.event_manager.events.repository;
 
 import com.oshayer.event_manager.events.entity.EventTicketTier;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface EventTicketTierRepository extends JpaRepository<EventTicketTier, UUID> {
     List<EventTicketTier> findByEventId(UUID eventId);
+    List<EventTicketTier> findByEventIdIn(Collection<UUID> eventIds);
     void deleteAllByEventId(UUID eventId);
     java.util.Optional<EventTicketTier> findByEventIdAndTierCode(UUID eventId, String tierCode);
+
+    /**
+     * Oversell guard: reserves {@code quantity} units only if the tier still has that many left.
+     * Returns 0 when it does not.
+     * <p>The native updates here declare the table they touch; without that Hibernate treats them as
+     * touching every table and empties all second-level cache regions on each seat transition.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "event_ticket_tiers"))
+    @Query(value = """
+        update event_ticket_tiers
+        set reserved_quantity = reserved_quantity + :quantity
+        where event_id = :eventId
+          and tier_code = :tierCode
+          and total_quantity - sold_quantity - reserved_quantity - blocked_quantity >= :quantity
+    """, nativeQuery = true)
+    int tryReserve(UUID eventId, String tierCode, int quantity);
+
+    /**
+     * Applies signed deltas to the seat counters of one tier, never going below zero.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "event_ticket_tiers"))
+    @Query(value = """
+        update event_ticket_tiers
+        set reserved_quantity = greatest(reserved_quantity + :reserved, 0),
+            sold_quantity = greatest(sold_quantity + :sold, 0),
+            blocked_quantity = greatest(blocked_quantity + :blocked, 0)
+        where event_id = :eventId
+          and tier_code = :tierCode
+    """, nativeQuery = true)
+    int adjustSeatCounters(UUID eventId, String tierCode, int reserved, int sold, int blocked);
 }
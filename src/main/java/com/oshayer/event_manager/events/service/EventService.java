@@ -1,6 +1,7 @@
 package com.oshayer.event_manager.events.service;
 
 import com.oshayer.event_manager.events.dto.CreateEventRequest;
+import com.oshayer.event_manager.events.dto.EventListingResponse;
 import com.oshayer.event_manager.events.dto.EventResponse;
 import com.oshayer.event_manager.events.dto.EventSeatMapResponse;
 import com.oshayer.event_manager.events.dto.EventSeatResponse;
@@ -17,12 +18,15 @@ import java.util.UUID;
 public interface EventService {
     EventResponse create(CreateEventRequest request);
     EventResponse get(UUID id);
+    /** Token that changes whenever the event, its tiers, venue or layout change; used as an ETag. */
+    String getCacheTag(UUID id);
     EventTicketDetailsResponse getTicketDetails(UUID id);
     List<EventSeatResponse> listSeats(UUID id);
     List<EventSeatResponse> syncSeatInventory(UUID id, SeatInventorySyncRequest request);
     EventSeatMapResponse getSeatMap(UUID id);
     List<EventSeatResponse> updateSeatAssignments(UUID id, SeatAssignmentUpdateRequest request);
     Page<EventResponse> list(Pageable pageable); // simple listing; can add filters later
+    Page<EventListingResponse> listSummaries(Pageable pageable); // event cards, one query per page
     EventResponse update(UUID id, UpdateEventRequest request);
     void delete(UUID id);
 }
@@ -0,0 +1,29 @@
+package com.oshayer.event_manager.events.service;
+
+import com.oshayer.event_manager.events.entity.EventEntity;
+import com.oshayer.event_manager.events.entity.EventTicketTier;
+import com.oshayer.event_manager.seat.entity.SeatLayout;
+
+import java.util.List;
+
+/**
+ * Pre-allocates the seat pool of general admission events.
+ * <p>
+ * Each tier gets {@code totalQuantity} {@code event_seats} rows up front, written with JDBC batch inserts, so
+ * reservation holds only ever claim existing rows and never insert inventory themselves.
+ */
+public interface GeneralAdmissionPoolService {
+
+    /**
+     * True when the event sells unnumbered tickets: it has no seat layout, or a freestyle one.
+     */
+    boolean isGeneralAdmission(SeatLayout layout);
+
+    /**
+     * Tops every tier's pool up to its total quantity, creating the freestyle layout if the event has
+     * none yet. Existing rows are kept. Returns the number of seats created.
+     * Serialized per event and per layout with advisory locks, so concurrent callers never number the same
+     * seats twice. Must run inside a read-write transaction.
+     */
+    int allocate(EventEntity event, List<EventTicketTier> tiers);
+}
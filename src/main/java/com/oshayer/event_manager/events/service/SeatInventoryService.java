@@ -0,0 +1,86 @@
+package com.oshayer.event_manager.events.service;
+
+import com.oshayer.event_manager.events.entity.EventSeatEntity.EventSeatStatus;
+import com.oshayer.event_manager.events.inventory.EventSeatInventory;
+import com.oshayer.event_manager.events.inventory.InventorySlot;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * In-process seat status per event. Reads never hit the database once an event is loaded.
+ * <p>
+ * Claims are checked in memory first and then made durable with one conditional UPDATE in the
+ * caller's transaction, so two nodes (or a stale inventory) can never double-book a seat. Other
+ * transitions are written through in the caller's transaction as well, so the database never refuses
+ * a claim for a seat that was already released, and {@code event_seats} always agrees with the tier
+ * counters after a crash.
+ * <p>
+ * Mutations made inside a transaction are undone in memory if that transaction rolls back.
+ * <p>
+ * Every status change is also reflected in the reserved/sold/blocked counters of
+ * {@link com.oshayer.event_manager.events.entity.EventTicketTier}, in the caller's transaction, so tier
+ * availability is a single-row read.
+ */
+public interface SeatInventoryService {
+
+    /**
+     * Claims the given seats ({@code seats.id}) all-or-nothing and returns their {@code event_seats.id}s.
+     * Must run inside a read-write transaction.
+     */
+    List<UUID> claimSeats(UUID eventId, Collection<UUID> seatIds);
+
+    /**
+     * Reserves {@code quantity} units on the tier counter (failing if the tier cannot cover them) and claims
+     * up to that many AVAILABLE seats from the tier's pre-allocated pool. May return fewer seats when the
+     * pool is short, in which case the caller is expected to fail (and roll back the counter).
+     * Must run inside a read-write transaction.
+     */
+    List<UUID> claimByTier(UUID eventId, String tierCode, int quantity);
+
+    /** Moves the given event seats ({@code event_seats.id}) to {@code status}. */
+    void transition(UUID eventId, Collection<UUID> eventSeatIds, EventSeatStatus status);
+
+    /**
+     * Records a status change that was already written to {@code event_seats} by a set-based statement.
+     * Applied once the current transaction commits.
+     */
+    void sync(UUID eventId, Collection<UUID> eventSeatIds, EventSeatStatus status);
+
+    /**
+     * Moves the tier counters of seats whose tier code is being changed ({@code null} when the seat is
+     * being deleted). Call before the rows are changed and {@link #evict(UUID)} afterwards.
+     */
+    void retier(UUID eventId, Map<UUID, String> newTierByEventSeatId);
+
+    EventSeatStatus statusOf(UUID eventId, UUID eventSeatId);
+
+    long countByTier(UUID eventId, String tierCode, Set<EventSeatStatus> statuses);
+
+    /** Current status of every seat of the event keyed by {@code event_seats.id}. */
+    Map<UUID, EventSeatStatus> snapshot(UUID eventId);
+
+    /** Like {@link #snapshot(UUID)}, stamped with the inventory version it reflects. */
+    EventSeatInventory.Snapshot versionedSnapshot(UUID eventId);
+
+    /**
+     * Seats of the event that changed after {@code version}, or a reset when this node no longer (or never)
+     * had that version. Versions are per node and only cover changes made through this service.
+     */
+    EventSeatInventory.Delta changesSince(UUID eventId, long version);
+
+    /** Seat ordinals of the event, as used by {@link #packedStatuses(UUID)}. */
+    EventSeatInventory.Ordering ordering(UUID eventId);
+
+    /** Every seat status of the event, two bits per seat in ordinal order. */
+    EventSeatInventory.PackedStatuses packedStatuses(UUID eventId);
+
+    /** Adds freshly inserted seats (already persisted) once the current transaction commits. */
+    void register(UUID eventId, List<InventorySlot> slots);
+
+    /** Drops the event's inventory once the current transaction commits; it reloads on next use. */
+    void evict(UUID eventId);
+}
@@ -0,0 +1,38 @@
+package com.oshayer.event_manager.events.service;
+
+import com.oshayer.event_manager.events.dto.EventSeatMapDelta;
+import com.oshayer.event_manager.events.dto.EventSeatMapGeometry;
+import com.oshayer.event_manager.events.dto.EventSeatMapStatus;
+import com.oshayer.event_manager.events.inventory.EventSeatInventory;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+/**
+ * Incremental seat-map updates. Clients load the seat map once (it carries a version) and from then on
+ * only receive the seats whose status changed, either by polling with the last version they saw or
+ * over a Server-Sent Events stream.
+ * <p>
+ * Large maps can also be split into a cacheable geometry document and a packed status vector, so a
+ * refresh costs two bits per seat instead of a full seat record.
+ */
+public interface SeatMapFeedService {
+
+    /** Seats that changed after {@code since}; a reset if that version is unknown. */
+    EventSeatMapDelta changesSince(UUID eventId, long since);
+
+    /**
+     * Opens a stream of {@code delta} events. Without {@code since} the stream starts with a
+     * {@code snapshot} event holding the full seat map.
+     */
+    SseEmitter subscribe(UUID eventId, Long since);
+
+    /** Static seat data in seat ordinal order, rebuilt only when the event's seats change. */
+    EventSeatMapGeometry geometry(UUID eventId);
+
+    /** Current statuses as a base64 packed vector. */
+    EventSeatMapStatus status(UUID eventId);
+
+    /** Current statuses as raw packed bytes. */
+    EventSeatInventory.PackedStatuses packedStatuses(UUID eventId);
+}
@@ -6,6 +6,8 @@ import com.oshayer.event_manager.events.dto.*;
 import com.oshayer.event_manager.events.entity.*;
 import com.oshayer.event_manager.events.repository.*;
 import com.oshayer.event_manager.events.service.EventService;
+import com.oshayer.event_manager.events.service.GeneralAdmissionPoolService;
+import com.oshayer.event_manager.events.service.SeatInventoryService;
 import com.oshayer.event_manager.seat.entity.SeatLayout;
 import com.oshayer.event_manager.seat.entity.SeatEntity;
 import com.oshayer.event_manager.seat.repository.SeatLayoutRepository;
@@ -21,6 +23,7 @@ import com.oshayer.event_manager.venues.repository.EventVenueRepository;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
@@ -52,6 +55,8 @@ public class EventServiceImpl implements EventService {
     private final EventSeatRepository eventSeatRepo;
     private final TicketRepository ticketRepository;
     private final ReservationHoldRepository reservationHoldRepository;
+    private final SeatInventoryService seatInventoryService;
+    private final GeneralAdmissionPoolService generalAdmissionPoolService;
 
     // ===========================
     // CREATE
@@ -155,6 +160,12 @@ public class EventServiceImpl implements EventService {
                 .toList();
         eventTicketTierRepo.saveAll(tiers);
 
+        // 10b) General admission: pre-allocate every tier's seat pool so holds never insert inventory
+        SeatLayout layout = seatLayoutId != null ? seatLayoutRepo.findById(seatLayoutId).orElse(null) : null;
+        if (generalAdmissionPoolService.isGeneralAdmission(layout)) {
+            generalAdmissionPoolService.allocate(e, tiers);
+        }
+
         // 11) Save optional association links (capture id once for lambdas)
         if (!artistIds.isEmpty()) {
             var links = artistIds.stream()
@@ -177,7 +188,8 @@ public class EventServiceImpl implements EventService {
 
         // 12) Build response
         refreshVenueStats(venue.getId());
-        return toResponse(e, artistIds, sponsorIds, organizerIds, seatLayoutId, tiers, venue.getVenueName());
+        return toResponse(e, artistIds, sponsorIds, organizerIds, getSeatLayoutIdIfPresent(e), tiers,
+                venue.getVenueName(), e.getImageUrls());
     }
 
     // ===========================
@@ -188,29 +200,14 @@ public class EventServiceImpl implements EventService {
     public EventResponse get(UUID id) {
         var e = eventRepo.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Event not found: " + id));
+        return toResponses(List.of(e)).get(0);
+    }
 
-        var artistIds = eventArtistLinkRepo.findAll().stream()
-                .filter(l -> l.getEventId().equals(id))
-                .map(EventArtistLink::getArtistId)
-                .toList();
-
-        var sponsorIds = eventSponsorLinkRepo.findAll().stream()
-                .filter(l -> l.getEventId().equals(id))
-                .map(EventSponsorLink::getSponsorId)
-                .toList();
-
-        var organizerIds = eventOrganizerLinkRepo.findAll().stream()
-                .filter(l -> l.getEventId().equals(id))
-                .map(EventOrganizerLink::getOrgId)
-                .toList();
-
-        var ticketTiers = eventTicketTierRepo.findByEventId(id);
-
-        UUID seatLayoutId = getSeatLayoutIdIfPresent(e);
-        String venueName = venueRepo.findById(e.getVenueId())
-                .map(EventVenue::getVenueName)
-                .orElse(null);
-        return toResponse(e, artistIds, sponsorIds, organizerIds, seatLayoutId, ticketTiers, venueName);
+    @Override
+    @Transactional(readOnly = true)
+    public String getCacheTag(UUID id) {
+        return eventRepo.findCacheTag(id)
+                .orElseThrow(() -> new IllegalArgumentException("Event not found: " + id));
     }
 
     @Override
@@ -241,32 +238,12 @@ public class EventServiceImpl implements EventService {
     @Override
     @Transactional(readOnly = true)
     public List<EventSeatResponse> listSeats(UUID id) {
-        var event = eventRepo.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Event not found: " + id));
-
-        List<EventSeatEntity> seats = eventSeatRepo.findByEventId(id);
-        if (seats.isEmpty()) {
-            SeatLayout layout = null;
-            if (event.getSeatLayoutId() != null) {
-                layout = seatLayoutRepo.findById(event.getSeatLayoutId())
-                        .orElse(null);
-            }
-
-            boolean isFreestyleLayout = layout == null
-                    || "220".equalsIgnoreCase(layout.getTypeCode())
-                    || (layout.getTypeName() != null && layout.getTypeName().equalsIgnoreCase("freestyle"));
-
-            if (isFreestyleLayout) {
-                List<EventTicketTier> tiers = eventTicketTierRepo.findByEventId(event.getId());
-                if (!tiers.isEmpty()) {
-                    seats = ensureGeneralAdmissionSeatInventory(event, tiers, layout);
-                }
-            }
+        if (!eventRepo.existsById(id)) {
+            throw new IllegalArgumentException("Event not found: " + id);
         }
-
-        return seats.stream()
-                .map(this::toSeatResponse)
-                .toList();
+        // GA events created before pools were allocated up front are backfilled at startup
+        // (GeneralAdmissionPoolBackfill), never here
+        return toSeatResponses(id, eventSeatRepo.findByEventId(id));
     }
 
     @Override
@@ -288,6 +265,8 @@ public class EventServiceImpl implements EventService {
 
         var eventSeatsBySeatId = eventSeats.stream()
                 .collect(Collectors.toMap(es -> es.getSeat().getId(), Function.identity()));
+        var liveState = seatInventoryService.versionedSnapshot(id);
+        var liveStatuses = liveState.statuses();
 
         List<EventSeatMapSeat> seats = layoutSeats.stream()
                 .map(seat -> {
@@ -301,7 +280,9 @@ public class EventServiceImpl implements EventService {
                             seat.getType(),
                             eventSeat != null ? eventSeat.getTierCode() : null,
                             eventSeat != null ? eventSeat.getPrice() : null,
-                            eventSeat != null ? eventSeat.getStatus() : EventSeatEntity.EventSeatStatus.AVAILABLE
+                            eventSeat != null
+                                    ? liveStatuses.getOrDefault(eventSeat.getId(), eventSeat.getStatus())
+                                    : EventSeatEntity.EventSeatStatus.AVAILABLE
                     );
                 })
                 .toList();
@@ -312,6 +293,7 @@ public class EventServiceImpl implements EventService {
 
         return new EventSeatMapResponse(
                 event.getId(),
+                liveState.version(),
                 layout.getId(),
                 toSeatLayoutSummary(layout),
                 tiers,
@@ -339,13 +321,9 @@ public class EventServiceImpl implements EventService {
 
         var layoutSeats = seatRepository.findBySeatLayout_IdOrderByRowAscNumberAsc(layoutId);
         if (layoutSeats.isEmpty()) {
-            boolean freestyleLayout = "220".equalsIgnoreCase(layout.getTypeCode())
-                    || (layout.getTypeName() != null && layout.getTypeName().equalsIgnoreCase("freestyle"));
-            if (freestyleLayout) {
-                ensureGeneralAdmissionSeatInventory(event, eventTiers, layout);
-                return eventSeatRepo.findByEventId(id).stream()
-                        .map(this::toSeatResponse)
-                        .toList();
+            if (generalAdmissionPoolService.isGeneralAdmission(layout)) {
+                generalAdmissionPoolService.allocate(event, eventTiers);
+                return toSeatResponses(id, eventSeatRepo.findByEventId(id));
             }
             throw new IllegalStateException("Seat layout has no seats defined. Create seats before syncing.");
         }
@@ -359,6 +337,8 @@ public class EventServiceImpl implements EventService {
 
         boolean overwrite = Boolean.TRUE.equals(options.getOverwriteExisting());
         boolean removeMissing = Boolean.TRUE.equals(options.getRemoveMissing());
+        // Seats changing tier (null = removed) so the tier counters can follow
+        Map<UUID, String> retiered = new HashMap<>();
 
         for (var seatEntity : layoutSeats) {
             var eventSeat = existingBySeatId.remove(seatEntity.getId());
@@ -372,18 +352,26 @@ public class EventServiceImpl implements EventService {
                         .build();
                 eventSeatRepo.save(newSeat);
             } else if (overwrite) {
+                if (!Objects.equals(eventSeat.getTierCode(), tierCode)) {
+                    retiered.put(eventSeat.getId(), tierCode);
+                }
                 eventSeat.setTierCode(tierCode);
                 eventSeat.setPrice(price);
             }
         }
 
         if (removeMissing && !existingBySeatId.isEmpty()) {
+            existingBySeatId.values().forEach(es -> retiered.put(es.getId(), null));
             eventSeatRepo.deleteAll(existingBySeatId.values());
         }
+        if (!retiered.isEmpty()) {
+            seatInventoryService.retier(id, retiered);
+        }
 
-        return eventSeatRepo.findByEventId(id).stream()
-                .map(this::toSeatResponse)
-                .toList();
+        // Rows were added/removed; reload the in-memory inventory once this commits
+        seatInventoryService.evict(id);
+
+        return toSeatResponses(id, eventSeatRepo.findByEventId(id));
     }
 
     @Override
@@ -410,6 +398,8 @@ public class EventServiceImpl implements EventService {
         var tiersByCode = eventTicketTierRepo.findByEventId(id).stream()
                 .collect(Collectors.toMap(EventTicketTier::getTierCode, Function.identity()));
 
+        boolean createdSeats = false;
+        boolean retieredSeats = false;
         for (SeatAssignmentUpdateRequest.SeatAssignment assignment : request.seats()) {
             EventSeatEntity eventSeat = null;
             UUID seatId = assignment.seatId();
@@ -449,7 +439,13 @@ public class EventServiceImpl implements EventService {
                                 .status(EventSeatEntity.EventSeatStatus.AVAILABLE)
                                 .build());
             }
+            boolean newSeat = eventSeat.getId() == null;
+            createdSeats |= newSeat;
 
+            if (!newSeat && !Objects.equals(eventSeat.getTierCode(), tier.getTierCode())) {
+                retieredSeats = true;
+                seatInventoryService.retier(id, Map.of(eventSeat.getId(), tier.getTierCode()));
+            }
             eventSeat.setTierCode(tier.getTierCode());
             eventSeat.setPrice(price);
 
@@ -460,27 +456,41 @@ public class EventServiceImpl implements EventService {
                     throw new IllegalArgumentException("Seat status can only be set to AVAILABLE or BLOCKED via this endpoint.");
                 }
 
-                if (eventSeat.getStatus() == EventSeatEntity.EventSeatStatus.SOLD) {
+                // The inventory holds the live status; the entity's copy may not be written back yet
+                var currentStatus = newSeat ? eventSeat.getStatus() : seatInventoryService.statusOf(id, eventSeat.getId());
+                if (currentStatus == null) {
+                    currentStatus = eventSeat.getStatus();
+                }
+
+                if (currentStatus == EventSeatEntity.EventSeatStatus.SOLD) {
                     throw new IllegalStateException("Cannot modify a seat that has already been sold.");
                 }
 
-                if (eventSeat.getStatus() == EventSeatEntity.EventSeatStatus.RESERVED
+                if (currentStatus == EventSeatEntity.EventSeatStatus.RESERVED
                         && requestedStatus == EventSeatEntity.EventSeatStatus.BLOCKED) {
                     throw new IllegalStateException("Seat is currently reserved and cannot be blocked.");
                 }
 
                 if (requestedStatus == EventSeatEntity.EventSeatStatus.BLOCKED
                         || requestedStatus == EventSeatEntity.EventSeatStatus.AVAILABLE) {
-                    eventSeat.setStatus(requestedStatus);
+                    if (newSeat) {
+                        eventSeat.setStatus(requestedStatus);
+                    } else {
+                        seatInventoryService.transition(id, List.of(eventSeat.getId()), requestedStatus);
+                        // keep the managed entity in step, or its own update would write the old status back
+                        eventSeat.setStatus(requestedStatus);
+                    }
                 }
             }
 
             eventSeatRepo.save(eventSeat);
         }
 
-        return eventSeatRepo.findByEventId(id).stream()
-                .map(this::toSeatResponse)
-                .toList();
+        if (createdSeats || retieredSeats) {
+            seatInventoryService.evict(id);
+        }
+
+        return toSeatResponses(id, eventSeatRepo.findByEventId(id));
     }
 
     // ===========================
@@ -489,16 +499,14 @@ public class EventServiceImpl implements EventService {
     @Override
     @Transactional
     public Page<EventResponse> list(Pageable pageable) {
-        return eventRepo.findAll(pageable).map(ev -> {
-            var artistIds = eventArtistLinkRepo.findAll().stream().filter(l -> l.getEventId().equals(ev.getId())).map(EventArtistLink::getArtistId).toList();
-            var sponsorIds = eventSponsorLinkRepo.findAll().stream().filter(l -> l.getEventId().equals(ev.getId())).map(EventSponsorLink::getSponsorId).toList();
-            var organizerIds = eventOrganizerLinkRepo.findAll().stream().filter(l -> l.getEventId().equals(ev.getId())).map(EventOrganizerLink::getOrgId).toList();
-            var ticketTiers = eventTicketTierRepo.findByEventId(ev.getId());
-            String venueName = venueRepo.findById(ev.getVenueId())
-                    .map(EventVenue::getVenueName)
-                    .orElse(null);
-            return toResponse(ev, artistIds, sponsorIds, organizerIds, getSeatLayoutIdIfPresent(ev), ticketTiers, venueName);
-        });
+        var page = eventRepo.findAll(pageable);
+        return new PageImpl<>(toResponses(page.getContent()), pageable, page.getTotalElements());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<EventListingResponse> listSummaries(Pageable pageable) {
+        return eventRepo.findListing(pageable).map(this::toListingResponse);
     }
 
     // ===========================
@@ -613,6 +621,12 @@ public class EventServiceImpl implements EventService {
             }
         }
 
+        // Link and tier edits do not dirty the event row; touch it so its version (and so its ETag) moves
+        if (req.getTicketTiers() != null || req.getArtistIds() != null
+                || req.getSponsorIds() != null || req.getOrganizerIds() != null) {
+            e.setEditedAt(ZonedDateTime.now());
+        }
+
         // Save event first (for id/version)
         e = eventRepo.save(e);
 
@@ -715,22 +729,22 @@ public class EventServiceImpl implements EventService {
             e.setImageUrls(req.getImageUrls());
         }
 
+        // General admission: grow the seat pools to the (possibly raised) tier totals
+        if (req.getTicketTiers() != null) {
+            UUID layoutId = getSeatLayoutIdIfPresent(e);
+            SeatLayout layout = layoutId != null ? seatLayoutRepo.findById(layoutId).orElse(null) : null;
+            if (generalAdmissionPoolService.isGeneralAdmission(layout)) {
+                generalAdmissionPoolService.allocate(e, eventTicketTierRepo.findByEventId(eventId));
+            }
+        }
+
         if (!Objects.equals(previousVenueId, e.getVenueId())) {
             refreshVenueStats(previousVenueId);
         }
         refreshVenueStats(e.getVenueId());
 
         // Build final response
-        var artistIds = eventArtistLinkRepo.findAll().stream().filter(l -> l.getEventId().equals(eventId)).map(EventArtistLink::getArtistId).toList();
-        var sponsorIds = eventSponsorLinkRepo.findAll().stream().filter(l -> l.getEventId().equals(eventId)).map(EventSponsorLink::getSponsorId).toList();
-        var organizerIds = eventOrganizerLinkRepo.findAll().stream().filter(l -> l.getEventId().equals(eventId)).map(EventOrganizerLink::getOrgId).toList();
-        var ticketTiers = eventTicketTierRepo.findByEventId(eventId);
-        UUID seatLayoutId = getSeatLayoutIdIfPresent(e);
-        String venueName = venueRepo.findById(e.getVenueId())
-                .map(EventVenue::getVenueName)
-                .orElse(null);
-
-        return toResponse(e, artistIds, sponsorIds, organizerIds, seatLayoutId, ticketTiers, venueName);
+        return toResponses(List.of(e)).get(0);
     }
 
     // ===========================
@@ -743,18 +757,16 @@ public class EventServiceImpl implements EventService {
                 .orElseThrow(() -> new IllegalArgumentException("Event not found: " + id));
         UUID venueId = event.getVenueId();
 
-        // delete link rows first (simple approach without custom repo methods)
-        var a = eventArtistLinkRepo.findAll().stream().filter(l -> l.getEventId().equals(id)).toList();
-        var s = eventSponsorLinkRepo.findAll().stream().filter(l -> l.getEventId().equals(id)).toList();
-        var o = eventOrganizerLinkRepo.findAll().stream().filter(l -> l.getEventId().equals(id)).toList();
-        eventArtistLinkRepo.deleteAll(a);
-        eventSponsorLinkRepo.deleteAll(s);
-        eventOrganizerLinkRepo.deleteAll(o);
+        // delete link rows first
+        eventArtistLinkRepo.deleteByEventId(id);
+        eventSponsorLinkRepo.deleteByEventId(id);
+        eventOrganizerLinkRepo.deleteByEventId(id);
         eventTicketTierRepo.deleteAllByEventId(id);
 
         ticketRepository.deleteAllByEventSeat_Event_Id(id);
         reservationHoldRepository.deleteAllByEvent_Id(id);
         eventSeatRepo.deleteAllByEvent_Id(id);
+        seatInventoryService.evict(id);
 
         eventRepo.delete(event);
         refreshVenueStats(venueId);
@@ -820,13 +832,56 @@ public class EventServiceImpl implements EventService {
         } catch (Exception ignore) { return null; }
     }
 
+    /**
+     * Builds responses for a batch of events with one query per association (artists, sponsors, organizers,
+     * tiers, venues, images) no matter how many events there are.
+     */
+    private List<EventResponse> toResponses(List<EventEntity> events) {
+        if (events.isEmpty()) {
+            return List.of();
+        }
+        var eventIds = events.stream().map(EventEntity::getId).toList();
+
+        Map<UUID, List<UUID>> artistIds = eventArtistLinkRepo.findByEventIdIn(eventIds).stream()
+                .collect(Collectors.groupingBy(EventArtistLink::getEventId,
+                        Collectors.mapping(EventArtistLink::getArtistId, Collectors.toList())));
+        Map<UUID, List<UUID>> sponsorIds = eventSponsorLinkRepo.findByEventIdIn(eventIds).stream()
+                .collect(Collectors.groupingBy(EventSponsorLink::getEventId,
+                        Collectors.mapping(EventSponsorLink::getSponsorId, Collectors.toList())));
+        Map<UUID, List<UUID>> organizerIds = eventOrganizerLinkRepo.findByEventIdIn(eventIds).stream()
+                .collect(Collectors.groupingBy(EventOrganizerLink::getEventId,
+                        Collectors.mapping(EventOrganizerLink::getOrgId, Collectors.toList())));
+        Map<UUID, List<EventTicketTier>> tiers = eventTicketTierRepo.findByEventIdIn(eventIds).stream()
+                .collect(Collectors.groupingBy(EventTicketTier::getEventId));
+        Map<UUID, List<String>> imageUrls = eventRepo.findImageUrls(eventIds).stream()
+                .collect(Collectors.groupingBy(EventRepository.EventImageView::getEventId,
+                        Collectors.mapping(EventRepository.EventImageView::getImageUrl, Collectors.toList())));
+
+        var venueIds = events.stream().map(EventEntity::getVenueId).filter(Objects::nonNull).collect(Collectors.toSet());
+        Map<UUID, String> venueNames = venueRepo.findAllById(venueIds).stream()
+                .collect(Collectors.toMap(EventVenue::getId, EventVenue::getVenueName));
+
+        return events.stream()
+                .map(e -> toResponse(
+                        e,
+                        artistIds.getOrDefault(e.getId(), List.of()),
+                        sponsorIds.getOrDefault(e.getId(), List.of()),
+                        organizerIds.getOrDefault(e.getId(), List.of()),
+                        getSeatLayoutIdIfPresent(e),
+                        tiers.getOrDefault(e.getId(), List.of()),
+                        venueNames.get(e.getVenueId()),
+                        imageUrls.getOrDefault(e.getId(), List.of())))
+                .toList();
+    }
+
     private EventResponse toResponse(EventEntity e,
                                      List<UUID> artistIds,
                                      List<UUID> sponsorIds,
                                      List<UUID> organizerIds,
                                      UUID seatLayoutId,
                                      List<EventTicketTier> ticketTiers,
-                                     String venueName) {
+                                     String venueName,
+                                     List<String> imageUrls) {
         return EventResponse.builder()
                 .id(e.getId())
                 .typeCode(e.getTypeCode())
@@ -848,13 +903,32 @@ public class EventServiceImpl implements EventService {
                 .artistIds(artistIds)
                 .sponsorIds(sponsorIds)
                 .organizerIds(organizerIds)
-                .imageUrls(e.getImageUrls())
+                .imageUrls(imageUrls)
                 .ticketTiers(ticketTiers.stream()
                         .map(this::toTicketTierResponse)
                         .toList())
                 .build();
     }
 
+    private EventListingResponse toListingResponse(EventRepository.EventListingView view) {
+        return EventListingResponse.builder()
+                .id(view.getId())
+                .typeCode(view.getTypeCode())
+                .typeName(view.getTypeName())
+                .eventCode(view.getEventCode())
+                .eventName(view.getEventName())
+                .eventStart(view.getEventStart())
+                .eventEnd(view.getEventEnd())
+                .venueId(view.getVenueId())
+                .venueName(view.getVenueName())
+                .seatLayoutId(view.getSeatLayoutId())
+                .minPrice(view.getMinPrice())
+                .maxPrice(view.getMaxPrice())
+                .totalTickets(view.getTotalTickets())
+                .availableTickets(view.getAvailableTickets())
+                .build();
+    }
+
     private EventTicketTierResponse toTicketTierResponse(EventTicketTier tier) {
         return EventTicketTierResponse.builder()
                 .id(tier.getId())
@@ -866,10 +940,22 @@ public class EventServiceImpl implements EventService {
                 .visible(tier.getVisible())
                 .soldQuantity(tier.getSoldQuantity())
                 .usedQuantity(tier.getUsedQuantity())
+                .reservedQuantity(tier.getReservedQuantity())
+                .blockedQuantity(tier.getBlockedQuantity())
                 .build();
     }
 
-    private EventSeatResponse toSeatResponse(EventSeatEntity seat) {
+    private List<EventSeatResponse> toSeatResponses(UUID eventId, List<EventSeatEntity> seats) {
+        if (seats.isEmpty()) {
+            return List.of();
+        }
+        var liveStatuses = seatInventoryService.snapshot(eventId);
+        return seats.stream()
+                .map(seat -> toSeatResponse(seat, liveStatuses.getOrDefault(seat.getId(), seat.getStatus())))
+                .toList();
+    }
+
+    private EventSeatResponse toSeatResponse(EventSeatEntity seat, EventSeatEntity.EventSeatStatus status) {
         var seatEntity = seat.getSeat();
         return new EventSeatResponse(
                 seat.getId(),
@@ -880,7 +966,7 @@ public class EventServiceImpl implements EventService {
                 seatEntity.getType(),
                 seat.getTierCode(),
                 seat.getPrice(),
-                seat.getStatus()
+                status
         );
     }
 
@@ -932,83 +1018,6 @@ public class EventServiceImpl implements EventService {
                 .build();
     }
 
-    private List<EventSeatEntity> ensureGeneralAdmissionSeatInventory(EventEntity event, List<EventTicketTier> tiers, SeatLayout existingLayout) {
-        if (tiers.isEmpty()) {
-            return List.of();
-        }
-
-        SeatLayout layout = existingLayout != null ? existingLayout : ensureGeneralAdmissionSeatLayout(event, tiers);
-        List<EventSeatEntity> generatedSeats = new ArrayList<>();
-
-        for (EventTicketTier tier : tiers) {
-            for (int i = 1; i <= tier.getTotalQuantity(); i++) {
-                String label = "%s-%03d".formatted(tier.getTierCode(), i);
-                if (seatRepository.existsBySeatLayout_IdAndLabel(layout.getId(), label)) {
-                    continue;
-                }
-
-                SeatEntity seatEntity = SeatEntity.builder()
-                        .seatLayout(layout)
-                        .row(tier.getTierCode())
-                        .number(i)
-                        .label(label)
-                        .type("GENERAL")
-                        .build();
-                seatEntity = seatRepository.save(seatEntity);
-
-                EventSeatEntity eventSeat = EventSeatEntity.builder()
-                        .event(event)
-                        .seat(seatEntity)
-                        .tierCode(tier.getTierCode())
-                        .price(tier.getPrice())
-                        .status(EventSeatEntity.EventSeatStatus.AVAILABLE)
-                        .build();
-                generatedSeats.add(eventSeat);
-            }
-        }
-
-        if (!generatedSeats.isEmpty()) {
-            eventSeatRepo.saveAll(generatedSeats);
-        }
-
-        return eventSeatRepo.findByEventId(event.getId());
-    }
-
-    private SeatLayout ensureGeneralAdmissionSeatLayout(EventEntity event, List<EventTicketTier> tiers) {
-        if (event.getSeatLayoutId() != null) {
-            return seatLayoutRepo.findById(event.getSeatLayoutId())
-                    .orElseThrow(() -> new IllegalArgumentException("Seat layout not found: " + event.getSeatLayoutId()));
-        }
-
-        EventVenue venue = venueRepo.findById(event.getVenueId())
-                .orElseThrow(() -> new IllegalArgumentException("Venue not found: " + event.getVenueId()));
-
-        String baseName = "Freestyle layout - " + event.getEventName();
-        String layoutName = baseName;
-        int suffix = 1;
-        while (seatLayoutRepo.existsByVenue_IdAndLayoutName(venue.getId(), layoutName)) {
-            layoutName = baseName + " (" + suffix++ + ")";
-        }
-
-        int capacity = tiers.stream().mapToInt(EventTicketTier::getTotalQuantity).sum();
-        SeatLayout layout = SeatLayout.builder()
-                .venue(venue)
-                .typeCode("220")
-                .typeName("Freestyle")
-                .layoutName(layoutName)
-                .totalRows(tiers.size())
-                .totalCols(capacity)
-                .standingCapacity(capacity)
-                .totalCapacity(capacity)
-                .isActive(true)
-                .build();
-
-        layout = seatLayoutRepo.save(layout);
-        event.setSeatLayoutId(layout.getId());
-        eventRepo.save(event);
-        return layout;
-    }
-
     private void refreshVenueStats(UUID venueId) {
         if (venueId == null) {
             return;
@@ -0,0 +1,77 @@
+package com.oshayer.event_manager.events.service.impl;
+
+import com.oshayer.event_manager.events.repository.EventRepository;
+import com.oshayer.event_manager.events.repository.EventTicketTierRepository;
+import com.oshayer.event_manager.events.service.GeneralAdmissionPoolService;
+import com.oshayer.event_manager.seat.repository.SeatLayoutRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Allocates the seat pools of general admission events created before pools were allocated up front.
+ * <p>
+ * Runs once at startup, one transaction per event. {@link GeneralAdmissionPoolService#allocate} takes advisory
+ * locks on the event and its layout, so nodes starting together (or an event update racing this) neither
+ * double the pool nor collide on seat numbers; whoever comes second finds the pool complete.
+ */
+@Slf4j
+@Component
+public class GeneralAdmissionPoolBackfill {
+
+    private final EventRepository eventRepo;
+    private final EventTicketTierRepository tierRepo;
+    private final SeatLayoutRepository seatLayoutRepo;
+    private final GeneralAdmissionPoolService generalAdmissionPoolService;
+    private final TransactionTemplate eventTransaction;
+
+    public GeneralAdmissionPoolBackfill(EventRepository eventRepo,
+                                        EventTicketTierRepository tierRepo,
+                                        SeatLayoutRepository seatLayoutRepo,
+                                        GeneralAdmissionPoolService generalAdmissionPoolService,
+                                        PlatformTransactionManager transactionManager) {
+        this.eventRepo = eventRepo;
+        this.tierRepo = tierRepo;
+        this.seatLayoutRepo = seatLayoutRepo;
+        this.generalAdmissionPoolService = generalAdmissionPoolService;
+        this.eventTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        List<UUID> eventIds = eventRepo.findIdsWithTiersButNoSeats();
+        int seats = 0;
+        for (UUID eventId : eventIds) {
+            try {
+                Integer allocated = eventTransaction.execute(tx -> allocate(eventId));
+                seats += allocated == null ? 0 : allocated;
+            } catch (DataAccessException | IllegalArgumentException e) {
+                // One broken event must not keep the others without seats; it is retried on the next start
+                log.error("Could not allocate the general admission pool of event {}", eventId, e);
+            }
+        }
+        if (seats > 0) {
+            log.info("Backfilled {} general admission seats across {} events", seats, eventIds.size());
+        }
+    }
+
+    private int allocate(UUID eventId) {
+        var event = eventRepo.findById(eventId).orElse(null);
+        if (event == null) {
+            return 0;
+        }
+        var layout = event.getSeatLayoutId() == null ? null
+                : seatLayoutRepo.findById(event.getSeatLayoutId()).orElse(null);
+        if (!generalAdmissionPoolService.isGeneralAdmission(layout)) {
+            return 0;
+        }
+        return generalAdmissionPoolService.allocate(event, tierRepo.findByEventId(eventId));
+    }
+}
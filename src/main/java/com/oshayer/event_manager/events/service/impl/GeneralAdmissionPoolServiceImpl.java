@@ -0,0 +1,203 @@
+package com.oshayer.event_manager.events.service.impl;
+
+import com.oshayer.event_manager.events.entity.EventEntity;
+import com.oshayer.event_manager.events.entity.EventSeatEntity.EventSeatStatus;
+import com.oshayer.event_manager.events.entity.EventTicketTier;
+import com.oshayer.event_manager.events.inventory.InventorySlot;
+import com.oshayer.event_manager.events.repository.EventRepository;
+import com.oshayer.event_manager.events.service.GeneralAdmissionPoolService;
+import com.oshayer.event_manager.events.service.SeatInventoryService;
+import com.oshayer.event_manager.seat.entity.SeatLayout;
+import com.oshayer.event_manager.seat.repository.SeatLayoutRepository;
+import com.oshayer.event_manager.venues.entity.EventVenue;
+import com.oshayer.event_manager.venues.repository.EventVenueRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class GeneralAdmissionPoolServiceImpl implements GeneralAdmissionPoolService {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SEAT = """
+        insert into seats (id, seat_layout_id, seat_row, seat_number, label, type)
+        values (?, ?, ?, ?, ?, 'GENERAL')
+    """;
+
+    private static final String INSERT_EVENT_SEAT = """
+        insert into event_seats (id, event_id, seat_id, status, tier_code, price, created_at, updated_at)
+        values (?, ?, ?, 'AVAILABLE', ?, ?, ?, ?)
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final EventRepository eventRepo;
+    private final EventVenueRepository venueRepo;
+    private final SeatLayoutRepository seatLayoutRepo;
+    private final SeatInventoryService seatInventoryService;
+
+    @Override
+    public boolean isGeneralAdmission(SeatLayout layout) {
+        return layout == null
+                || "220".equalsIgnoreCase(layout.getTypeCode())
+                || (layout.getTypeName() != null && layout.getTypeName().equalsIgnoreCase("freestyle"));
+    }
+
+    @Override
+    public int allocate(EventEntity event, List<EventTicketTier> tiers) {
+        if (tiers.isEmpty()) {
+            return 0;
+        }
+        // The inserts below bypass Hibernate; make sure the event (and any pending seat changes) are in the database
+        entityManager.flush();
+
+        UUID eventId = event.getId();
+        // Two allocations for the same event would both top it up; counted only once the other one committed
+        lock(eventId);
+        Map<String, Integer> pooled = countPooledSeats(eventId);
+        if (tiers.stream().allMatch(tier -> pooled.getOrDefault(tier.getTierCode(), 0) >= tier.getTotalQuantity())) {
+            return 0;
+        }
+
+        SeatLayout layout = ensureLayout(event, tiers);
+        // Events sharing a freestyle layout number its seats from the same maxSeatNumber
+        lock(layout.getId());
+        OffsetDateTime now = OffsetDateTime.now();
+        List<Object[]> seatRows = new ArrayList<>();
+        List<Object[]> eventSeatRows = new ArrayList<>();
+        List<InventorySlot> slots = new ArrayList<>();
+
+        for (EventTicketTier tier : tiers) {
+            String tierCode = tier.getTierCode();
+            int missing = tier.getTotalQuantity() - pooled.getOrDefault(tierCode, 0);
+            if (missing <= 0) {
+                continue;
+            }
+            BigDecimal price = tier.getPrice();
+
+            // A shared freestyle layout may already have seats in this row that this event does not use yet
+            List<Map<String, Object>> unused = findUnusedLayoutSeats(layout.getId(), eventId, tierCode, missing);
+            for (Map<String, Object> seat : unused) {
+                UUID seatId = (UUID) seat.get("id");
+                UUID eventSeatId = UUID.randomUUID();
+                eventSeatRows.add(new Object[]{eventSeatId, eventId, seatId, tierCode, price, now, now});
+                slots.add(new InventorySlot(eventSeatId, seatId, (String) seat.get("label"), tierCode, EventSeatStatus.AVAILABLE));
+            }
+
+            int number = maxSeatNumber(layout.getId(), tierCode);
+            for (int i = unused.size(); i < missing; i++) {
+                number++;
+                UUID seatId = UUID.randomUUID();
+                UUID eventSeatId = UUID.randomUUID();
+                String label = "%s-%03d".formatted(tierCode, number);
+                seatRows.add(new Object[]{seatId, layout.getId(), tierCode, number, label});
+                eventSeatRows.add(new Object[]{eventSeatId, eventId, seatId, tierCode, price, now, now});
+                slots.add(new InventorySlot(eventSeatId, seatId, label, tierCode, EventSeatStatus.AVAILABLE));
+            }
+        }
+
+        batchInsert(INSERT_SEAT, seatRows);
+        batchInsert(INSERT_EVENT_SEAT, eventSeatRows);
+        seatInventoryService.register(eventId, slots);
+
+        log.info("Allocated {} general admission seats for event {}", slots.size(), eventId);
+        return slots.size();
+    }
+
+    // -------- helpers --------
+
+    /** Transaction-scoped advisory lock, released on commit or rollback. */
+    private void lock(UUID key) {
+        jdbcTemplate.query("select pg_advisory_xact_lock(?)", rs -> { },
+                key.getMostSignificantBits() ^ key.getLeastSignificantBits());
+    }
+
+    private Map<String, Integer> countPooledSeats(UUID eventId) {
+        Map<String, Integer> counts = new HashMap<>();
+        jdbcTemplate.query("""
+                select tier_code, count(*) from event_seats
+                where event_id = ?
+                group by tier_code
+                """,
+                rs -> {
+                    counts.put(rs.getString(1), rs.getInt(2));
+                },
+                eventId);
+        return counts;
+    }
+
+    private List<Map<String, Object>> findUnusedLayoutSeats(UUID layoutId, UUID eventId, String row, int limit) {
+        return jdbcTemplate.queryForList("""
+                select s.id, s.label from seats s
+                where s.seat_layout_id = ?
+                  and s.seat_row = ?
+                  and not exists (select 1 from event_seats es where es.event_id = ? and es.seat_id = s.id)
+                order by s.seat_number
+                limit ?
+                """, layoutId, row, eventId, limit);
+    }
+
+    private int maxSeatNumber(UUID layoutId, String row) {
+        Integer max = jdbcTemplate.queryForObject(
+                "select max(seat_number) from seats where seat_layout_id = ? and seat_row = ?",
+                Integer.class, layoutId, row);
+        return max == null ? 0 : max;
+    }
+
+    private void batchInsert(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + BATCH_SIZE)));
+        }
+    }
+
+    private SeatLayout ensureLayout(EventEntity event, List<EventTicketTier> tiers) {
+        if (event.getSeatLayoutId() != null) {
+            return seatLayoutRepo.findById(event.getSeatLayoutId())
+                    .orElseThrow(() -> new IllegalArgumentException("Seat layout not found: " + event.getSeatLayoutId()));
+        }
+
+        EventVenue venue = venueRepo.findById(event.getVenueId())
+                .orElseThrow(() -> new IllegalArgumentException("Venue not found: " + event.getVenueId()));
+
+        String baseName = "Freestyle layout - " + event.getEventName();
+        String layoutName = baseName;
+        int suffix = 1;
+        while (seatLayoutRepo.existsByVenue_IdAndLayoutName(venue.getId(), layoutName)) {
+            layoutName = baseName + " (" + suffix++ + ")";
+        }
+
+        int capacity = tiers.stream().mapToInt(EventTicketTier::getTotalQuantity).sum();
+        SeatLayout layout = SeatLayout.builder()
+                .venue(venue)
+                .typeCode("220")
+                .typeName("Freestyle")
+                .layoutName(layoutName)
+                .totalRows(tiers.size())
+                .totalCols(capacity)
+                .standingCapacity(capacity)
+                .totalCapacity(capacity)
+                .isActive(true)
+                .build();
+
+        // Flushed right away: the seat rows reference it through plain JDBC
+        layout = seatLayoutRepo.saveAndFlush(layout);
+        event.setSeatLayoutId(layout.getId());
+        eventRepo.save(event);
+        return layout;
+    }
+}
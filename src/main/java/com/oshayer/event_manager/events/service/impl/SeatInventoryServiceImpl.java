@@ -0,0 +1,379 @@
+package com.oshayer.event_manager.events.service.impl;
+
+import com.oshayer.event_manager.events.entity.EventSeatEntity;
+import com.oshayer.event_manager.events.entity.EventSeatEntity.EventSeatStatus;
+import com.oshayer.event_manager.events.inventory.EventSeatInventory;
+import com.oshayer.event_manager.events.inventory.InventorySlot;
+import com.oshayer.event_manager.events.repository.EventRepository;
+import com.oshayer.event_manager.events.repository.EventSeatRepository;
+import com.oshayer.event_manager.events.repository.EventTicketTierRepository;
+import com.oshayer.event_manager.events.service.SeatInventoryService;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+@Slf4j
+@Service
+public class SeatInventoryServiceImpl implements SeatInventoryService {
+
+    private final EventSeatRepository eventSeatRepo;
+    private final EventTicketTierRepository tierRepo;
+    private final EventRepository eventRepo;
+    private final Duration idleEviction;
+    private final Map<UUID, EventSeatInventory> inventories = new ConcurrentHashMap<>();
+    // Loads wait on the database; a lock rather than synchronized (or a map compute) keeps a virtual thread
+    // from pinning its carrier meanwhile
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    public SeatInventoryServiceImpl(EventSeatRepository eventSeatRepo,
+                                    EventTicketTierRepository tierRepo,
+                                    EventRepository eventRepo,
+                                    @Value("${app.seat-inventory.idle-eviction:PT1H}") Duration idleEviction) {
+        this.eventSeatRepo = eventSeatRepo;
+        this.tierRepo = tierRepo;
+        this.eventRepo = eventRepo;
+        this.idleEviction = idleEviction;
+    }
+
+    @Override
+    public List<UUID> claimSeats(UUID eventId, Collection<UUID> seatIds) {
+        EventSeatInventory.Change change;
+        try {
+            change = apply(eventId, inventory -> inventory.claim(seatIds));
+        } catch (IllegalStateException | EntityNotFoundException rejected) {
+            // This node may have missed a release (or new seats) on another node; the database decides
+            return claimPastStaleView(eventId, seatIds, rejected);
+        }
+        List<UUID> claimed = eventSeatRepo.claimAvailableBySeatIds(eventId, seatIds);
+        if (claimed.size() < change.eventSeatIds().size()) {
+            // The in-memory view was stale (another node, or a manual DB edit); resync and fail the claim
+            refresh(eventId);
+            throw new IllegalStateException("One or more selected seats are no longer available.");
+        }
+        applyCounters(eventId, change);
+        return change.eventSeatIds();
+    }
+
+    @Override
+    public List<UUID> claimByTier(UUID eventId, String tierCode, int quantity) {
+        if (tierRepo.tryReserve(eventId, tierCode, quantity) == 0) {
+            long remaining = tierRepo.findByEventIdAndTierCode(eventId, tierCode)
+                    .map(tier -> (long) tier.getTotalQuantity() - count(tier.getSoldQuantity())
+                            - count(tier.getReservedQuantity()) - count(tier.getBlockedQuantity()))
+                    .orElse(0L);
+            throw new IllegalStateException("Only " + Math.max(remaining, 0) + " tickets remain for tier " + tierCode + ".");
+        }
+        var change = apply(eventId, inventory -> inventory.claimByTier(tierCode, quantity));
+        if (change.eventSeatIds().size() < quantity) {
+            // The tier counter had room, so the pool may only look short because seats were released on another
+            // node: reload and try once more. The first claim dies with the retired inventory.
+            refresh(eventId);
+            change = apply(eventId, inventory -> inventory.claimByTier(tierCode, quantity));
+        }
+        if (change.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> claimed = eventSeatRepo.claimAvailableByIds(change.eventSeatIds());
+        if (claimed.size() < change.eventSeatIds().size()) {
+            refresh(eventId);
+            throw new IllegalStateException("Seats for tier " + tierCode + " were taken concurrently. Please retry.");
+        }
+        return change.eventSeatIds();
+    }
+
+    @Override
+    public void transition(UUID eventId, Collection<UUID> eventSeatIds, EventSeatStatus status) {
+        if (eventSeatIds.isEmpty()) {
+            return;
+        }
+        // Written in the caller's transaction, together with the tier counters: a release must be visible to
+        // the next conditional claim, and a sale or block must survive a crash the counters already survived
+        var change = apply(eventId, inventory -> inventory.transition(eventSeatIds, status));
+        eventSeatRepo.updateStatusByIdIn(eventSeatIds, status, OffsetDateTime.now());
+        applyCounters(eventId, change);
+    }
+
+    @Override
+    public void retier(UUID eventId, Map<UUID, String> newTierByEventSeatId) {
+        var inventory = inventory(eventId);
+        Map<String, int[]> deltas = new LinkedHashMap<>();
+        newTierByEventSeatId.forEach((eventSeatId, newTier) -> {
+            String oldTier = inventory.tierOf(eventSeatId);
+            int counter = counterIndex(inventory.statusOf(eventSeatId));
+            if (counter < 0 || Objects.equals(oldTier, newTier)) {
+                return;
+            }
+            if (oldTier != null) {
+                deltas.computeIfAbsent(oldTier, t -> new int[3])[counter]--;
+            }
+            if (newTier != null) {
+                deltas.computeIfAbsent(newTier, t -> new int[3])[counter]++;
+            }
+        });
+        writeCounters(eventId, deltas);
+    }
+
+    @Override
+    public void sync(UUID eventId, Collection<UUID> eventSeatIds, EventSeatStatus status) {
+        if (eventSeatIds.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> {
+            var inventory = inventories.get(eventId);
+            if (inventory == null) {
+                return; // not loaded on this node; the next load reads the committed rows
+            }
+            try {
+                inventory.transition(eventSeatIds, status);
+            } catch (EventSeatInventory.RetiredException ignored) {
+                // evicted in the meantime; the reload already sees the committed rows
+            }
+        });
+    }
+
+    @Override
+    public EventSeatStatus statusOf(UUID eventId, UUID eventSeatId) {
+        return inventory(eventId).statusOf(eventSeatId);
+    }
+
+    @Override
+    public long countByTier(UUID eventId, String tierCode, Set<EventSeatStatus> statuses) {
+        return inventory(eventId).count(tierCode, statuses);
+    }
+
+    @Override
+    public Map<UUID, EventSeatStatus> snapshot(UUID eventId) {
+        return inventory(eventId).snapshot();
+    }
+
+    @Override
+    public EventSeatInventory.Snapshot versionedSnapshot(UUID eventId) {
+        return inventory(eventId).versionedSnapshot();
+    }
+
+    @Override
+    public EventSeatInventory.Delta changesSince(UUID eventId, long version) {
+        return inventory(eventId).changesSince(version);
+    }
+
+    @Override
+    public EventSeatInventory.Ordering ordering(UUID eventId) {
+        return inventory(eventId).ordering();
+    }
+
+    @Override
+    public EventSeatInventory.PackedStatuses packedStatuses(UUID eventId) {
+        return inventory(eventId).packedStatuses();
+    }
+
+    @Override
+    public void register(UUID eventId, List<InventorySlot> slots) {
+        if (slots.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> {
+            var inventory = inventories.get(eventId);
+            if (inventory == null) {
+                return; // loads from the database on next use
+            }
+            try {
+                inventory.append(slots);
+            } catch (EventSeatInventory.RetiredException ignored) {
+                // evicted in the meantime; the reload already sees the new rows
+            }
+        });
+    }
+
+    @Override
+    public void evict(UUID eventId) {
+        afterCommit(() -> refresh(eventId));
+    }
+
+    /** Drops the inventories of events that have ended or that nothing has read or claimed for a while. */
+    @Scheduled(fixedDelayString = "${app.seat-inventory.eviction-interval-ms:60000}")
+    public void evictIdle() {
+        if (inventories.isEmpty()) {
+            return;
+        }
+        Set<UUID> evict = new HashSet<>(eventRepo.findIdsEndedAmong(List.copyOf(inventories.keySet()),
+                ZonedDateTime.now()));
+        long idleSince = System.currentTimeMillis() - idleEviction.toMillis();
+        inventories.forEach((eventId, inventory) -> {
+            if (inventory.lastUsedMillis() < idleSince) {
+                evict.add(eventId);
+            }
+        });
+        evict.forEach(this::refresh);
+    }
+
+    // -------- helpers --------
+
+    /**
+     * Claims seats the local inventory refused straight in the database. If every seat was free there, the
+     * inventory was stale: the claim stands and the inventory reloads once it commits. Otherwise the local
+     * refusal is rethrown and the caller's rollback undoes any partial claim.
+     */
+    private List<UUID> claimPastStaleView(UUID eventId, Collection<UUID> seatIds, RuntimeException rejected) {
+        List<UUID> claimed = eventSeatRepo.claimAvailableBySeatIds(eventId, seatIds);
+        if (claimed.size() < new HashSet<>(seatIds).size()) {
+            throw rejected;
+        }
+        log.info("Seat inventory of event {} was stale; reloading it", eventId);
+        List<String> tierCodes = eventSeatRepo.findAllById(claimed).stream()
+                .map(EventSeatEntity::getTierCode)
+                .toList();
+        applyCounters(eventId, new EventSeatInventory.Change(claimed, tierCodes,
+                Collections.nCopies(claimed.size(), EventSeatStatus.AVAILABLE), EventSeatStatus.RESERVED));
+        evict(eventId);
+        return claimed;
+    }
+
+    private EventSeatInventory inventory(UUID eventId) {
+        var inventory = inventories.get(eventId);
+        if (inventory != null) {
+            inventory.touch();
+            return inventory;
+        }
+        loadLock.lock();
+        try {
+            inventory = inventories.get(eventId);
+            if (inventory == null) {
+                // Versions start from the clock so a reload (or restart) never reissues a version of the old log
+                inventory = new EventSeatInventory(eventId, eventSeatRepo.findInventorySlots(eventId),
+                        System.currentTimeMillis() * 1000);
+                inventories.put(eventId, inventory);
+            }
+            return inventory;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private EventSeatInventory.Change apply(UUID eventId,
+                                            Function<EventSeatInventory, EventSeatInventory.Change> action) {
+        while (true) {
+            var inventory = inventory(eventId);
+            try {
+                var change = action.apply(inventory);
+                restoreOnRollback(inventory, change);
+                return change;
+            } catch (EventSeatInventory.RetiredException ignored) {
+                // evicted between lookup and mutation; retry against the reloaded inventory
+            }
+        }
+    }
+
+    private void restoreOnRollback(EventSeatInventory inventory, EventSeatInventory.Change change) {
+        if (change.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_ROLLED_BACK) {
+                    return;
+                }
+                try {
+                    inventory.restore(change);
+                } catch (EventSeatInventory.RetiredException ignored) {
+                    // a reloaded inventory already reflects the rolled-back database
+                }
+            }
+        });
+    }
+
+    /**
+     * Drops the inventory right away so the next access reloads it. Taken under the load lock so a load that
+     * started before the change being picked up cannot put its older rows back afterwards.
+     */
+    private void refresh(UUID eventId) {
+        loadLock.lock();
+        try {
+            var inventory = inventories.remove(eventId);
+            if (inventory != null) {
+                inventory.retire();
+            }
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * Mirrors a status change in the tier counters (index 0 reserved, 1 sold, 2 blocked).
+     */
+    private void applyCounters(UUID eventId, EventSeatInventory.Change change) {
+        Map<String, int[]> deltas = new LinkedHashMap<>();
+        for (int i = 0; i < change.eventSeatIds().size(); i++) {
+            String tierCode = change.tierCodes().get(i);
+            if (tierCode == null) {
+                continue;
+            }
+            int from = counterIndex(change.previous().get(i));
+            int to = counterIndex(change.target());
+            if (from >= 0) {
+                deltas.computeIfAbsent(tierCode, t -> new int[3])[from]--;
+            }
+            if (to >= 0) {
+                deltas.computeIfAbsent(tierCode, t -> new int[3])[to]++;
+            }
+        }
+        writeCounters(eventId, deltas);
+    }
+
+    private void writeCounters(UUID eventId, Map<String, int[]> deltas) {
+        deltas.forEach((tierCode, delta) -> {
+            if (delta[0] != 0 || delta[1] != 0 || delta[2] != 0) {
+                tierRepo.adjustSeatCounters(eventId, tierCode, delta[0], delta[1], delta[2]);
+            }
+        });
+    }
+
+    private static int counterIndex(EventSeatStatus status) {
+        if (status == null) {
+            return -1;
+        }
+        return switch (status) {
+            case RESERVED -> 0;
+            case SOLD -> 1;
+            case BLOCKED -> 2;
+            case AVAILABLE -> -1;
+        };
+    }
+
+    private static long count(Integer value) {
+        return value == null ? 0 : value;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,303 @@
+package com.oshayer.event_manager.events.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.oshayer.event_manager.events.dto.EventSeatMapChange;
+import com.oshayer.event_manager.events.dto.EventSeatMapDelta;
+import com.oshayer.event_manager.events.dto.EventSeatMapGeometry;
+import com.oshayer.event_manager.events.dto.EventSeatMapGeometrySeat;
+import com.oshayer.event_manager.events.dto.EventSeatMapSeat;
+import com.oshayer.event_manager.events.dto.EventSeatMapStatus;
+import com.oshayer.event_manager.events.inventory.EventSeatInventory;
+import com.oshayer.event_manager.events.repository.EventRepository;
+import com.oshayer.event_manager.events.service.EventService;
+import com.oshayer.event_manager.events.service.SeatInventoryService;
+import com.oshayer.event_manager.events.service.SeatMapFeedService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Service
+public class SeatMapFeedServiceImpl implements SeatMapFeedService {
+
+    private static final String PACKED_ENCODING = "2bit-ordinal";
+
+    private final EventService eventService;
+    private final EventRepository eventRepo;
+    private final SeatInventoryService seatInventoryService;
+    private final long streamTimeoutMs;
+    private final long heartbeatMs;
+    private final long stallTimeoutMs;
+    // Sends block on the client's socket, so each one runs on its own virtual thread, never on the publisher
+    private final ExecutorService senders = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("seat-map-sse-", 0).factory());
+    private final Map<UUID, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Cache<UUID, EventSeatMapGeometry> geometries;
+
+    public SeatMapFeedServiceImpl(EventService eventService,
+                                  EventRepository eventRepo,
+                                  SeatInventoryService seatInventoryService,
+                                  @Value("${app.seat-map.stream.timeout-ms:300000}") long streamTimeoutMs,
+                                  @Value("${app.seat-map.stream.heartbeat-ms:15000}") long heartbeatMs,
+                                  @Value("${app.seat-map.stream.stall-timeout-ms:10000}") long stallTimeoutMs,
+                                  @Value("${app.seat-map.geometry-cache.max-size:256}") long geometryCacheSize,
+                                  @Value("${app.seat-map.geometry-cache.idle:PT1H}") Duration geometryCacheIdle) {
+        this.eventService = eventService;
+        this.eventRepo = eventRepo;
+        this.seatInventoryService = seatInventoryService;
+        this.streamTimeoutMs = streamTimeoutMs;
+        this.heartbeatMs = heartbeatMs;
+        this.stallTimeoutMs = stallTimeoutMs;
+        this.geometries = Caffeine.newBuilder()
+                .maximumSize(geometryCacheSize)
+                .expireAfterAccess(geometryCacheIdle)
+                .build();
+    }
+
+    @Override
+    public EventSeatMapDelta changesSince(UUID eventId, long since) {
+        requireEvent(eventId);
+        return toDelta(eventId, seatInventoryService.changesSince(eventId, since));
+    }
+
+    @Override
+    public SseEmitter subscribe(UUID eventId, Long since) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        Subscriber subscriber = new Subscriber(eventId, emitter);
+        if (since == null) {
+            var seatMap = eventService.getSeatMap(eventId);
+            if (!send(subscriber, "snapshot", seatMap.version(), seatMap)) {
+                return emitter;
+            }
+            subscriber.version = seatMap.version();
+        } else {
+            requireEvent(eventId);
+            subscriber.version = since; // the next publish sends whatever the client missed
+        }
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(ex -> remove(subscriber));
+        subscribers.compute(eventId, (id, list) -> {
+            List<Subscriber> current = list != null ? list : new CopyOnWriteArrayList<>();
+            current.add(subscriber);
+            return current;
+        });
+        return emitter;
+    }
+
+    /**
+     * Pushes pending changes to every open stream. Subscribers of one event that are at the same version
+     * (the common case once they caught up) share a single delta.
+     * <p>
+     * Each subscriber has at most one send in flight, handed to a virtual thread, so a slow client only
+     * delays itself. Its next delta is taken from the version it last received, which folds everything it
+     * missed meanwhile into one message; a client whose send has been stuck for {@code stall-timeout-ms}
+     * is dropped and reconnects with {@code Last-Event-ID}.
+     */
+    @Scheduled(fixedDelayString = "${app.seat-map.stream.interval-ms:500}")
+    public void publish() {
+        long now = System.currentTimeMillis();
+        subscribers.forEach((eventId, eventSubscribers) -> {
+            Map<Long, EventSeatMapDelta> deltas = new HashMap<>();
+            for (Subscriber subscriber : eventSubscribers) {
+                if (!subscriber.sending.compareAndSet(false, true)) {
+                    if (now - subscriber.sendStartedAt >= stallTimeoutMs) {
+                        log.debug("Dropping stalled seat-map stream for event {}", eventId);
+                        drop(subscriber);
+                    }
+                    continue;
+                }
+                subscriber.sendStartedAt = now;
+                var delta = deltas.computeIfAbsent(subscriber.version,
+                        version -> toDelta(eventId, seatInventoryService.changesSince(eventId, version)));
+                if (delta.reset() || !delta.changes().isEmpty()) {
+                    sendAsync(subscriber, () -> {
+                        if (send(subscriber, "delta", delta.version(), delta)) {
+                            // After a reset the client reloads the map, which is at least this version
+                            subscriber.version = delta.version();
+                        }
+                    });
+                } else if (now - subscriber.lastSentAt >= heartbeatMs) {
+                    sendAsync(subscriber, () -> heartbeat(subscriber));
+                } else {
+                    subscriber.sending.set(false);
+                }
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+    }
+
+    @Override
+    public EventSeatMapGeometry geometry(UUID eventId) {
+        requireEvent(eventId);
+        var ordering = seatInventoryService.ordering(eventId);
+        var cached = geometries.getIfPresent(eventId);
+        if (cached != null && cached.geometryVersion() == ordering.structureVersion()) {
+            return cached;
+        }
+        var geometry = buildGeometry(eventId, ordering);
+        // Only keep it if the seats did not change while it was being built
+        if (seatInventoryService.ordering(eventId).structureVersion() == ordering.structureVersion()) {
+            geometries.put(eventId, geometry);
+        }
+        return geometry;
+    }
+
+    @Override
+    public EventSeatMapStatus status(UUID eventId) {
+        var packed = packedStatuses(eventId);
+        return new EventSeatMapStatus(eventId, packed.version(), packed.structureVersion(), packed.size(),
+                PACKED_ENCODING, Base64.getEncoder().encodeToString(packed.packed()));
+    }
+
+    @Override
+    public EventSeatInventory.PackedStatuses packedStatuses(UUID eventId) {
+        requireEvent(eventId);
+        return seatInventoryService.packedStatuses(eventId);
+    }
+
+    // -------- helpers --------
+
+    private void requireEvent(UUID eventId) {
+        // Checked up front so unknown ids never get an (empty) inventory loaded for them
+        if (!eventRepo.existsById(eventId)) {
+            throw new IllegalArgumentException("Event not found: " + eventId);
+        }
+    }
+
+    private EventSeatMapGeometry buildGeometry(UUID eventId, EventSeatInventory.Ordering ordering) {
+        var seatMap = eventService.getSeatMap(eventId);
+        Map<UUID, EventSeatMapSeat> byEventSeatId = new HashMap<>(seatMap.seats().size() * 2);
+        List<EventSeatMapGeometrySeat> notOnSale = new ArrayList<>();
+        for (EventSeatMapSeat seat : seatMap.seats()) {
+            if (seat.eventSeatId() != null) {
+                byEventSeatId.put(seat.eventSeatId(), seat);
+            } else {
+                notOnSale.add(toGeometrySeat(seat));
+            }
+        }
+
+        List<EventSeatMapGeometrySeat> seats = new ArrayList<>(seatMap.seats().size());
+        for (UUID eventSeatId : ordering.eventSeatIds()) {
+            var seat = byEventSeatId.get(eventSeatId);
+            // A seat removed since the ordering was taken keeps its slot so later ordinals still line up
+            seats.add(seat != null
+                    ? toGeometrySeat(seat)
+                    : new EventSeatMapGeometrySeat(null, eventSeatId, null, null, null, null, null, null));
+        }
+        seats.addAll(notOnSale);
+
+        return new EventSeatMapGeometry(
+                eventId,
+                seatMap.seatLayoutId(),
+                ordering.structureVersion(),
+                ordering.eventSeatIds().size(),
+                seatMap.layout(),
+                seats
+        );
+    }
+
+    private EventSeatMapGeometrySeat toGeometrySeat(EventSeatMapSeat seat) {
+        return new EventSeatMapGeometrySeat(
+                seat.seatId(),
+                seat.eventSeatId(),
+                seat.row(),
+                seat.number(),
+                seat.label(),
+                seat.type(),
+                seat.tierCode(),
+                seat.price()
+        );
+    }
+
+    private EventSeatMapDelta toDelta(UUID eventId, EventSeatInventory.Delta delta) {
+        List<EventSeatMapChange> changes = delta.changes().entrySet().stream()
+                .map(entry -> new EventSeatMapChange(entry.getKey(), entry.getValue()))
+                .toList();
+        return new EventSeatMapDelta(eventId, delta.since(), delta.version(), delta.reset(), changes);
+    }
+
+    private boolean send(Subscriber subscriber, String name, long version, Object payload) {
+        try {
+            // The id comes back as Last-Event-ID when the browser reconnects, so it resumes from there
+            subscriber.emitter.send(SseEmitter.event().name(name).id(Long.toString(version)).data(payload));
+            subscriber.lastSentAt = System.currentTimeMillis();
+            return true;
+        } catch (IOException | IllegalStateException ex) {
+            log.debug("Dropping seat-map stream for event {}: {}", subscriber.eventId, ex.getMessage());
+            remove(subscriber);
+            subscriber.emitter.complete();
+            return false;
+        }
+    }
+
+    private void heartbeat(Subscriber subscriber) {
+        try {
+            subscriber.emitter.send(SseEmitter.event().comment("keep-alive"));
+            subscriber.lastSentAt = System.currentTimeMillis();
+        } catch (IOException | IllegalStateException ex) {
+            remove(subscriber);
+            subscriber.emitter.complete();
+        }
+    }
+
+    private void sendAsync(Subscriber subscriber, Runnable send) {
+        senders.execute(() -> {
+            try {
+                send.run();
+            } finally {
+                subscriber.sending.set(false);
+            }
+        });
+    }
+
+    // complete() waits for the stuck send to give up, so it must not run on the publisher either
+    private void drop(Subscriber subscriber) {
+        remove(subscriber);
+        senders.execute(subscriber.emitter::complete);
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.eventId, (id, list) -> {
+            list.remove(subscriber);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    private static final class Subscriber {
+        private final UUID eventId;
+        private final SseEmitter emitter;
+        private volatile long version;
+        private volatile long lastSentAt = System.currentTimeMillis();
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private volatile long sendStartedAt;
+
+        private Subscriber(UUID eventId, SseEmitter emitter) {
+            this.eventId = eventId;
+            this.emitter = emitter;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.oshayer.event_manager.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+@Entity
+@Table(name = "email_outbox")
+public class EmailOutboxEntity {
+
+    @Id @GeneratedValue private UUID id;
+
+    @Column(name = "recipient", nullable = false, length = 320)
+    private String recipient;
+
+    @Column(name = "subject", nullable = false)
+    private String subject;
+
+    @Column(name = "body", nullable = false, columnDefinition = "text")
+    private String body;
+
+    // set for ticket delivery emails; the QR code is rendered and attached when the message is built
+    @Column(name = "ticket_id")
+    private UUID ticketId;
+
+    @Column(name = "qr_code", length = 256)
+    private String qrCode;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private EmailStatus status = EmailStatus.PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private int attempts = 0;
+
+    // when the dispatcher may pick the row up: now for new mail, the backoff after a failure, or the end of the
+    // lease while a dispatcher is sending it
+    @Column(name = "next_attempt_at", nullable = false)
+    private OffsetDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @CreationTimestamp @Column(name = "created_at", nullable = false, updatable = false)
+    private OffsetDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private OffsetDateTime sentAt;
+
+    public enum EmailStatus { PENDING, SENT, FAILED }
+}
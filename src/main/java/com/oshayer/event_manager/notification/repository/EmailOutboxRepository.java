@@ -0,0 +1,38 @@
+package com.oshayer.event_manager.notification.repository;
+
+import com.oshayer.event_manager.notification.entity.EmailOutboxEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxEntity, UUID> {
+
+    /**
+     * Locks the next due emails. Rows another dispatcher has locked are skipped, so several nodes can drain the
+     * outbox at once; the caller leases the rows before committing.
+     */
+    @Query(value = """
+        select * from email_outbox
+        where status = 'PENDING'
+          and next_attempt_at <= :now
+        order by next_attempt_at
+        limit :limit
+        for update skip locked
+    """, nativeQuery = true)
+    List<EmailOutboxEntity> lockDue(OffsetDateTime now, int limit);
+
+    @Modifying
+    @Query("""
+        update EmailOutboxEntity e
+        set e.status = com.oshayer.event_manager.notification.entity.EmailOutboxEntity.EmailStatus.SENT,
+            e.sentAt = :sentAt,
+            e.lastError = null
+        where e.id in :ids
+    """)
+    int markSent(Collection<UUID> ids, OffsetDateTime sentAt);
+}
@@ -0,0 +1,295 @@
+package com.oshayer.event_manager.notification.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.oshayer.event_manager.notification.entity.EmailOutboxEntity;
+import com.oshayer.event_manager.notification.entity.EmailOutboxEntity.EmailStatus;
+import com.oshayer.event_manager.notification.repository.EmailOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the email outbox. Each run locks a batch of due rows and leases them (so another node, or a crash, does
+ * not leave them stuck), splits the batch across a small fixed pool of senders, and records the outcome. Every
+ * sender builds the MIME messages for its share, rendering ticket QR codes as it goes, and hands them to
+ * {@link JavaMailSender#send(MimeMessage...)} in one call, which delivers the whole chunk over a single SMTP
+ * connection. Sending is paced to {@code max-per-second} on this node, and at most
+ * {@code per-domain-concurrency} chunks addressed to the same recipient domain are in flight at once, so a ticket
+ * sale burst does not get throttled or rejected by a large mailbox provider. Failed emails are retried with
+ * exponential backoff until {@code max-attempts}, then marked FAILED. Delivery is at-least-once: a node dying
+ * mid-send resends after the lease.
+ */
+@Slf4j
+@Service
+public class EmailOutboxDispatcher {
+
+    private final EmailOutboxRepository outboxRepository;
+    private final JavaMailSender mailSender;
+    private final QrCodeRenderer qrCodeRenderer;
+    private final TransactionTemplate transaction;
+    private final ExecutorService senders;
+    private final int workers;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final int maxPerSecond;
+    private final int perDomainConcurrency;
+
+    // earliest System.nanoTime() at which the next chunk may go out under max-per-second
+    private final AtomicLong nextSendSlot = new AtomicLong(System.nanoTime());
+    private final Cache<String, Semaphore> domainPermits;
+
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter failed;
+
+    public EmailOutboxDispatcher(EmailOutboxRepository outboxRepository,
+                                 JavaMailSender mailSender,
+                                 QrCodeRenderer qrCodeRenderer,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.mail.outbox.workers:2}") int workers,
+                                 @Value("${app.mail.outbox.batch-size:50}") int batchSize,
+                                 @Value("${app.mail.outbox.max-batches-per-run:20}") int maxBatchesPerRun,
+                                 @Value("${app.mail.outbox.max-attempts:8}") int maxAttempts,
+                                 @Value("${app.mail.outbox.lease:PT5M}") Duration lease,
+                                 @Value("${app.mail.outbox.initial-backoff:PT30S}") Duration initialBackoff,
+                                 @Value("${app.mail.outbox.max-backoff:PT1H}") Duration maxBackoff,
+                                 @Value("${app.mail.outbox.max-per-second:0}") int maxPerSecond,
+                                 @Value("${app.mail.outbox.per-domain-concurrency:0}") int perDomainConcurrency) {
+        this.outboxRepository = outboxRepository;
+        this.mailSender = mailSender;
+        this.qrCodeRenderer = qrCodeRenderer;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.workers = workers;
+        this.senders = Executors.newFixedThreadPool(workers, Thread.ofVirtual().name("email-sender-", 0).factory());
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.maxAttempts = maxAttempts;
+        this.lease = lease;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.maxPerSecond = maxPerSecond;
+        this.perDomainConcurrency = perDomainConcurrency;
+        this.domainPermits = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+
+        this.sent = Counter.builder("mail.outbox.sent")
+                .description("Emails delivered to the SMTP server")
+                .register(meterRegistry);
+        this.retried = Counter.builder("mail.outbox.retried")
+                .description("Email sends that failed and were rescheduled")
+                .register(meterRegistry);
+        this.failed = Counter.builder("mail.outbox.failed")
+                .description("Emails given up on after max-attempts")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-interval-ms:1000}")
+    public void drain() {
+        for (int round = 0; round < maxBatchesPerRun; round++) {
+            List<EmailOutboxEntity> batch = transaction.execute(tx -> claimBatch());
+            if (batch == null || batch.isEmpty()) {
+                return;
+            }
+            dispatch(batch);
+            if (batch.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdown();
+    }
+
+    private List<EmailOutboxEntity> claimBatch() {
+        OffsetDateTime now = OffsetDateTime.now();
+        List<EmailOutboxEntity> due = outboxRepository.lockDue(now, batchSize);
+        for (EmailOutboxEntity email : due) {
+            email.setAttempts(email.getAttempts() + 1);
+            email.setNextAttemptAt(now.plus(lease));
+        }
+        return due;
+    }
+
+    private void dispatch(List<EmailOutboxEntity> batch) {
+        // grouped by domain, so each domain lands in as few chunks as possible and per-domain limits block little
+        List<EmailOutboxEntity> byDomain = new ArrayList<>(batch);
+        byDomain.sort(Comparator.comparing(email -> domain(email.getRecipient())));
+
+        int chunkSize = (byDomain.size() + workers - 1) / workers;
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+        for (int from = 0; from < byDomain.size(); from += chunkSize) {
+            List<EmailOutboxEntity> chunk = byDomain.subList(from, Math.min(from + chunkSize, byDomain.size()));
+            chunks.add(CompletableFuture.runAsync(() -> sendChunk(chunk), senders));
+        }
+        CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private void sendChunk(List<EmailOutboxEntity> chunk) {
+        Map<MimeMessage, EmailOutboxEntity> byMessage = new IdentityHashMap<>();
+        Map<EmailOutboxEntity, Exception> undelivered = new IdentityHashMap<>();
+        for (EmailOutboxEntity email : chunk) {
+            try {
+                byMessage.put(toMessage(email), email);
+            } catch (MessagingException | RuntimeException ex) {
+                undelivered.put(email, ex);
+            }
+        }
+
+        Map<Object, Exception> failures = byMessage.isEmpty() ? Map.of() : send(byMessage);
+
+        List<UUID> delivered = new ArrayList<>();
+        for (Map.Entry<MimeMessage, EmailOutboxEntity> entry : byMessage.entrySet()) {
+            Exception failure = failures.get(entry.getKey());
+            if (failure == null) {
+                delivered.add(entry.getValue().getId());
+            } else {
+                undelivered.put(entry.getValue(), failure);
+            }
+        }
+        transaction.executeWithoutResult(tx -> record(delivered, undelivered));
+    }
+
+    private MimeMessage toMessage(EmailOutboxEntity email) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, email.getQrCode() != null, "UTF-8");
+        helper.setTo(email.getRecipient());
+        helper.setSubject(email.getSubject());
+        helper.setText(email.getBody());
+        if (email.getQrCode() != null) {
+            helper.addAttachment("ticket-qr.png",
+                    new ByteArrayResource(qrCodeRenderer.png(email.getQrCode())), "image/png");
+        }
+        return message;
+    }
+
+    private Map<Object, Exception> send(Map<MimeMessage, EmailOutboxEntity> byMessage) {
+        List<Semaphore> permits = permitsFor(byMessage.values());
+        int acquired = 0;
+        try {
+            // always taken in domain order, so two chunks sharing domains cannot deadlock
+            for (Semaphore permit : permits) {
+                permit.acquire();
+                acquired++;
+            }
+            awaitSendSlot(byMessage.size());
+            mailSender.send(byMessage.keySet().toArray(MimeMessage[]::new));
+            return Map.of();
+        } catch (MailSendException ex) {
+            // per-message failures when the server rejected some recipients; empty if the connection itself failed
+            return ex.getFailedMessages().isEmpty() ? allFailed(byMessage, ex) : ex.getFailedMessages();
+        } catch (MailException ex) {
+            return allFailed(byMessage, ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return allFailed(byMessage, ex);
+        } finally {
+            for (int i = 0; i < acquired; i++) {
+                permits.get(i).release();
+            }
+        }
+    }
+
+    private List<Semaphore> permitsFor(Iterable<EmailOutboxEntity> emails) {
+        if (perDomainConcurrency <= 0) {
+            return List.of();
+        }
+        TreeSet<String> domains = new TreeSet<>();
+        emails.forEach(email -> domains.add(domain(email.getRecipient())));
+        return domains.stream()
+                .map(domain -> domainPermits.get(domain, d -> new Semaphore(perDomainConcurrency)))
+                .toList();
+    }
+
+    // Reserves send time for this many messages and sleeps until it starts; chunks go out whole, so the rate holds
+    // on average rather than per message
+    private void awaitSendSlot(int messages) throws InterruptedException {
+        if (maxPerSecond <= 0) {
+            return;
+        }
+        long cost = TimeUnit.SECONDS.toNanos(messages) / maxPerSecond;
+        long now = System.nanoTime();
+        long slot = Math.max(nextSendSlot.getAndAccumulate(cost, (next, c) -> Math.max(next, now) + c), now);
+        TimeUnit.NANOSECONDS.sleep(slot - now);
+    }
+
+    private void record(List<UUID> delivered, Map<EmailOutboxEntity, Exception> undelivered) {
+        OffsetDateTime now = OffsetDateTime.now();
+        if (!delivered.isEmpty()) {
+            outboxRepository.markSent(delivered, now);
+            sent.increment(delivered.size());
+        }
+        undelivered.forEach((email, failure) -> {
+            String error = StringUtils.truncate(String.valueOf(failure.getMessage()), 500);
+            if (email.getAttempts() >= maxAttempts) {
+                email.setStatus(EmailStatus.FAILED);
+                failed.increment();
+                log.warn("Giving up on email {} to {} after {} attempts: {}",
+                        email.getId(), email.getRecipient(), email.getAttempts(), error);
+            } else {
+                email.setNextAttemptAt(now.plus(backoff(email.getAttempts())));
+                retried.increment();
+            }
+            email.setLastError(error);
+            outboxRepository.save(email);
+        });
+    }
+
+    // initial * 2^(attempt - 1), capped, with up to 20% jitter so a burst of failures does not retry in lockstep
+    private Duration backoff(int attempt) {
+        long base = initialBackoff.toMillis() << Math.min(attempt - 1, 20);
+        long capped = Math.min(base, maxBackoff.toMillis());
+        return Duration.ofMillis(capped + ThreadLocalRandom.current().nextLong(capped / 5 + 1));
+    }
+
+    private static String domain(String recipient) {
+        return recipient.substring(recipient.lastIndexOf('@') + 1).toLowerCase(Locale.ROOT);
+    }
+
+    private static Map<Object, Exception> allFailed(Map<MimeMessage, EmailOutboxEntity> byMessage,
+                                                    Exception cause) {
+        Map<Object, Exception> failures = new IdentityHashMap<>();
+        byMessage.keySet().forEach(message -> failures.put(message, cause));
+        return failures;
+    }
+}
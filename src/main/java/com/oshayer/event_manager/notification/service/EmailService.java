@@ -1,17 +1,27 @@
 package com.oshayer.event_manager.notification.service;
 
+import com.oshayer.event_manager.notification.entity.EmailOutboxEntity;
+import com.oshayer.event_manager.notification.repository.EmailOutboxRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Queues emails in the outbox as part of the caller's transaction; {@link EmailOutboxDispatcher} delivers them.
+ * Callers therefore never wait on SMTP, and an email exists exactly when the change that triggered it committed.
+ * Ticket emails carry only the QR payload here; the image is rendered off the request path, when the email is sent.
+ */
 @Service
 @RequiredArgsConstructor
+@Transactional
 public class EmailService {
 
-    private final JavaMailSender mailSender;
+    private final EmailOutboxRepository outboxRepository;
     @Value("${app.api-base-url}")
     private String apiBaseUrl;
 
@@ -19,24 +29,41 @@ public class EmailService {
         String subject = "Verify your email";
         String verificationUrl = buildTokenUrl("/api/auth/verify", token);
         String body = "Click the link to verify your email: " + verificationUrl;
-
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(to);
-        message.setSubject(subject);
-        message.setText(body);
-        mailSender.send(message);
+        enqueue(to, subject, body);
     }
 
     public void sendPasswordResetEmail(String to, String token) {
         String subject = "Reset your password";
         String resetUrl = buildTokenUrl("/api/auth/reset-password", token);
         String body = "Click the link to reset your password: " + resetUrl;
+        enqueue(to, subject, body);
+    }
+
+    /** Queues the ticket for delivery; the QR code image is rendered and attached when the email is sent. */
+    public void sendTicketEmail(String to, UUID ticketId, String qrCode, String verificationCode,
+                                String eventName, String seatLabel) {
+        String subject = "Your ticket for " + eventName;
+        String body = "Your ticket for " + eventName + " is confirmed.\n\n"
+                + "Seat: " + seatLabel + "\n"
+                + "Verification code: " + verificationCode + "\n\n"
+                + "Show the attached QR code at the gate, or give the verification code if it cannot be scanned.";
+        outboxRepository.save(EmailOutboxEntity.builder()
+                .recipient(to)
+                .subject(subject)
+                .body(body)
+                .ticketId(ticketId)
+                .qrCode(qrCode)
+                .nextAttemptAt(OffsetDateTime.now())
+                .build());
+    }
 
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(to);
-        message.setSubject(subject);
-        message.setText(body);
-        mailSender.send(message);
+    private void enqueue(String to, String subject, String body) {
+        outboxRepository.save(EmailOutboxEntity.builder()
+                .recipient(to)
+                .subject(subject)
+                .body(body)
+                .nextAttemptAt(OffsetDateTime.now())
+                .build());
     }
 
     private String buildTokenUrl(String path, String token) {
@@ -0,0 +1,65 @@
+package com.oshayer.event_manager.notification.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.zxing.BarcodeFormat;
+import com.google.zxing.EncodeHintType;
+import com.google.zxing.WriterException;
+import com.google.zxing.common.BitMatrix;
+import com.google.zxing.qrcode.QRCodeWriter;
+import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Renders ticket QR codes as PNG. Images are cached by QR payload, bounded by total bytes, so a retried or resent
+ * ticket email does not render the same code again.
+ */
+@Component
+public class QrCodeRenderer {
+
+    private static final Map<EncodeHintType, Object> HINTS = Map.of(
+            EncodeHintType.ERROR_CORRECTION, ErrorCorrectionLevel.M,
+            EncodeHintType.MARGIN, 2,
+            EncodeHintType.CHARACTER_SET, "UTF-8");
+
+    private final int size;
+    private final Cache<String, byte[]> pngs;
+
+    public QrCodeRenderer(@Value("${app.tickets.qr.size:320}") int size,
+                          @Value("${app.tickets.qr.cache-max-bytes:16777216}") long cacheMaxBytes) {
+        this.size = size;
+        this.pngs = Caffeine.newBuilder()
+                .maximumWeight(cacheMaxBytes)
+                .weigher((String qrCode, byte[] png) -> png.length)
+                .build();
+    }
+
+    public byte[] png(String qrCode) {
+        return pngs.get(qrCode, this::render);
+    }
+
+    private byte[] render(String qrCode) {
+        try {
+            BitMatrix matrix = new QRCodeWriter().encode(qrCode, BarcodeFormat.QR_CODE, size, size, HINTS);
+            BufferedImage image = new BufferedImage(matrix.getWidth(), matrix.getHeight(),
+                    BufferedImage.TYPE_BYTE_BINARY);
+            for (int y = 0; y < matrix.getHeight(); y++) {
+                for (int x = 0; x < matrix.getWidth(); x++) {
+                    image.setRGB(x, y, matrix.get(x, y) ? 0x000000 : 0xFFFFFF);
+                }
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream(2048);
+            ImageIO.write(image, "png", out);
+            return out.toByteArray();
+        } catch (WriterException | IOException e) {
+            throw new IllegalStateException("Could not render QR code", e);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.oshayer.event_manager.payments.controller;
 import com.oshayer.event_manager.payments.dto.CreatePaymentIntentRequest;
 import com.oshayer.event_manager.payments.dto.CreatePaymentIntentResponse;
 import com.oshayer.event_manager.payments.service.PaymentService;
+import com.oshayer.event_manager.shared.idempotency.IdempotentRequests;
 import com.stripe.exception.StripeException;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
@@ -10,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
@@ -21,11 +23,19 @@ import org.springframework.http.HttpStatus;
 public class PaymentController {
 
     private final PaymentService paymentService;
+    private final IdempotentRequests idempotentRequests;
 
     @PostMapping("/intents")
-    public ResponseEntity<CreatePaymentIntentResponse> createIntent(@Valid @RequestBody CreatePaymentIntentRequest request) {
+    public ResponseEntity<CreatePaymentIntentResponse> createIntent(
+            @RequestHeader(value = IdempotentRequests.HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody CreatePaymentIntentRequest request) {
+        return idempotentRequests.execute("payments.intents", idempotencyKey, request,
+                CreatePaymentIntentResponse.class, () -> createPaymentIntent(request));
+    }
+
+    private CreatePaymentIntentResponse createPaymentIntent(CreatePaymentIntentRequest request) {
         try {
-            return ResponseEntity.ok(paymentService.createPaymentIntent(request));
+            return paymentService.createPaymentIntent(request);
         } catch (EntityNotFoundException ex) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, ex.getMessage(), ex);
         } catch (IllegalStateException ex) {
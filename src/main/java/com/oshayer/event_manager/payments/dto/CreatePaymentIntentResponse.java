@@ -3,11 +3,13 @@ package com.oshayer.event_manager.payments.dto;
 import com.oshayer.event_manager.payments.entity.PaymentStatus;
 import lombok.Builder;
 import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 
 import java.util.UUID;
 
 @Value
 @Builder
+@Jacksonized
 public class CreatePaymentIntentResponse {
     UUID paymentId;
     String paymentIntentId;
@@ -1,6 +1,5 @@
 package com.oshayer.event_manager.payments.service.impl;
 
-import com.oshayer.event_manager.events.entity.EventSeatEntity;
 import com.oshayer.event_manager.payments.config.StripeProperties;
 import com.oshayer.event_manager.payments.dto.CreatePaymentIntentRequest;
 import com.oshayer.event_manager.payments.dto.CreatePaymentIntentResponse;
@@ -9,6 +8,7 @@ import com.oshayer.event_manager.payments.entity.PaymentStatus;
 import com.oshayer.event_manager.payments.repository.PaymentRepository;
 import com.oshayer.event_manager.payments.service.PaymentService;
 import com.oshayer.event_manager.ticketing.dto.HoldConvertRequest;
+import com.oshayer.event_manager.ticketing.dto.HoldReleaseRequest;
 import com.oshayer.event_manager.ticketing.entity.ReservationHoldEntity;
 import com.oshayer.event_manager.ticketing.entity.ReservationHoldEntity.HoldStatus;
 import com.oshayer.event_manager.ticketing.repository.ReservationHoldRepository;
@@ -25,13 +25,16 @@ import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 @Slf4j
 @Service
@@ -43,12 +46,44 @@ public class StripePaymentService implements PaymentService {
     private final ReservationHoldService reservationHoldService;
     private final PaymentRepository paymentRepository;
     private final StripeProperties stripeProperties;
+    private final TransactionTemplate transactionTemplate;
 
+    /**
+     * Runs in three steps so no JDBC connection or row lock is held while Stripe is on the wire: the payment row
+     * is committed first, the intent is created outside any transaction, and its id and status are written back in
+     * a second short transaction. The payment id doubles as Stripe's idempotency key, so retrying after a failure
+     * between the steps cannot create a second intent for the same payment.
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CreatePaymentIntentResponse createPaymentIntent(CreatePaymentIntentRequest request) throws StripeException {
         if (!StringUtils.hasText(stripeProperties.getSecretKey())) {
             throw new IllegalStateException("Stripe secret key is not configured");
         }
+        PendingIntent pending = transactionTemplate.execute(tx -> preparePayment(request));
+
+        PaymentIntent intent;
+        try {
+            intent = PaymentIntent.create(pending.params(), RequestOptions.builder()
+                    .setIdempotencyKey(pending.paymentId().toString())
+                    .build());
+        } catch (StripeException | RuntimeException ex) {
+            transactionTemplate.executeWithoutResult(tx -> markFailed(pending.paymentId(), ex));
+            throw ex;
+        }
+
+        PaymentEntity payment = transactionTemplate.execute(tx -> recordIntent(pending.paymentId(), intent));
+        return CreatePaymentIntentResponse.builder()
+                .paymentId(payment.getId())
+                .paymentIntentId(intent.getId())
+                .clientSecret(intent.getClientSecret())
+                .amountCents(payment.getAmountCents())
+                .currency(payment.getCurrency())
+                .status(payment.getStatus())
+                .build();
+    }
+
+    private PendingIntent preparePayment(CreatePaymentIntentRequest request) {
         ReservationHoldEntity hold = holdRepository.findById(request.getHoldId())
                 .orElseThrow(() -> new EntityNotFoundException("Hold not found"));
         validateHold(hold);
@@ -96,23 +131,23 @@ public class StripePaymentService implements PaymentService {
             paramsBuilder.setDescription(request.getDescription());
         }
 
-        RequestOptions requestOptions = RequestOptions.builder()
-                .setIdempotencyKey(payment.getId().toString())
-                .build();
+        return new PendingIntent(payment.getId(), paramsBuilder.build());
+    }
 
-        PaymentIntent intent = PaymentIntent.create(paramsBuilder.build(), requestOptions);
+    private PaymentEntity recordIntent(UUID paymentId, PaymentIntent intent) {
+        PaymentEntity payment = paymentRepository.findById(paymentId)
+                .orElseThrow(() -> new EntityNotFoundException("Payment not found"));
         payment.setStripePaymentIntentId(intent.getId());
         payment.setStatus(mapStripeStatus(intent.getStatus()));
-        paymentRepository.save(payment);
+        return paymentRepository.save(payment);
+    }
 
-        return CreatePaymentIntentResponse.builder()
-                .paymentId(payment.getId())
-                .paymentIntentId(intent.getId())
-                .clientSecret(intent.getClientSecret())
-                .amountCents(amountCents)
-                .currency(currency)
-                .status(payment.getStatus())
-                .build();
+    private void markFailed(UUID paymentId, Exception cause) {
+        paymentRepository.findById(paymentId).ifPresent(payment -> {
+            payment.setStatus(PaymentStatus.FAILED);
+            payment.setLastError(StringUtils.truncate("Stripe intent creation failed: " + cause.getMessage(), 500));
+            paymentRepository.save(payment);
+        });
     }
 
     @Override
@@ -169,11 +204,8 @@ public class StripePaymentService implements PaymentService {
         if (hold.getStatus() != HoldStatus.ACTIVE) {
             return;
         }
-        hold.setStatus(HoldStatus.RELEASED);
-        if (hold.getHeldSeats() != null) {
-            hold.getHeldSeats().forEach(seat -> seat.setStatus(EventSeatEntity.EventSeatStatus.AVAILABLE));
-        }
-        holdRepository.save(hold);
+        // Goes through the hold service so the seats are released in the seat inventory too
+        reservationHoldService.release(new HoldReleaseRequest(hold.getId(), "Payment " + payment.getStatus()));
     }
 
     private void validateHold(ReservationHoldEntity hold) {
@@ -183,7 +215,7 @@ public class StripePaymentService implements PaymentService {
         if (hold.getExpiresAt().isBefore(OffsetDateTime.now())) {
             throw new IllegalStateException("Hold has expired");
         }
-        if (hold.getHeldSeats() == null || hold.getHeldSeats().isEmpty()) {
+        if (hold.getLineItems() == null || hold.getLineItems().items().isEmpty()) {
             throw new IllegalStateException("Hold does not contain any seats");
         }
     }
@@ -196,15 +228,9 @@ public class StripePaymentService implements PaymentService {
         return orderTotal.movePointRight(2).longValueExact();
     }
 
+    // Prices as they were when the hold was created, not whatever the seat rows say now
     private BigDecimal calculateSeatTotal(ReservationHoldEntity hold) {
-        return hold.getHeldSeats().stream()
-                .map(seat -> {
-                    if (seat.getPrice() == null) {
-                        throw new IllegalStateException("Seat price missing for seat " + seat.getId());
-                    }
-                    return seat.getPrice();
-                })
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return hold.getLineItems().subtotal();
     }
 
     private PaymentStatus mapStripeStatus(String stripeStatus) {
@@ -231,4 +257,6 @@ public class StripePaymentService implements PaymentService {
         }
         return "usd";
     }
+
+    private record PendingIntent(UUID paymentId, PaymentIntentCreateParams params) {}
 }
@@ -4,12 +4,16 @@ import com.oshayer.event_manager.seat.dto.BanquetLayoutDTO;
 import com.oshayer.event_manager.seat.dto.HybridLayoutDTO;
 import com.oshayer.event_manager.seat.dto.SeatLayoutDTO;
 import com.oshayer.event_manager.seat.service.SeatLayoutService;
+import com.oshayer.event_manager.shared.web.ConditionalResponses;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 
@@ -18,6 +22,9 @@ import java.util.UUID;
 @RequestMapping("/api")
 public class SeatLayoutController {
 
+    // Layouts only change on admin edits; after the max-age clients revalidate with the ETag
+    private static final CacheControl LAYOUT_CACHE = CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic();
+
     private final SeatLayoutService seatLayoutService;
 
     // -------- venue-scoped routes (recommended) --------
@@ -56,8 +63,9 @@ public class SeatLayoutController {
     // -------- id-scoped routes (generic) --------
 
     @GetMapping("/seat-layouts/{id}")
-    public ResponseEntity<SeatLayoutDTO> getOne(@PathVariable UUID id) {
-        return ResponseEntity.ok(seatLayoutService.getSeatLayout(id));
+    public ResponseEntity<SeatLayoutDTO> getOne(@PathVariable UUID id, WebRequest request) {
+        return ConditionalResponses.withETag(request, seatLayoutService.getCacheTag(id), LAYOUT_CACHE,
+                () -> seatLayoutService.getSeatLayout(id));
     }
 
     @PutMapping("/seat-layouts/{id}")
@@ -74,8 +82,9 @@ public class SeatLayoutController {
     }
 
     @GetMapping("/seat-layouts/{id}/banquet")
-    public ResponseEntity<BanquetLayoutDTO> getBanquetLayout(@PathVariable UUID id) {
-        return ResponseEntity.ok(seatLayoutService.getBanquetLayout(id));
+    public ResponseEntity<BanquetLayoutDTO> getBanquetLayout(@PathVariable UUID id, WebRequest request) {
+        return ConditionalResponses.withETag(request, seatLayoutService.getCacheTag(id), LAYOUT_CACHE,
+                () -> seatLayoutService.getBanquetLayout(id));
     }
 
     @PutMapping("/seat-layouts/{id}/banquet")
@@ -86,8 +95,9 @@ public class SeatLayoutController {
     }
 
     @GetMapping("/seat-layouts/{id}/hybrid")
-    public ResponseEntity<HybridLayoutDTO> getHybridLayout(@PathVariable UUID id) {
-        return ResponseEntity.ok(seatLayoutService.getHybridLayout(id));
+    public ResponseEntity<HybridLayoutDTO> getHybridLayout(@PathVariable UUID id, WebRequest request) {
+        return ConditionalResponses.withETag(request, seatLayoutService.getCacheTag(id), LAYOUT_CACHE,
+                () -> seatLayoutService.getHybridLayout(id));
     }
 
     @PutMapping("/seat-layouts/{id}/hybrid")
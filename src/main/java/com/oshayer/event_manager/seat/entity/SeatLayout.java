@@ -3,6 +3,8 @@ package com.oshayer.event_manager.seat.entity;
 import com.oshayer.event_manager.venues.entity.EventVenue;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -12,6 +14,8 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "seat-layouts")
 @Table(
         name = "seat_layout",
         uniqueConstraints = @UniqueConstraint(
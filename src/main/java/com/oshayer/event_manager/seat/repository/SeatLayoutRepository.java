@@ -2,6 +2,7 @@ package com.oshayer.event_manager.seat.repository;
 
 import com.oshayer.event_manager.seat.entity.SeatLayout;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
@@ -13,4 +14,15 @@ public interface SeatLayoutRepository extends JpaRepository<SeatLayout, UUID> {
 
     // NEW: used to enforce layout belongs to the venue during event creation
     Optional<SeatLayout> findByIdAndVenue_Id(UUID id, UUID venueId);
+
+    /**
+     * Changes whenever the layout row does (banquet and hybrid designs live on it too). Empty when the layout
+     * does not exist. Backs the ETags of the layout read endpoints.
+     */
+    @Query(value = """
+        select md5(concat_ws('|', l.id, l.created_at, l.edited_at))
+        from seat_layout l
+        where l.id = :layoutId
+    """, nativeQuery = true)
+    Optional<String> findCacheTag(UUID layoutId);
 }
@@ -10,6 +10,8 @@ import java.util.UUID;
 public interface SeatLayoutService {
     SeatLayoutDTO createSeatLayout(UUID venueId, SeatLayoutDTO dto);
     SeatLayoutDTO getSeatLayout(UUID id);
+    /** Token that changes whenever any read representation of the layout does; used as its ETag. */
+    String getCacheTag(UUID id);
     List<SeatLayoutDTO> getSeatLayoutsByVenue(UUID venueId);
     SeatLayoutDTO updateSeatLayout(UUID id, SeatLayoutDTO dto);
     SeatLayoutDTO updateSeatLayout(UUID venueId, UUID layoutId, SeatLayoutDTO dto);
@@ -14,6 +14,7 @@ import com.oshayer.event_manager.seat.entity.SeatLayout;
 import com.oshayer.event_manager.seat.repository.SeatLayoutRepository;
 import com.oshayer.event_manager.seat.repository.SeatRepository;
 import com.oshayer.event_manager.seat.service.SeatLayoutService;
+import com.oshayer.event_manager.shared.cache.ReferenceDataCache;
 import com.oshayer.event_manager.venues.entity.EventVenue;
 import com.oshayer.event_manager.venues.repository.EventVenueRepository;
 import lombok.RequiredArgsConstructor;
@@ -42,6 +43,7 @@ public class SeatLayoutServiceImpl implements SeatLayoutService {
     private final EventVenueRepository venueRepository;
     private final SeatRepository seatRepository;
     private final ObjectMapper objectMapper;
+    private final ReferenceDataCache referenceDataCache;
 
     @Override
     public SeatLayoutDTO createSeatLayout(UUID venueId, SeatLayoutDTO dto) {
@@ -79,6 +81,13 @@ public class SeatLayoutServiceImpl implements SeatLayoutService {
                 .orElseThrow(() -> new IllegalArgumentException("Seat layout not found: " + id));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public String getCacheTag(UUID id) {
+        return seatLayoutRepository.findCacheTag(id)
+                .orElseThrow(() -> new IllegalArgumentException("Seat layout not found: " + id));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<SeatLayoutDTO> getSeatLayoutsByVenue(UUID venueId) {
@@ -105,6 +114,7 @@ public class SeatLayoutServiceImpl implements SeatLayoutService {
     @Override
     public void deleteSeatLayout(UUID id) {
         seatLayoutRepository.deleteById(id);
+        referenceDataCache.evictAfterCommit(SeatLayout.class, id);
     }
 
     @Override
@@ -113,6 +123,7 @@ public class SeatLayoutServiceImpl implements SeatLayoutService {
                 .orElseThrow(() -> new IllegalArgumentException(
                         "Seat layout not found for venue %s with id %s".formatted(venueId, layoutId)));
         seatLayoutRepository.delete(layout);
+        referenceDataCache.evictAfterCommit(SeatLayout.class, layoutId);
     }
 
     @Override
@@ -148,6 +159,7 @@ public class SeatLayoutServiceImpl implements SeatLayoutService {
         syncBanquetSeats(layout, layoutDTO);
 
         seatLayoutRepository.save(layout);
+        referenceDataCache.evictAfterCommit(SeatLayout.class, layoutId);
         return layoutDTO;
     }
 
@@ -177,6 +189,7 @@ public class SeatLayoutServiceImpl implements SeatLayoutService {
         syncHybridSeats(layout, sanitized);
 
         seatLayoutRepository.save(layout);
+        referenceDataCache.evictAfterCommit(SeatLayout.class, layoutId);
         return sanitized;
     }
 
@@ -202,7 +215,9 @@ public class SeatLayoutServiceImpl implements SeatLayoutService {
             layout.setLayoutConfiguration(serializeConfiguration(dto.getConfiguration()));
         }
 
-        return toDTO(seatLayoutRepository.save(layout));
+        SeatLayout saved = seatLayoutRepository.save(layout);
+        referenceDataCache.evictAfterCommit(SeatLayout.class, saved.getId());
+        return toDTO(saved);
     }
 
     private SeatLayoutDTO toDTO(SeatLayout layout) {
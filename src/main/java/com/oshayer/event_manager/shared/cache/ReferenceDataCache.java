@@ -0,0 +1,43 @@
+package com.oshayer.event_manager.shared.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Explicit eviction for the second-level cache regions holding reference data (venues, seat layouts, artists,
+ * sponsors, business organizations). Hibernate already updates a READ_WRITE region when the entity is written
+ * through the session; evicting once the transaction has committed also covers providers that replicate by
+ * invalidation, so no node keeps serving a copy it read before the commit.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataCache {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /** Evicts the cached entity after the surrounding transaction commits, or right away outside one. */
+    public void evictAfterCommit(Class<?> type, Object id) {
+        afterCommit(() -> entityManagerFactory.getCache().evict(type, id));
+    }
+
+    /** Evicts every cached entity of the type, for writes that cascade to rows the caller does not track. */
+    public void evictAllAfterCommit(Class<?> type) {
+        afterCommit(() -> entityManagerFactory.getCache().evict(type));
+    }
+
+    private void afterCommit(Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.run();
+            }
+        });
+    }
+}
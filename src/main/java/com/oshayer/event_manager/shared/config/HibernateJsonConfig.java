@@ -0,0 +1,23 @@
+package com.oshayer.event_manager.shared.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.type.format.jackson.JacksonJsonFormatMapper;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Makes Hibernate (de)serialize {@code SqlTypes.JSON} attributes with the application's ObjectMapper instead of
+ * building a private one. The shared mapper caches its serializers and recycles Jackson's buffers across calls,
+ * and JSON columns come out with the same modules and settings as the REST responses.
+ */
+@Configuration
+public class HibernateJsonConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer jsonFormatMapperCustomizer(ObjectMapper objectMapper) {
+        return properties -> properties.put(AvailableSettings.JSON_FORMAT_MAPPER,
+                new JacksonJsonFormatMapper(objectMapper));
+    }
+}
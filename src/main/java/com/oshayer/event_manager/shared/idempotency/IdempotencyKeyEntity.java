@@ -0,0 +1,45 @@
+package com.oshayer.event_manager.shared.idempotency;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.OffsetDateTime;
+
+/**
+ * One {@code Idempotency-Key} seen on a create endpoint. Rows are written and claimed with native upserts in
+ * {@link IdempotencyKeyRepository}; the entity is only read to replay a completed response.
+ */
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+@Entity
+@Table(
+        name = "idempotency_keys",
+        indexes = @Index(name = "idx_idempotency_expires", columnList = "expires_at")
+)
+public class IdempotencyKeyEntity {
+
+    // "<scope>:<client key>", so the same key sent to two endpoints does not collide
+    @Id
+    @Column(name = "id", length = 320)
+    private String id;
+
+    // SHA-256 of the caller and the request body; a reused key with a different request is rejected
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+
+    // JSON of the original response, set once the request completed
+    @Column(name = "response_body", columnDefinition = "text")
+    private String responseBody;
+
+    @Column(name = "created_at", nullable = false)
+    private OffsetDateTime createdAt;
+
+    // lease while IN_PROGRESS, retention once COMPLETED
+    @Column(name = "expires_at", nullable = false)
+    private OffsetDateTime expiresAt;
+
+    public enum Status { IN_PROGRESS, COMPLETED }
+}
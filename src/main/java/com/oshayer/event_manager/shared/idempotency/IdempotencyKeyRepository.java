@@ -0,0 +1,55 @@
+package com.oshayer.event_manager.shared.idempotency;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.OffsetDateTime;
+
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKeyEntity, String> {
+
+    /**
+     * Claims the key for this request: inserts it as IN_PROGRESS, or takes over a row whose lease or retention
+     * has run out. Returns 0 when another request holds the key, in which case the caller replays or rejects.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "idempotency_keys"))
+    @Query(value = """
+        insert into idempotency_keys (id, request_hash, status, response_body, created_at, expires_at)
+        values (:id, :requestHash, 'IN_PROGRESS', null, :now, :leaseUntil)
+        on conflict (id) do update
+            set request_hash = excluded.request_hash,
+                status = excluded.status,
+                response_body = null,
+                created_at = excluded.created_at,
+                expires_at = excluded.expires_at
+            where idempotency_keys.expires_at < excluded.created_at
+    """, nativeQuery = true)
+    int claim(String id, String requestHash, OffsetDateTime now, OffsetDateTime leaseUntil);
+
+    @Modifying
+    @Query("""
+        update IdempotencyKeyEntity k
+        set k.status = com.oshayer.event_manager.shared.idempotency.IdempotencyKeyEntity.Status.COMPLETED,
+            k.responseBody = :responseBody,
+            k.expiresAt = :retainUntil
+        where k.id = :id
+    """)
+    int complete(String id, String responseBody, OffsetDateTime retainUntil);
+
+    /** Drops an unfinished claim so the client's retry executes the request again. */
+    @Modifying
+    @Query("""
+        delete from IdempotencyKeyEntity k
+        where k.id = :id
+          and k.status = 'IN_PROGRESS'
+    """)
+    int abandon(String id);
+
+    @Modifying
+    @Query("delete from IdempotencyKeyEntity k where k.expiresAt < :now")
+    int deleteExpired(OffsetDateTime now);
+}
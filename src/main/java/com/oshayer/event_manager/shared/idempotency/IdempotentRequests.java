@@ -0,0 +1,182 @@
+package com.oshayer.event_manager.shared.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+/**
+ * Runs a create request at most once per {@code Idempotency-Key}. The first request claims the key, executes,
+ * and stores its response; retries with the same key and body get that response back, marked with
+ * {@value #REPLAYED_HEADER}, without touching inventory or payments again. Completed responses are also kept in a
+ * short-lived in-memory cache so a burst of retries is answered without a database round trip.
+ * <p>
+ * A retry that arrives while the first attempt is still running gets 409, a key reused with a different body or
+ * by a different caller gets 422. A request that fails gives its key up, so the retry executes normally.
+ */
+@Slf4j
+@Component
+public class IdempotentRequests {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyKeyRepository repository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transaction;
+    private final Duration lease;
+    private final Duration retention;
+    private final Cache<String, StoredResponse> recent;
+    private final MeterRegistry meterRegistry;
+
+    public IdempotentRequests(IdempotencyKeyRepository repository,
+                              ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.idempotency.lease:PT2M}") Duration lease,
+                              @Value("${app.idempotency.retention:PT24H}") Duration retention,
+                              @Value("${app.idempotency.front-cache.ttl:PT5M}") Duration frontCacheTtl,
+                              @Value("${app.idempotency.front-cache.max-size:10000}") long frontCacheMaxSize) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.lease = lease;
+        this.retention = retention;
+        this.meterRegistry = meterRegistry;
+        this.recent = Caffeine.newBuilder()
+                .expireAfterWrite(frontCacheTtl.compareTo(retention) < 0 ? frontCacheTtl : retention)
+                .maximumSize(frontCacheMaxSize)
+                .build();
+    }
+
+    /**
+     * Executes {@code action} under the client's key, or replays the response it produced before. Without a key
+     * the action simply runs.
+     *
+     * @param scope    names the endpoint, so equal keys sent to different endpoints stay apart
+     * @param key      the {@value #HEADER} header, may be null
+     * @param request  the request body, fingerprinted to detect a key reused for a different request
+     */
+    public <T> ResponseEntity<T> execute(String scope, String key, Object request, Class<T> responseType,
+                                         Supplier<T> action) {
+        if (key == null || key.isBlank()) {
+            return ResponseEntity.ok(action.get());
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    HEADER + " must be at most " + MAX_KEY_LENGTH + " characters");
+        }
+        String id = scope + ':' + key;
+        String requestHash = fingerprint(request);
+
+        StoredResponse cached = recent.getIfPresent(id);
+        if (cached != null) {
+            return replay(scope, cached, requestHash, responseType);
+        }
+
+        OffsetDateTime now = OffsetDateTime.now();
+        Integer claimed = transaction.execute(tx -> repository.claim(id, requestHash, now, now.plus(lease)));
+        if (claimed == null || claimed == 0) {
+            return replay(scope, load(id), requestHash, responseType);
+        }
+
+        T response;
+        try {
+            response = action.get();
+        } catch (RuntimeException | Error ex) {
+            transaction.executeWithoutResult(tx -> repository.abandon(id));
+            throw ex;
+        }
+
+        String body = write(response);
+        transaction.executeWithoutResult(tx -> repository.complete(id, body, OffsetDateTime.now().plus(retention)));
+        recent.put(id, new StoredResponse(requestHash, body));
+        return ResponseEntity.ok(response);
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        Integer purged = transaction.execute(tx -> repository.deleteExpired(OffsetDateTime.now()));
+        if (purged != null && purged > 0) {
+            log.debug("Purged {} expired idempotency keys", purged);
+        }
+    }
+
+    private StoredResponse load(String id) {
+        IdempotencyKeyEntity existing = repository.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.CONFLICT,
+                        "A request with this " + HEADER + " is still being processed"));
+        if (existing.getStatus() != IdempotencyKeyEntity.Status.COMPLETED) {
+            // still leased to the first attempt; report the mismatch before telling the client to wait
+            return new StoredResponse(existing.getRequestHash(), null);
+        }
+        StoredResponse stored = new StoredResponse(existing.getRequestHash(), existing.getResponseBody());
+        recent.put(id, stored);
+        return stored;
+    }
+
+    private <T> ResponseEntity<T> replay(String scope, StoredResponse stored, String requestHash, Class<T> type) {
+        if (!stored.requestHash().equals(requestHash)) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY,
+                    HEADER + " was already used for a different request");
+        }
+        if (stored.body() == null) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "A request with this " + HEADER + " is still being processed");
+        }
+        meterRegistry.counter("http.server.requests.idempotent.replayed", "scope", scope).increment();
+        try {
+            return ResponseEntity.ok()
+                    .header(REPLAYED_HEADER, "true")
+                    .body(objectMapper.readValue(stored.body(), type));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Stored response for " + scope + " cannot be read", ex);
+        }
+    }
+
+    // Ties the key to the caller as well as the body, so one user's key cannot replay another user's response
+    private String fingerprint(Object request) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        String caller = auth != null ? auth.getName() : "";
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(caller.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            digest.update(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException | JsonProcessingException ex) {
+            throw new IllegalStateException("Cannot fingerprint request", ex);
+        }
+    }
+
+    private String write(Object response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Cannot store response", ex);
+        }
+    }
+
+    private record StoredResponse(String requestHash, String body) {}
+}
@@ -0,0 +1,20 @@
+package com.oshayer.event_manager.shared.observability;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * How many SQL statements a request to this handler may run, checked by {@link SqlStatementMetricsFilter}.
+ * Authentication runs before the count opens and is not included. Pinning the count of a read path turns
+ * an N+1 regression into a warning (or, with {@code app.sql.statement-budget.fail-on-exceed}, a failed
+ * request) instead of a slow page under load.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SqlStatementBudget {
+    int value();
+}
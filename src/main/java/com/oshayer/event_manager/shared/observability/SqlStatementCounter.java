@@ -0,0 +1,33 @@
+package com.oshayer.event_manager.shared.observability;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread while a count is open.
+ * Registered through {@code hibernate.session_factory.statement_inspector}, so Hibernate creates the
+ * instance; the count itself lives in a thread local opened by {@link SqlStatementMetricsFilter}.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    public static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    /** Closes the count on this thread and returns it (0 if none was open). */
+    public static int stop() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count == null ? 0 : count[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,83 @@
+package com.oshayer.event_manager.shared.observability;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records how many SQL statements each request ran as {@code http.server.requests.sql.statements}, tagged
+ * like Spring's own request metrics, and warns about requests above their budget: the handler's
+ * {@link SqlStatementBudget} if it has one, the configured default otherwise. N+1 regressions show up as a
+ * per-request maximum that grows with the page size.
+ * <p>
+ * With {@code app.sql.statement-budget.fail-on-exceed} set (tests, staging) an exceeded budget also fails the
+ * request, so a regression breaks the build rather than a dashboard.
+ */
+@Slf4j
+@Component
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final int warnThreshold;
+    private final boolean failOnExceed;
+
+    public SqlStatementMetricsFilter(MeterRegistry meterRegistry,
+                                     @Value("${app.sql.statements-per-request-warn:25}") int warnThreshold,
+                                     @Value("${app.sql.statement-budget.fail-on-exceed:false}") boolean failOnExceed) {
+        this.meterRegistry = meterRegistry;
+        this.warnThreshold = warnThreshold;
+        this.failOnExceed = failOnExceed;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlStatementCounter.start();
+        int statements;
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            statements = SqlStatementCounter.stop();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+            DistributionSummary.builder("http.server.requests.sql.statements")
+                    .description("SQL statements prepared per HTTP request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .record(statements);
+            if (statements > budget(request)) {
+                log.warn("{} {} ran {} SQL statements (budget {})",
+                        request.getMethod(), uri, statements, budget(request));
+                meterRegistry.counter("http.server.requests.sql.budget.exceeded",
+                        "method", request.getMethod(), "uri", uri).increment();
+            }
+        }
+        // Only reached when the handler itself succeeded, so its own exception is never masked
+        if (failOnExceed && statements > budget(request)) {
+            throw new IllegalStateException("%s %s ran %d SQL statements, budget is %d"
+                    .formatted(request.getMethod(), request.getRequestURI(), statements, budget(request)));
+        }
+    }
+
+    private int budget(HttpServletRequest request) {
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler) {
+            SqlStatementBudget budget = handler.getMethodAnnotation(SqlStatementBudget.class);
+            if (budget != null) {
+                return budget.value();
+            }
+        }
+        return warnThreshold;
+    }
+}
@@ -32,7 +32,8 @@ public class SecurityConfig {
 
     /**
      * Chain 1: Public APIs — no authentication, no JWT filter
-     * This includes Venues, Seat Layouts, Events, Test, and Auth.
+     * This includes Venues, Seat Layouts, Events, Test, and the anonymous Auth endpoints
+     * (change-password and logout act on the caller's token, so they go through chain 2).
      */
     @Bean
     @Order(1)
@@ -44,7 +45,11 @@ public class SecurityConfig {
                         "/api/seat-layouts/**",
                         "/api/events/**",
                         "/api/test/**",
-                        "/api/auth/**",
+                        "/api/auth/signup",
+                        "/api/auth/login",
+                        "/api/auth/verify",
+                        "/api/auth/forgot-password",
+                        "/api/auth/reset-password",
                         "/api/business-organizations/**",
                         "/api/artists/**",
                         "/api/sponsors/**",
@@ -0,0 +1,37 @@
+package com.oshayer.event_manager.shared.web;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Supplier;
+
+/**
+ * ETag handling for read endpoints whose state can be versioned cheaply. The version is checked against
+ * {@code If-None-Match} first and the body is only built when the client's copy is stale.
+ */
+public final class ConditionalResponses {
+
+    private ConditionalResponses() {
+    }
+
+    /**
+     * @param version opaque token that changes whenever the representation does (no quotes)
+     * @param body    builds the representation; not called when a 304 is sent
+     */
+    public static <T> ResponseEntity<T> withETag(WebRequest request, String version, CacheControl cacheControl,
+                                                 Supplier<T> body) {
+        String etag = "\"" + version + "\"";
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .body(body.get());
+    }
+}
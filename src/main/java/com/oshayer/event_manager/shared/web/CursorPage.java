@@ -0,0 +1,58 @@
+package com.oshayer.event_manager.shared.web;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated listing. {@code nextCursor} is null on the last page; otherwise the client
+ * passes it back as {@code cursor} to continue after the last item. Unlike offset pages there is no total
+ * count, and the cost of a page does not grow with how deep the client has scrolled.
+ */
+public record CursorPage<T>(List<T> items, String nextCursor) {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    /** Requested page size, defaulted and capped at {@link #MAX_LIMIT}. */
+    public static int limit(Integer requested) {
+        if (requested == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (requested < 1) {
+            throw new IllegalArgumentException("limit must be at least 1");
+        }
+        return Math.min(requested, MAX_LIMIT);
+    }
+
+    /** What to fetch for a page: one row more than the limit tells whether another page follows. */
+    public static Pageable fetch(int limit, Sort sort) {
+        return PageRequest.of(0, limit + 1, sort);
+    }
+
+    /** As {@link #fetch(int, Sort)}, for queries that fix their own order. */
+    public static Pageable fetch(int limit) {
+        return PageRequest.of(0, limit + 1);
+    }
+
+    /** Lower-case LIKE pattern matching names that contain {@code fragment}; null when there is nothing to match. */
+    public static String containsPattern(String fragment) {
+        if (fragment == null || fragment.isBlank()) {
+            return null;
+        }
+        return "%" + fragment.trim().toLowerCase(Locale.ROOT) + "%";
+    }
+
+    /** Builds the page from rows fetched with {@link #fetch}, in page order. */
+    public static <T> CursorPage<T> of(List<T> rows, int limit, Function<T, KeysetCursor> cursorOf) {
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = List.copyOf(rows.subList(0, limit));
+        return new CursorPage<>(items, cursorOf.apply(items.get(limit - 1)).encode());
+    }
+}
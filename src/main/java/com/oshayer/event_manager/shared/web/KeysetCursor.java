@@ -0,0 +1,46 @@
+package com.oshayer.event_manager.shared.web;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in a keyset-paginated listing: the sort key and id of the last row a client has seen. Travels as
+ * an opaque URL-safe token; the id breaks ties between rows with the same key.
+ */
+public record KeysetCursor(String key, UUID id) {
+
+    public KeysetCursor(OffsetDateTime key, UUID id) {
+        this(key.toString(), id);
+    }
+
+    /** The key of a cursor built from a timestamp. */
+    public OffsetDateTime timestampKey() {
+        try {
+            return OffsetDateTime.parse(key);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + encode());
+        }
+    }
+
+    public String encode() {
+        byte[] raw = (id + ":" + key).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    /** Null for a missing cursor (first page); rejects tokens this class did not produce. */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            return new KeysetCursor(raw.substring(separator + 1), UUID.fromString(raw.substring(0, separator)));
+        } catch (IllegalArgumentException | StringIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+}
@@ -2,11 +2,12 @@ package com.oshayer.event_manager.sponsors.controller;
 
 import com.oshayer.event_manager.sponsors.dto.*;
 import com.oshayer.event_manager.sponsors.service.SponsorService;
+import com.oshayer.event_manager.shared.web.CursorPage;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -25,8 +26,13 @@ public class SponsorController {
     }
 
     @GetMapping
-    public ResponseEntity<List<SponsorResponse>> getAll() {
-        return ResponseEntity.ok(service.getAll());
+    public ResponseEntity<CursorPage<SponsorResponse>> list(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "asc") String direction) {
+        return ResponseEntity.ok(service.list(q, category, cursor, limit, Sort.Direction.fromString(direction)));
     }
 
     @GetMapping("/{id}")
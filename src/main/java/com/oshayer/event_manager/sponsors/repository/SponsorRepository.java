@@ -1,12 +1,33 @@
 package com.oshayer.event_manager.sponsors.repository;
 
+import com.oshayer.event_manager.sponsors.dto.SponsorResponse;
 import com.oshayer.event_manager.sponsors.entity.SponsorEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface SponsorRepository extends JpaRepository<SponsorEntity, UUID> {
     Optional<SponsorEntity> findByName(String name);
-}
 
+    /**
+     * Keyset page of sponsors straight into response DTOs, optionally filtered by a lower-case name pattern
+     * and an exact category. Paging works as in {@code ArtistRepository.findPage}.
+     */
+    @Query("""
+        select new com.oshayer.event_manager.sponsors.dto.SponsorResponse(
+            s.id, s.name, s.description, s.email, s.mobile, s.address, s.category,
+            s.facebookLink, s.instagramLink, s.youtubeLink, s.websiteLink, s.imageUrl)
+        from SponsorEntity s
+        where (:pattern is null or lower(s.name) like :pattern)
+          and (:category is null or s.category = :category)
+          and (:afterId is null
+               or (:descending = false and (s.name > :afterName or (s.name = :afterName and s.id > :afterId)))
+               or (:descending = true and (s.name < :afterName or (s.name = :afterName and s.id < :afterId))))
+    """)
+    List<SponsorResponse> findPage(String pattern, String category, String afterName, UUID afterId,
+                                   boolean descending, Pageable pageable);
+}
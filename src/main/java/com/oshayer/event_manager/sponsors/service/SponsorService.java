@@ -1,13 +1,15 @@
 package com.oshayer.event_manager.sponsors.service;
 
 import com.oshayer.event_manager.sponsors.dto.*;
+import com.oshayer.event_manager.shared.web.CursorPage;
+import org.springframework.data.domain.Sort;
 
-import java.util.List;
 import java.util.UUID;
 
 public interface SponsorService {
     SponsorResponse create(SponsorCreateRequest request);
-    List<SponsorResponse> getAll();
+    CursorPage<SponsorResponse> list(String query, String category, String cursor, Integer limit,
+                                     Sort.Direction direction);
     SponsorResponse getById(UUID id);
     SponsorResponse update(UUID id, SponsorUpdateRequest request);
     void delete(UUID id);
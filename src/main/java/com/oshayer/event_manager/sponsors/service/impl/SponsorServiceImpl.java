@@ -4,21 +4,26 @@ import com.oshayer.event_manager.sponsors.dto.*;
 import com.oshayer.event_manager.sponsors.entity.SponsorEntity;
 import com.oshayer.event_manager.sponsors.repository.SponsorRepository;
 import com.oshayer.event_manager.sponsors.service.SponsorService;
+import com.oshayer.event_manager.shared.cache.ReferenceDataCache;
+import com.oshayer.event_manager.shared.web.CursorPage;
+import com.oshayer.event_manager.shared.web.KeysetCursor;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class SponsorServiceImpl implements SponsorService {
 
     private final SponsorRepository repository;
+    private final ReferenceDataCache referenceDataCache;
 
-    public SponsorServiceImpl(SponsorRepository repository) {
+    public SponsorServiceImpl(SponsorRepository repository, ReferenceDataCache referenceDataCache) {
         this.repository = repository;
+        this.referenceDataCache = referenceDataCache;
     }
 
     @Override
@@ -41,8 +46,16 @@ public class SponsorServiceImpl implements SponsorService {
     }
 
     @Override
-    public List<SponsorResponse> getAll() {
-        return repository.findAll().stream().map(this::toResponse).collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<SponsorResponse> list(String query, String category, String cursor, Integer limit,
+                                            Sort.Direction direction) {
+        int size = CursorPage.limit(limit);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<SponsorResponse> rows = repository.findPage(
+                CursorPage.containsPattern(query), category,
+                after != null ? after.key() : null, after != null ? after.id() : null,
+                direction.isDescending(), CursorPage.fetch(size, Sort.by(direction, "name", "id")));
+        return CursorPage.of(rows, size, r -> new KeysetCursor(r.getName(), r.getId()));
     }
 
     @Override
@@ -69,7 +82,9 @@ public class SponsorServiceImpl implements SponsorService {
         if (request.getWebsiteLink() != null) existing.setWebsiteLink(request.getWebsiteLink());
         if (request.getImageUrl() != null) existing.setImageUrl(request.getImageUrl());
 
-        return toResponse(repository.save(existing));
+        SponsorEntity updated = repository.save(existing);
+        referenceDataCache.evictAfterCommit(SponsorEntity.class, id);
+        return toResponse(updated);
     }
 
     @Override
@@ -78,6 +93,7 @@ public class SponsorServiceImpl implements SponsorService {
             throw new RuntimeException("Sponsor not found with id: " + id);
         }
         repository.deleteById(id);
+        referenceDataCache.evictAfterCommit(SponsorEntity.class, id);
     }
 
     private SponsorResponse toResponse(SponsorEntity e) {
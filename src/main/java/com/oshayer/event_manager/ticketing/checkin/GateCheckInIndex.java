@@ -0,0 +1,102 @@
+package com.oshayer.event_manager.ticketing.checkin;
+
+import com.oshayer.event_manager.ticketing.entity.TicketEntity.TicketStatus;
+import com.oshayer.event_manager.ticketing.repository.TicketRepository.GateTicketView;
+
+import java.time.OffsetDateTime;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * One event's tickets, keyed by QR code and by verification code, for scanning at the gates.
+ * <p>
+ * A scan is a map lookup and, for a valid ticket, a compare-and-set of its check-in, so concurrent
+ * scans of the same ticket on this node admit it exactly once. Rows read back from the database are
+ * merged with {@link #apply}, which updates the status but never clears a check-in, including one
+ * made here that has not been written back yet.
+ */
+public final class GateCheckInIndex {
+
+    public enum Outcome { ADMITTED, ALREADY_USED, NOT_VALID, UNKNOWN }
+
+    public record CheckIn(OffsetDateTime at, String gate) {
+    }
+
+    /** Result of one scan; everything but {@code outcome} is null for an unknown code. */
+    public record Scan(Outcome outcome, UUID ticketId, TicketStatus status, String seatLabel,
+                       String holderName, CheckIn checkIn) {
+    }
+
+    private final Map<UUID, Entry> byId = new ConcurrentHashMap<>();
+    private final Map<String, Entry> byQrCode = new ConcurrentHashMap<>();
+    private final Map<String, Entry> byVerificationCode = new ConcurrentHashMap<>();
+    private volatile long lastUsedMillis = System.currentTimeMillis();
+
+    public Scan scan(String code, String gate, OffsetDateTime now) {
+        lastUsedMillis = System.currentTimeMillis();
+        Entry entry = byQrCode.get(code);
+        if (entry == null) {
+            entry = byVerificationCode.get(code.toUpperCase(Locale.ROOT));
+        }
+        if (entry == null) {
+            return new Scan(Outcome.UNKNOWN, null, null, null, null, null);
+        }
+
+        CheckIn previous = entry.checkIn.get();
+        if (previous == null && entry.status == TicketStatus.ISSUED) {
+            CheckIn mine = new CheckIn(now, gate);
+            if (entry.checkIn.compareAndSet(null, mine)) {
+                return entry.scan(Outcome.ADMITTED, TicketStatus.USED, mine);
+            }
+            previous = entry.checkIn.get();
+        }
+        if (previous != null) {
+            return entry.scan(Outcome.ALREADY_USED, TicketStatus.USED, previous);
+        }
+        return entry.scan(Outcome.NOT_VALID, entry.status, null);
+    }
+
+    public void apply(GateTicketView ticket) {
+        Entry entry = byId.computeIfAbsent(ticket.getId(), id -> {
+            Entry created = new Entry(id, ticket.getSeatLabel(), ticket.getHolderName());
+            byQrCode.put(ticket.getQrCode(), created);
+            if (ticket.getVerificationCode() != null) {
+                byVerificationCode.put(ticket.getVerificationCode().toUpperCase(Locale.ROOT), created);
+            }
+            return created;
+        });
+        entry.status = ticket.getStatus();
+        if (ticket.getStatus() == TicketStatus.USED) {
+            entry.checkIn.compareAndSet(null, new CheckIn(ticket.getCheckedInAt(), ticket.getGate()));
+        }
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    public long lastUsedMillis() {
+        return lastUsedMillis;
+    }
+
+    private static final class Entry {
+        private final UUID ticketId;
+        private final String seatLabel;
+        private final String holderName;
+        private volatile TicketStatus status;
+        private final AtomicReference<CheckIn> checkIn = new AtomicReference<>();
+
+        private Entry(UUID ticketId, String seatLabel, String holderName) {
+            this.ticketId = ticketId;
+            this.seatLabel = seatLabel;
+            this.holderName = holderName;
+        }
+
+        private Scan scan(Outcome outcome, TicketStatus reportedStatus, CheckIn checkIn) {
+            return new Scan(outcome, ticketId, reportedStatus, seatLabel, holderName, checkIn);
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.oshayer.event_manager.ticketing.controller;
 
+import com.oshayer.event_manager.shared.idempotency.IdempotentRequests;
+import com.oshayer.event_manager.shared.observability.SqlStatementBudget;
+import com.oshayer.event_manager.shared.web.CursorPage;
 import com.oshayer.event_manager.ticketing.dto.*;
 import com.oshayer.event_manager.ticketing.service.ReservationHoldService;
 import jakarta.validation.Valid;
@@ -15,12 +18,18 @@ import java.util.*;
 public class ReservationHoldController {
 
     private final ReservationHoldService holdService;
+    private final IdempotentRequests idempotentRequests;
 
     @PostMapping
-    public ResponseEntity<HoldResponse> create(@Valid @RequestBody HoldCreateRequest req) {
-        return ResponseEntity.ok(holdService.create(req));
+    public ResponseEntity<HoldResponse> create(@RequestHeader(value = IdempotentRequests.HEADER, required = false)
+                                               String idempotencyKey,
+                                               @Valid @RequestBody HoldCreateRequest req) {
+        return idempotentRequests.execute("holds.create", idempotencyKey, req, HoldResponse.class,
+                () -> holdService.create(req));
     }
 
+    // lock, seats, discounts, tier counters, hold update
+    @SqlStatementBudget(10)
     @PostMapping("/release")
     public ResponseEntity<HoldResponse> release(@Valid @RequestBody HoldReleaseRequest req) {
         return ResponseEntity.ok(holdService.release(req));
@@ -31,13 +40,19 @@ public class ReservationHoldController {
         return ResponseEntity.ok(holdService.convert(req));
     }
 
+    // hold with seats, then discounts
+    @SqlStatementBudget(2)
     @GetMapping("/{holdId}")
     public ResponseEntity<HoldResponse> get(@PathVariable java.util.UUID holdId) {
         return ResponseEntity.ok(holdService.get(holdId));
     }
 
+    // page of holds, their seats, their discounts
+    @SqlStatementBudget(3)
     @GetMapping("/events/{eventId}")
-    public ResponseEntity<List<HoldResponse>> listActive(@PathVariable java.util.UUID eventId) {
-        return ResponseEntity.ok(holdService.listActive(eventId));
+    public ResponseEntity<CursorPage<HoldResponse>> listActive(@PathVariable java.util.UUID eventId,
+                                                               @RequestParam(required = false) String cursor,
+                                                               @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(holdService.listActive(eventId, cursor, limit));
     }
 }
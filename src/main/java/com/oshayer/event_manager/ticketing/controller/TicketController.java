@@ -1,11 +1,23 @@
 package com.oshayer.event_manager.ticketing.controller;
 
+import com.oshayer.event_manager.auth.security.AuthenticatedUser;
+import com.oshayer.event_manager.shared.idempotency.IdempotentRequests;
+import com.oshayer.event_manager.shared.observability.SqlStatementBudget;
+import com.oshayer.event_manager.shared.web.CursorPage;
 import com.oshayer.event_manager.ticketing.dto.*;
+import com.oshayer.event_manager.ticketing.service.GateCheckInService;
+import com.oshayer.event_manager.ticketing.service.TicketExportService;
 import com.oshayer.event_manager.ticketing.service.TicketService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.*;
 
@@ -15,10 +27,16 @@ import java.util.*;
 public class TicketController {
 
     private final TicketService ticketService;
+    private final TicketExportService ticketExportService;
+    private final GateCheckInService gateCheckInService;
+    private final IdempotentRequests idempotentRequests;
 
     @PostMapping("/reserve")
-    public ResponseEntity<TicketResponse> reserve(@Valid @RequestBody TicketCreateRequest req) {
-        return ResponseEntity.ok(ticketService.createPending(req));
+    public ResponseEntity<TicketResponse> reserve(@RequestHeader(value = IdempotentRequests.HEADER, required = false)
+                                                  String idempotencyKey,
+                                                  @Valid @RequestBody TicketCreateRequest req) {
+        return idempotentRequests.execute("tickets.reserve", idempotencyKey, req, TicketResponse.class,
+                () -> ticketService.createPending(req));
     }
 
     @PostMapping("/issue/{ticketId}")
@@ -32,6 +50,21 @@ public class TicketController {
         return ResponseEntity.ok(ticketService.checkIn(ticketId, req));
     }
 
+    /** Gate scan by QR code or verification code, answered from the event's in-memory index. */
+    @PreAuthorize("hasAnyRole('ROLE_EVENT_CHECKER', 'ROLE_EVENT_MANAGER', 'ROLE_OPERATOR', 'ROLE_ORG_ADMIN')")
+    @PostMapping("/scan")
+    public ResponseEntity<TicketScanResponse> scan(@AuthenticationPrincipal AuthenticatedUser checker,
+                                                   @Valid @RequestBody TicketScanRequest req) {
+        return ResponseEntity.ok(gateCheckInService.scan(req, checker.id()));
+    }
+
+    /** Loads an event's gate index ahead of doors opening; events starting soon are loaded on their own. */
+    @PreAuthorize("hasAnyRole('ROLE_EVENT_CHECKER', 'ROLE_EVENT_MANAGER', 'ROLE_OPERATOR', 'ROLE_ORG_ADMIN')")
+    @PostMapping("/scan/preload/{eventId}")
+    public ResponseEntity<GateIndexResponse> preloadScan(@PathVariable UUID eventId) {
+        return ResponseEntity.ok(gateCheckInService.preload(eventId));
+    }
+
     @PostMapping("/refund/{ticketId}")
     public ResponseEntity<TicketResponse> refund(@PathVariable java.util.UUID ticketId,
                                                  @Valid @RequestBody TicketRefundRequest req) {
@@ -43,18 +76,38 @@ public class TicketController {
         return ResponseEntity.ok(ticketService.get(ticketId));
     }
 
+    // one joined query per page
+    @SqlStatementBudget(1)
     @GetMapping
-    public ResponseEntity<List<TicketResponse>> listTickets(
+    public ResponseEntity<CursorPage<TicketResponse>> listTickets(
             @RequestParam(required = false) UUID eventId,
-            @RequestParam(required = false) UUID buyerId
+            @RequestParam(required = false) UUID buyerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
     ) {
         if (eventId != null) {
-            return ResponseEntity.ok(ticketService.listByEvent(eventId));
+            return ResponseEntity.ok(ticketService.listByEvent(eventId, cursor, limit));
         }
         if (buyerId != null) {
-            return ResponseEntity.ok(ticketService.listByBuyer(buyerId));
+            return ResponseEntity.ok(ticketService.listByBuyer(buyerId, cursor, limit));
         }
         // Consider returning a 400 Bad Request if no filter is provided, or defaulting to all tickets if that's desired.
-        return ResponseEntity.ok(Collections.emptyList());
+        return ResponseEntity.ok(new CursorPage<>(List.of(), null));
+    }
+
+    /** Full attendee manifest of an event as CSV (default) or NDJSON, streamed row by row. */
+    // holder names and emails for a whole event: organisers only, not gate staff
+    @PreAuthorize("hasAnyRole('ROLE_EVENT_MANAGER', 'ROLE_OPERATOR', 'ROLE_ORG_ADMIN')")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam UUID eventId,
+                                                        @RequestParam(defaultValue = "csv") String format) {
+        TicketExportService.Format exportFormat = TicketExportService.Format.valueOf(format.toUpperCase(Locale.ROOT));
+        StreamingResponseBody body = ticketExportService.exportByEvent(eventId, exportFormat);
+        String filename = "tickets-" + eventId + "." + exportFormat.extension();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.mediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
     }
 }
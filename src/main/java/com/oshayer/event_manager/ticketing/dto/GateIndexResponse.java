@@ -0,0 +1,14 @@
+package com.oshayer.event_manager.ticketing.dto;
+
+import lombok.*;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GateIndexResponse {
+    private UUID eventId;
+    private int tickets;
+}
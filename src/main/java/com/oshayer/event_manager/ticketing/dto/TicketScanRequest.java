@@ -0,0 +1,16 @@
+package com.oshayer.event_manager.ticketing.dto;
+
+import jakarta.validation.constraints.*;
+import lombok.*;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketScanRequest {
+    @NotNull private UUID eventId;
+    // the scanned QR code, or the verification code typed in when the QR code cannot be read
+    @NotBlank @Size(max = 256) private String code;
+    @Size(max = 255) private String gate;
+}
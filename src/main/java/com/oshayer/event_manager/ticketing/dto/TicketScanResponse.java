@@ -0,0 +1,24 @@
+package com.oshayer.event_manager.ticketing.dto;
+
+import lombok.*;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketScanResponse {
+    // ADMITTED, ALREADY_USED, NOT_VALID or UNKNOWN
+    private String result;
+
+    private UUID ticketId;
+    private String status;
+    private String seatLabel;
+    private String holderName;
+
+    // this scan's check-in when ADMITTED, the earlier one when ALREADY_USED
+    private String gate;
+    private OffsetDateTime checkedInAt;
+}
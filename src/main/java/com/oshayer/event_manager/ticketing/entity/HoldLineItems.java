@@ -0,0 +1,41 @@
+package com.oshayer.event_manager.ticketing.entity;
+
+import com.oshayer.event_manager.events.entity.EventSeatEntity;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * What a hold was priced from, snapshotted when it is created and stored as {@code jsonb} in
+ * {@code reservation_holds.line_items}. Readers (payments, reporting, refunds) use this instead of reloading the
+ * held seat rows, whose prices may have moved since. Bump {@link #CURRENT_VERSION} on any incompatible change and
+ * keep reading the older shapes.
+ */
+public record HoldLineItems(int schemaVersion, List<Item> items) {
+
+    public static final int CURRENT_VERSION = 1;
+
+    public HoldLineItems {
+        items = items == null ? List.of() : List.copyOf(items);
+    }
+
+    public static HoldLineItems of(List<EventSeatEntity> seats) {
+        return new HoldLineItems(CURRENT_VERSION, seats.stream()
+                .map(es -> new Item(
+                        es.getId(),
+                        es.getSeat().getId(),
+                        es.getSeat().getLabel(),
+                        es.getTierCode(),
+                        es.getPrice() != null ? es.getPrice() : BigDecimal.ZERO))
+                .toList());
+    }
+
+    /** Sum of the snapshotted seat prices, before discounts. */
+    public BigDecimal subtotal() {
+        return items.stream().map(Item::price).reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    /** One held seat. {@code eventSeatId} is the event_seats row, {@code seatId} the layout seat behind it. */
+    public record Item(UUID eventSeatId, UUID seatId, String seatLabel, String tierCode, BigDecimal price) {}
+}
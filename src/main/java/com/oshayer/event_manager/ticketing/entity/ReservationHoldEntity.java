@@ -7,7 +7,9 @@ import com.oshayer.event_manager.users.entity.UserEntity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
@@ -51,9 +53,10 @@ public class ReservationHoldEntity {
     )
     private List<EventSeatEntity> heldSeats;
 
-    // Store JSON as regular text so Postgres returns it via getString rather than CLOB/OID
-    @Column(name = "items_json", nullable = false, columnDefinition = "text")
-    private String itemsJson;
+    // Priced snapshot of the held seats, stored as jsonb (see HoldLineItems for the versioned shape)
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "line_items", nullable = false, columnDefinition = "jsonb")
+    private HoldLineItems lineItems;
 
     @Builder.Default
     @OneToMany(mappedBy = "hold", cascade = CascadeType.ALL, orphanRemoval = true)
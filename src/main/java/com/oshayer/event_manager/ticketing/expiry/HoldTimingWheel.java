@@ -0,0 +1,167 @@
+package com.oshayer.event_manager.ticketing.expiry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Hierarchical timing wheel holding hold ids keyed on their expiry time.
+ * <p>
+ * Level 0 has {@code wheelSize} slots of one tick each; every level above covers {@code wheelSize}
+ * times the span of the one below. A hold sits in the lowest level whose span reaches its deadline
+ * and is cascaded down as time catches up, so scheduling and cancelling are O(1) and an advance
+ * only touches the slots that are due. Deadlines beyond the top level's span are parked there and
+ * re-placed on every pass until they come within range.
+ */
+public final class HoldTimingWheel {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long[] levelTicks;
+    private final Set<UUID>[][] slots;
+    private final Map<UUID, Placement> placements = new HashMap<>();
+    private final List<UUID> overdue = new ArrayList<>();
+
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public HoldTimingWheel(long tickMillis, int wheelSize, int levels, long nowMillis) {
+        if (tickMillis <= 0 || wheelSize < 2 || levels < 1) {
+            throw new IllegalArgumentException("Timing wheel needs a positive tick, at least 2 slots and 1 level");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.levelTicks = new long[levels];
+        this.slots = new Set[levels][wheelSize];
+        long ticks = 1;
+        for (int level = 0; level < levels; level++) {
+            levelTicks[level] = ticks;
+            for (int slot = 0; slot < wheelSize; slot++) {
+                slots[level][slot] = new HashSet<>();
+            }
+            ticks = Math.multiplyExact(ticks, wheelSize);
+        }
+        this.currentTick = nowMillis / tickMillis;
+    }
+
+    /**
+     * Schedules (or reschedules) a hold to fire once {@code deadlineMillis} has passed.
+     */
+    public synchronized void schedule(UUID holdId, long deadlineMillis) {
+        cancel(holdId);
+        // Round up so a hold never fires before its deadline
+        place(holdId, Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis));
+    }
+
+    public synchronized boolean cancel(UUID holdId) {
+        Placement placement = placements.remove(holdId);
+        if (placement == null) {
+            return false;
+        }
+        if (placement.level() < 0) {
+            overdue.remove(holdId);
+        } else {
+            slots[placement.level()][placement.slot()].remove(holdId);
+        }
+        return true;
+    }
+
+    /**
+     * Moves the wheel to {@code nowMillis} and returns every hold whose deadline has passed.
+     */
+    public synchronized List<UUID> advance(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        List<UUID> due = new ArrayList<>(overdue);
+        overdue.clear();
+        due.forEach(placements::remove);
+
+        if (targetTick - currentTick > wheelSize) {
+            // Fell behind by more than a full turn of the lowest level (suspended process, clock jump):
+            // re-placing every hold is cheaper than stepping through each missed tick
+            currentTick = targetTick;
+            List<Map.Entry<UUID, Placement>> all = new ArrayList<>(placements.entrySet());
+            clearSlots();
+            placements.clear();
+            all.forEach(entry -> place(entry.getKey(), entry.getValue().deadlineTick()));
+            due.addAll(overdue);
+            overdue.forEach(placements::remove);
+            overdue.clear();
+            return due;
+        }
+
+        while (currentTick < targetTick) {
+            currentTick++;
+            for (int level = levelTicks.length - 1; level > 0; level--) {
+                if (currentTick % levelTicks[level] == 0) {
+                    cascade(level, slotOf(currentTick, level));
+                }
+            }
+            Set<UUID> bucket = slots[0][slotOf(currentTick, 0)];
+            for (UUID holdId : new ArrayList<>(bucket)) {
+                Placement placement = placements.get(holdId);
+                if (placement.deadlineTick() <= currentTick) {
+                    bucket.remove(holdId);
+                    placements.remove(holdId);
+                    due.add(holdId);
+                }
+            }
+            due.addAll(overdue);
+            overdue.forEach(placements::remove);
+            overdue.clear();
+        }
+        return due;
+    }
+
+    public synchronized int size() {
+        return placements.size();
+    }
+
+    // -------- helpers --------
+
+    private void place(UUID holdId, long deadlineTick) {
+        long delta = deadlineTick - currentTick;
+        if (delta <= 0) {
+            overdue.add(holdId);
+            placements.put(holdId, new Placement(deadlineTick, -1, -1));
+            return;
+        }
+        int level = 0;
+        while (level < levelTicks.length - 1 && delta >= levelTicks[level] * wheelSize) {
+            level++;
+        }
+        int slot = slotOf(deadlineTick, level);
+        slots[level][slot].add(holdId);
+        placements.put(holdId, new Placement(deadlineTick, level, slot));
+    }
+
+    private void cascade(int level, int slot) {
+        Set<UUID> bucket = slots[level][slot];
+        if (bucket.isEmpty()) {
+            return;
+        }
+        List<UUID> moving = new ArrayList<>(bucket);
+        bucket.clear();
+        for (UUID holdId : moving) {
+            place(holdId, placements.get(holdId).deadlineTick());
+        }
+    }
+
+    private int slotOf(long tick, int level) {
+        return (int) Math.floorMod(tick / levelTicks[level], (long) wheelSize);
+    }
+
+    private void clearSlots() {
+        for (Set<UUID>[] level : slots) {
+            for (Set<UUID> slot : level) {
+                slot.clear();
+            }
+        }
+    }
+
+    private record Placement(long deadlineTick, int level, int slot) {
+    }
+}
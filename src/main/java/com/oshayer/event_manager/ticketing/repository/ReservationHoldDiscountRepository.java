@@ -5,7 +5,10 @@ import com.oshayer.event_manager.ticketing.entity.ReservationHoldEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.math.BigDecimal;
 import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 public interface ReservationHoldDiscountRepository extends JpaRepository<ReservationHoldDiscountEntity, UUID> {
@@ -19,4 +22,24 @@ public interface ReservationHoldDiscountRepository extends JpaRepository<Reserva
             "WHERE hd.discount.id = :discountId AND hd.hold.status = :status " +
             "AND hd.hold.buyer.id = :buyerId AND hd.hold.expiresAt > :now")
     long countActiveByDiscountAndBuyer(UUID discountId, UUID buyerId, ReservationHoldEntity.HoldStatus status, OffsetDateTime now);
+
+    /** Discounts applied to the given holds, in stacking order within each hold. */
+    @Query("""
+        select hd.hold.id as holdId, d.id as discountId, hd.discountCode as code, d.name as name,
+               hd.amount as amount, hd.autoApplied as autoApplied
+        from ReservationHoldDiscountEntity hd
+        join hd.discount d
+        where hd.hold.id in :holdIds
+        order by hd.stackRank nulls last
+    """)
+    List<AppliedDiscountView> findAppliedByHoldIds(Collection<UUID> holdIds);
+
+    interface AppliedDiscountView {
+        UUID getHoldId();
+        UUID getDiscountId();
+        String getCode();
+        String getName();
+        BigDecimal getAmount();
+        Boolean getAutoApplied();
+    }
 }
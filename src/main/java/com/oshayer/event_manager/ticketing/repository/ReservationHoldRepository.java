@@ -2,12 +2,19 @@ package com.oshayer.event_manager.ticketing.repository;
 
 import com.oshayer.event_manager.ticketing.entity.ReservationHoldEntity;
 import com.oshayer.event_manager.ticketing.entity.ReservationHoldEntity.HoldStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.math.BigDecimal;
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface ReservationHoldRepository extends JpaRepository<ReservationHoldEntity, UUID> {
@@ -19,9 +26,130 @@ public interface ReservationHoldRepository extends JpaRepository<ReservationHold
     @Modifying
     void deleteAllByEvent_Id(UUID eventId);
 
+    /**
+     * Keyset page of an event's live holds, soonest to expire first, after the cursor row when one is given.
+     * Seats and discounts are loaded per page by {@link #findHeldSeats} and
+     * {@code ReservationHoldDiscountRepository.findAppliedByHoldIds}.
+     */
     @Query("""
-        select h from ReservationHoldEntity h
+        select h.id as id, h.event.id as eventId, h.buyer.id as buyerId, h.status as status,
+               h.expiresAt as expiresAt, h.finalizedPaymentId as finalizedPaymentId,
+               h.createdAt as createdAt, h.updatedAt as updatedAt,
+               h.subtotalAmount as subtotalAmount, h.discountAmount as discountAmount, h.totalAmount as totalAmount
+        from ReservationHoldEntity h
         where h.event.id = :eventId and h.status = 'ACTIVE' and h.expiresAt > :now
+          and (:afterId is null
+               or h.expiresAt > :afterExpiresAt
+               or (h.expiresAt = :afterExpiresAt and h.id > :afterId))
+        order by h.expiresAt, h.id
     """)
-    List<ReservationHoldEntity> findActiveNotExpired(UUID eventId, OffsetDateTime now);
+    List<HoldListingView> findActivePage(UUID eventId, OffsetDateTime now, OffsetDateTime afterExpiresAt,
+                                         UUID afterId, Pageable pageable);
+
+    /** Seats of the given holds, one row per held seat. */
+    @Query("""
+        select h.id as holdId, s.id as seatId, s.label as seatLabel, es.tierCode as tierCode
+        from ReservationHoldEntity h
+        join h.heldSeats es
+        join es.seat s
+        where h.id in :holdIds
+    """)
+    List<HeldSeatView> findHeldSeats(Collection<UUID> holdIds);
+
+    /**
+     * Live holds across all events, reduced to what the in-memory expiry wheel needs.
+     */
+    @Query("""
+        select h.id as id, h.expiresAt as expiresAt from ReservationHoldEntity h
+        where h.status = 'ACTIVE' and h.expiresAt > :now
+    """)
+    List<HoldExpiryView> findActiveNotExpiredExpiries(OffsetDateTime now);
+
+    /**
+     * The hold with its held seats and their seat rows, in one statement. Also initializes the seats of a hold
+     * that is already in the persistence context (e.g. just locked).
+     */
+    @EntityGraph(attributePaths = {"heldSeats", "heldSeats.seat"})
+    @Query("select h from ReservationHoldEntity h where h.id = :id")
+    Optional<ReservationHoldEntity> findWithSeatsById(UUID id);
+
+    /**
+     * The hold with its applied discounts and their discount rows. A separate statement from
+     * {@link #findWithSeatsById}: fetching both lists at once would multiply the rows.
+     */
+    @EntityGraph(attributePaths = {"appliedDiscounts", "appliedDiscounts.discount"})
+    @Query("select h from ReservationHoldEntity h where h.id = :id")
+    Optional<ReservationHoldEntity> findWithDiscountsById(UUID id);
+
+    /**
+     * Row-locks a hold so a concurrent release/convert and the expiry sweeper never both act on it.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select h from ReservationHoldEntity h where h.id = :id")
+    Optional<ReservationHoldEntity> findByIdForUpdate(UUID id);
+
+    /**
+     * Next batch of overdue ACTIVE holds, oldest first, walking {@code idx_hold_expires}. Rows locked
+     * by another node (or by a checkout in progress) are skipped rather than waited on.
+     */
+    @Query(value = """
+        select h.id as id, h.expires_at as expiresAt
+        from reservation_holds h
+        where h.expires_at <= :now
+          and h.status = 'ACTIVE'
+        order by h.expires_at
+        limit :limit
+        for update skip locked
+    """, nativeQuery = true)
+    List<HoldExpiryView> lockExpiredActive(OffsetDateTime now, int limit);
+
+    @Query(value = """
+        select h.id as id, h.expires_at as expiresAt
+        from reservation_holds h
+        where h.id in (:ids)
+          and h.expires_at <= :now
+          and h.status = 'ACTIVE'
+        for update skip locked
+    """, nativeQuery = true)
+    List<HoldExpiryView> lockExpiredActiveByIds(Collection<UUID> ids, OffsetDateTime now);
+
+    @Modifying
+    @Query("""
+        update ReservationHoldEntity h
+        set h.status = 'EXPIRED', h.updatedAt = :now
+        where h.id in :ids and h.status = 'ACTIVE'
+    """)
+    int markExpired(Collection<UUID> ids, OffsetDateTime now);
+
+    @Query("""
+        select min(h.expiresAt) from ReservationHoldEntity h
+        where h.status = 'ACTIVE' and h.expiresAt <= :now
+    """)
+    OffsetDateTime findOldestExpiredActive(OffsetDateTime now);
+
+    interface HoldListingView {
+        UUID getId();
+        UUID getEventId();
+        UUID getBuyerId();
+        HoldStatus getStatus();
+        OffsetDateTime getExpiresAt();
+        UUID getFinalizedPaymentId();
+        OffsetDateTime getCreatedAt();
+        OffsetDateTime getUpdatedAt();
+        BigDecimal getSubtotalAmount();
+        BigDecimal getDiscountAmount();
+        BigDecimal getTotalAmount();
+    }
+
+    interface HeldSeatView {
+        UUID getHoldId();
+        UUID getSeatId();
+        String getSeatLabel();
+        String getTierCode();
+    }
+
+    interface HoldExpiryView {
+        UUID getId();
+        OffsetDateTime getExpiresAt();
+    }
 }
@@ -1,29 +1,167 @@
 package com.oshayer.event_manager.ticketing.repository;
 
 import com.oshayer.event_manager.ticketing.entity.TicketEntity;
+import com.oshayer.event_manager.ticketing.entity.TicketEntity.TicketStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface TicketRepository extends JpaRepository<TicketEntity, UUID> {
 
     Optional<TicketEntity> findByQrCode(String qrCode);
 
+    @Modifying
+    void deleteAllByEventSeat_Event_Id(UUID eventId);
+
     /**
-     * Finds all tickets for a given event by joining through the EventSeat entity.
-     * Spring Data JPA automatically creates the query from the method name.
+     * Keyset page of an event's tickets in (createdAt, id) order, after the cursor row when one is given.
+     * Seat and tier come from the same joined row, so a page is one statement whatever its size.
      */
-    List<TicketEntity> findByEventSeat_Event_Id(UUID eventId);
+    @Query("""
+        select t.id as id, t.status as status, es.event.id as eventId, t.buyer.id as buyerId,
+               s.id as seatId, s.label as seatLabel, es.tierCode as tierCode, es.price as price,
+               t.qrCode as qrCode, t.verificationCode as verificationCode,
+               t.holderName as holderName, t.holderEmail as holderEmail,
+               t.gate as gate, t.checker.id as checkerId, t.checkedInAt as checkedInAt,
+               t.reservedUntil as reservedUntil, t.issuedAt as issuedAt,
+               t.refundAmount as refundAmount, t.refundedAt as refundedAt,
+               t.createdAt as createdAt, t.updatedAt as updatedAt
+        from TicketEntity t
+        join t.eventSeat es
+        join es.seat s
+        where es.event.id = :eventId
+          and (:afterId is null
+               or t.createdAt > :afterCreatedAt
+               or (t.createdAt = :afterCreatedAt and t.id > :afterId))
+        order by t.createdAt, t.id
+    """)
+    List<TicketListingView> findPageByEvent(UUID eventId, OffsetDateTime afterCreatedAt, UUID afterId,
+                                            Pageable pageable);
 
-    @Modifying
-    void deleteAllByEventSeat_Event_Id(UUID eventId);
+    /** Same as {@link #findPageByEvent} for one buyer's tickets, walking {@code idx_ticket_buyer_created}. */
+    @Query("""
+        select t.id as id, t.status as status, es.event.id as eventId, t.buyer.id as buyerId,
+               s.id as seatId, s.label as seatLabel, es.tierCode as tierCode, es.price as price,
+               t.qrCode as qrCode, t.verificationCode as verificationCode,
+               t.holderName as holderName, t.holderEmail as holderEmail,
+               t.gate as gate, t.checker.id as checkerId, t.checkedInAt as checkedInAt,
+               t.reservedUntil as reservedUntil, t.issuedAt as issuedAt,
+               t.refundAmount as refundAmount, t.refundedAt as refundedAt,
+               t.createdAt as createdAt, t.updatedAt as updatedAt
+        from TicketEntity t
+        join t.eventSeat es
+        join es.seat s
+        where t.buyer.id = :buyerId
+          and (:afterId is null
+               or t.createdAt > :afterCreatedAt
+               or (t.createdAt = :afterCreatedAt and t.id > :afterId))
+        order by t.createdAt, t.id
+    """)
+    List<TicketListingView> findPageByBuyer(UUID buyerId, OffsetDateTime afterCreatedAt, UUID afterId,
+                                            Pageable pageable);
 
     /**
-     * Finds all tickets for a given buyer by their ID.
+     * Every ticket of an event in (createdAt, id) order, read through a forward-only cursor 1000 rows at a
+     * time. Must be consumed (and closed) inside a transaction.
      */
-    List<TicketEntity> findByBuyer_Id(UUID buyerId);
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        select t.id as id, t.status as status, es.event.id as eventId, t.buyer.id as buyerId,
+               s.id as seatId, s.label as seatLabel, es.tierCode as tierCode, es.price as price,
+               t.qrCode as qrCode, t.verificationCode as verificationCode,
+               t.holderName as holderName, t.holderEmail as holderEmail,
+               t.gate as gate, t.checker.id as checkerId, t.checkedInAt as checkedInAt,
+               t.reservedUntil as reservedUntil, t.issuedAt as issuedAt,
+               t.refundAmount as refundAmount, t.refundedAt as refundedAt,
+               t.createdAt as createdAt, t.updatedAt as updatedAt
+        from TicketEntity t
+        join t.eventSeat es
+        join es.seat s
+        where es.event.id = :eventId
+        order by t.createdAt, t.id
+    """)
+    Stream<TicketListingView> streamByEvent(UUID eventId);
+
+    /** What a gate needs to know about every ticket of an event, for the in-memory check-in index. */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        select t.id as id, es.event.id as eventId, t.status as status,
+               t.qrCode as qrCode, t.verificationCode as verificationCode,
+               s.label as seatLabel, t.holderName as holderName,
+               t.checkedInAt as checkedInAt, t.gate as gate, t.updatedAt as updatedAt
+        from TicketEntity t
+        join t.eventSeat es
+        join es.seat s
+        where es.event.id = :eventId
+    """)
+    List<GateTicketView> findGateTicketsByEvent(UUID eventId);
+
+    /** Tickets of the given events changed after {@code since}, walking {@code idx_ticket_updated_at}. */
+    @Query("""
+        select t.id as id, es.event.id as eventId, t.status as status,
+               t.qrCode as qrCode, t.verificationCode as verificationCode,
+               s.label as seatLabel, t.holderName as holderName,
+               t.checkedInAt as checkedInAt, t.gate as gate, t.updatedAt as updatedAt
+        from TicketEntity t
+        join t.eventSeat es
+        join es.seat s
+        where t.updatedAt > :since
+          and es.event.id in :eventIds
+    """)
+    List<GateTicketView> findGateTicketsChangedSince(Collection<UUID> eventIds, OffsetDateTime since);
+
+    interface GateTicketView {
+        UUID getId();
+        UUID getEventId();
+        TicketStatus getStatus();
+        String getQrCode();
+        String getVerificationCode();
+        String getSeatLabel();
+        String getHolderName();
+        OffsetDateTime getCheckedInAt();
+        String getGate();
+        OffsetDateTime getUpdatedAt();
+    }
 
+    interface TicketListingView {
+        UUID getId();
+        TicketStatus getStatus();
+        UUID getEventId();
+        UUID getBuyerId();
+        UUID getSeatId();
+        String getSeatLabel();
+        String getTierCode();
+        BigDecimal getPrice();
+        String getQrCode();
+        String getVerificationCode();
+        String getHolderName();
+        String getHolderEmail();
+        String getGate();
+        UUID getCheckerId();
+        OffsetDateTime getCheckedInAt();
+        OffsetDateTime getReservedUntil();
+        OffsetDateTime getIssuedAt();
+        BigDecimal getRefundAmount();
+        OffsetDateTime getRefundedAt();
+        OffsetDateTime getCreatedAt();
+        OffsetDateTime getUpdatedAt();
+    }
 }
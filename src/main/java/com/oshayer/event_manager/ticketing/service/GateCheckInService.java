@@ -0,0 +1,28 @@
+package com.oshayer.event_manager.ticketing.service;
+
+import com.oshayer.event_manager.ticketing.dto.GateIndexResponse;
+import com.oshayer.event_manager.ticketing.dto.TicketScanRequest;
+import com.oshayer.event_manager.ticketing.dto.TicketScanResponse;
+
+import java.util.UUID;
+
+/**
+ * Gate scanning against an in-memory index of each event's tickets.
+ * <p>
+ * Indexes are loaded ahead of doors opening (or on an event's first scan) and kept current by polling
+ * for changed tickets. A scan never touches the database; admitted check-ins are written back in
+ * batches shortly after. Two nodes may each admit the same ticket within one poll interval; the
+ * write-back keeps the first and counts the other as a conflict, so route an event's gates to one
+ * node where single entry must be strict.
+ */
+public interface GateCheckInService {
+
+    /** Validates a scanned code and, for a valid ticket, checks it in. */
+    TicketScanResponse scan(TicketScanRequest req, UUID checkerId);
+
+    /** Loads the event's index if this node does not have it yet. */
+    GateIndexResponse preload(UUID eventId);
+
+    /** Writes pending check-ins back to the database and returns how many were written. */
+    int flushCheckIns();
+}
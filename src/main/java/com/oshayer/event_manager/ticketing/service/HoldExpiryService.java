@@ -0,0 +1,30 @@
+package com.oshayer.event_manager.ticketing.service;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Moves overdue ACTIVE holds to EXPIRED and puts their seats back on sale.
+ * <p>
+ * Holds created on this node are tracked on an in-memory timing wheel and expire within about a
+ * tick of their deadline. The periodic database sweep catches everything else (holds from other
+ * nodes, holds the wheel lost on restart, holds skipped because they were locked).
+ */
+public interface HoldExpiryService {
+
+    /**
+     * Expires due holds in bounded batches and returns how many were expired.
+     * Safe to run concurrently on several nodes.
+     */
+    int expireDueHolds();
+
+    /**
+     * Schedules a hold on the wheel once the current transaction commits.
+     */
+    void track(UUID holdId, OffsetDateTime expiresAt);
+
+    /**
+     * Removes a hold from the wheel once the current transaction commits.
+     */
+    void untrack(UUID holdId);
+}
@@ -1,5 +1,6 @@
 package com.oshayer.event_manager.ticketing.service;
 
+import com.oshayer.event_manager.shared.web.CursorPage;
 import com.oshayer.event_manager.ticketing.dto.*;
 
 import java.util.*;
@@ -10,5 +11,5 @@ public interface ReservationHoldService {
     HoldResponse convert(HoldConvertRequest req);
 
     HoldResponse get(java.util.UUID holdId);
-    List<HoldResponse> listActive(java.util.UUID eventId);
+    CursorPage<HoldResponse> listActive(java.util.UUID eventId, String cursor, Integer limit);
 }
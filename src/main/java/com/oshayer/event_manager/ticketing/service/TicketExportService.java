@@ -0,0 +1,39 @@
+package com.oshayer.event_manager.ticketing.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.UUID;
+
+/**
+ * Attendee manifests for box office and gate staff. Rows go from a database cursor straight to the
+ * response, so memory use does not depend on how many tickets the event has.
+ */
+public interface TicketExportService {
+
+    enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String mediaType;
+        private final String extension;
+
+        Format(String mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public String mediaType() {
+            return mediaType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+    }
+
+    /**
+     * Every ticket of the event, oldest first, with the same fields as {@code TicketResponse}. The event is
+     * checked up front; the rows are read when the returned body is written.
+     */
+    StreamingResponseBody exportByEvent(UUID eventId, Format format);
+}
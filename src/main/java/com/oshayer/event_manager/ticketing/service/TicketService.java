@@ -1,5 +1,6 @@
 package com.oshayer.event_manager.ticketing.service;
 
+import com.oshayer.event_manager.shared.web.CursorPage;
 import com.oshayer.event_manager.ticketing.dto.*;
 
 import java.util.*;
@@ -11,6 +12,6 @@ public interface TicketService {
     TicketResponse refund(java.util.UUID ticketId, TicketRefundRequest req);
 
     TicketResponse get(java.util.UUID ticketId);
-    List<TicketResponse> listByEvent(java.util.UUID eventId);
-    List<TicketResponse> listByBuyer(java.util.UUID buyerId);
+    CursorPage<TicketResponse> listByEvent(java.util.UUID eventId, String cursor, Integer limit);
+    CursorPage<TicketResponse> listByBuyer(java.util.UUID buyerId, String cursor, Integer limit);
 }
@@ -0,0 +1,297 @@
+package com.oshayer.event_manager.ticketing.service.impl;
+
+import com.oshayer.event_manager.events.repository.EventRepository;
+import com.oshayer.event_manager.ticketing.checkin.GateCheckInIndex;
+import com.oshayer.event_manager.ticketing.checkin.GateCheckInIndex.Outcome;
+import com.oshayer.event_manager.ticketing.checkin.GateCheckInIndex.Scan;
+import com.oshayer.event_manager.ticketing.dto.GateIndexResponse;
+import com.oshayer.event_manager.ticketing.dto.TicketScanRequest;
+import com.oshayer.event_manager.ticketing.dto.TicketScanResponse;
+import com.oshayer.event_manager.ticketing.repository.TicketRepository;
+import com.oshayer.event_manager.ticketing.repository.TicketRepository.GateTicketView;
+import com.oshayer.event_manager.ticketing.service.GateCheckInService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Service
+public class GateCheckInServiceImpl implements GateCheckInService {
+
+    // only an ISSUED ticket is checked in, so a ticket refunded or admitted elsewhere meanwhile is left alone;
+    // updated_at takes the database clock, so other nodes' polls never miss it because this node's clock lags
+    private static final String WRITE_BACK_SQL = """
+            update tickets
+            set status = 'USED', checked_in_at = ?, gate = ?, checker_id = ?,
+                updated_at = now(), version = version + 1
+            where id = ? and status = 'ISSUED'
+            """;
+
+    private final TicketRepository ticketRepository;
+    private final EventRepository eventRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate batchTransaction;
+    private final int batchSize;
+    private final Duration syncOverlap;
+    private final Duration preloadLead;
+    private final Duration idleEviction;
+
+    private final Map<UUID, GateCheckInIndex> indexes = new ConcurrentHashMap<>();
+    private final Queue<PendingCheckIn> pending = new ConcurrentLinkedQueue<>();
+    // loads wait on the database, so a lock rather than synchronized
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private volatile OffsetDateTime watermark = OffsetDateTime.now();
+
+    private final Map<Outcome, Counter> scans = new EnumMap<>(Outcome.class);
+    private final Counter written;
+    private final Counter conflicts;
+    private final Counter rejected;
+
+    public GateCheckInServiceImpl(TicketRepository ticketRepository,
+                                  EventRepository eventRepository,
+                                  JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.checkin.batch-size:500}") int batchSize,
+                                  @Value("${app.checkin.sync-overlap:PT30S}") Duration syncOverlap,
+                                  @Value("${app.checkin.preload-lead:PT3H}") Duration preloadLead,
+                                  @Value("${app.checkin.idle-eviction:PT6H}") Duration idleEviction) {
+        this.ticketRepository = ticketRepository;
+        this.eventRepository = eventRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.syncOverlap = syncOverlap;
+        this.preloadLead = preloadLead;
+        this.idleEviction = idleEviction;
+
+        for (Outcome outcome : Outcome.values()) {
+            scans.put(outcome, Counter.builder("checkin.scans")
+                    .description("Gate scans by result")
+                    .tag("result", outcome.name())
+                    .register(meterRegistry));
+        }
+        this.written = Counter.builder("checkin.writeback.written")
+                .description("Check-ins written back to the database")
+                .register(meterRegistry);
+        this.conflicts = Counter.builder("checkin.writeback.conflicts")
+                .description("Check-ins whose ticket was no longer ISSUED in the database at write-back")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("checkin.writeback.rejected")
+                .description("Check-ins dropped because the database refused the row (e.g. a deleted checker)")
+                .register(meterRegistry);
+        Gauge.builder("checkin.writeback.pending", pending, Queue::size)
+                .description("Admitted check-ins not yet written back")
+                .register(meterRegistry);
+        Gauge.builder("checkin.index.tickets", indexes,
+                        loaded -> loaded.values().stream().mapToInt(GateCheckInIndex::size).sum())
+                .description("Tickets held in this node's gate indexes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public TicketScanResponse scan(TicketScanRequest req, UUID checkerId) {
+        GateCheckInIndex index = indexes.get(req.getEventId());
+        if (index == null) {
+            index = load(req.getEventId());
+        }
+        OffsetDateTime now = OffsetDateTime.now();
+        Scan scan = index.scan(req.getCode().trim(), req.getGate(), now);
+        if (scan.outcome() == Outcome.ADMITTED) {
+            pending.add(new PendingCheckIn(scan.ticketId(), checkerId, req.getGate(), now));
+        }
+        scans.get(scan.outcome()).increment();
+        return toResponse(scan);
+    }
+
+    @Override
+    public GateIndexResponse preload(UUID eventId) {
+        return GateIndexResponse.builder()
+                .eventId(eventId)
+                .tickets(load(eventId).size())
+                .build();
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.checkin.flush-interval-ms:500}")
+    public int flushCheckIns() {
+        int total = 0;
+        while (!pending.isEmpty()) {
+            List<PendingCheckIn> batch = new ArrayList<>(batchSize);
+            PendingCheckIn next;
+            while (batch.size() < batchSize && (next = pending.poll()) != null) {
+                batch.add(next);
+            }
+            try {
+                batchTransaction.executeWithoutResult(tx -> writeBack(batch));
+            } catch (DataAccessException ex) {
+                log.warn("Could not write back {} check-ins as a batch, trying them one by one: {}",
+                        batch.size(), ex.getMessage());
+                if (!writeBackOneByOne(batch)) {
+                    break;
+                }
+            }
+            total += batch.size();
+        }
+        return total;
+    }
+
+    /**
+     * Picks up tickets issued, refunded or checked in elsewhere since the last poll. Rows written through JPA
+     * carry the writing node's clock in {@code updated_at}, and a row can commit after a later one was read, so
+     * each poll re-reads {@code sync-overlap} before the newest row seen; it must exceed both the clock skew
+     * between nodes and the longest ticket transaction.
+     */
+    @Scheduled(fixedDelayString = "${app.checkin.sync-interval-ms:1000}")
+    public void syncIndexes() {
+        if (indexes.isEmpty()) {
+            return;
+        }
+        List<GateTicketView> changed = ticketRepository.findGateTicketsChangedSince(
+                Set.copyOf(indexes.keySet()), watermark.minus(syncOverlap));
+        for (GateTicketView ticket : changed) {
+            GateCheckInIndex index = indexes.get(ticket.getEventId());
+            if (index != null) {
+                index.apply(ticket);
+            }
+            if (ticket.getUpdatedAt().isAfter(watermark)) {
+                watermark = ticket.getUpdatedAt();
+            }
+        }
+    }
+
+    /** Loads the indexes of events about to open and drops those no gate has used for a while. */
+    @Scheduled(fixedDelayString = "${app.checkin.preload-interval-ms:60000}")
+    public void preloadUpcoming() {
+        ZonedDateTime now = ZonedDateTime.now();
+        Set<UUID> open = new HashSet<>(eventRepository.findIdsOpenBy(now, now.plus(preloadLead)));
+        for (UUID eventId : open) {
+            if (!indexes.containsKey(eventId)) {
+                load(eventId);
+            }
+        }
+
+        long idleSince = System.currentTimeMillis() - idleEviction.toMillis();
+        indexes.entrySet().removeIf(entry ->
+                !open.contains(entry.getKey()) && entry.getValue().lastUsedMillis() < idleSince);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        int flushed = flushCheckIns();
+        if (!pending.isEmpty()) {
+            log.warn("Shutting down with {} check-ins not written back", pending.size());
+        } else if (flushed > 0) {
+            log.info("Wrote back {} check-ins on shutdown", flushed);
+        }
+    }
+
+    // -------- helpers --------
+
+    private GateCheckInIndex load(UUID eventId) {
+        loadLock.lock();
+        try {
+            GateCheckInIndex index = indexes.get(eventId);
+            if (index != null) {
+                return index;
+            }
+            if (!eventRepository.existsById(eventId)) {
+                throw new EntityNotFoundException("Event not found");
+            }
+            // With nothing loaded there is nothing to catch up on; start polling from this load
+            if (indexes.isEmpty()) {
+                watermark = OffsetDateTime.now();
+            }
+            index = new GateCheckInIndex();
+            ticketRepository.findGateTicketsByEvent(eventId).forEach(index::apply);
+            indexes.put(eventId, index);
+            log.info("Loaded gate index for event {} with {} tickets", eventId, index.size());
+            return index;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * Writes a failed batch row by row so one bad row cannot hold back the rest. A row the database refuses is
+     * dropped; any other failure (connection, timeout) requeues what is left and returns false.
+     */
+    private boolean writeBackOneByOne(List<PendingCheckIn> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            PendingCheckIn checkIn = batch.get(i);
+            try {
+                batchTransaction.executeWithoutResult(tx -> writeBack(List.of(checkIn)));
+            } catch (DataIntegrityViolationException ex) {
+                // retrying cannot fix it; the index keeps the ticket as used on this node
+                rejected.increment();
+                log.error("Dropping check-in of ticket {} at gate {} by checker {}: rejected by the database",
+                        checkIn.ticketId(), checkIn.gate(), checkIn.checkerId(), ex);
+            } catch (DataAccessException ex) {
+                // the index already shows these tickets as used, so nothing is lost by retrying on the next run
+                pending.addAll(batch.subList(i, batch.size()));
+                log.warn("Could not write back {} check-ins, retrying: {}", batch.size() - i, ex.getMessage());
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void writeBack(List<PendingCheckIn> batch) {
+        List<Object[]> rows = batch.stream()
+                .map(c -> new Object[]{c.checkedInAt(), c.gate(), c.checkerId(), c.ticketId()})
+                .toList();
+        int[] updated = jdbcTemplate.batchUpdate(WRITE_BACK_SQL, rows);
+        int applied = 0;
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                conflicts.increment();
+                log.warn("Ticket {} admitted at gate {} was no longer ISSUED when written back",
+                        batch.get(i).ticketId(), batch.get(i).gate());
+            } else {
+                applied++;
+            }
+        }
+        written.increment(applied);
+    }
+
+    private static TicketScanResponse toResponse(Scan scan) {
+        return TicketScanResponse.builder()
+                .result(scan.outcome().name())
+                .ticketId(scan.ticketId())
+                .status(scan.status() != null ? scan.status().name() : null)
+                .seatLabel(scan.seatLabel())
+                .holderName(scan.holderName())
+                .gate(scan.checkIn() != null ? scan.checkIn().gate() : null)
+                .checkedInAt(scan.checkIn() != null ? scan.checkIn().at() : null)
+                .build();
+    }
+
+    private record PendingCheckIn(UUID ticketId, UUID checkerId, String gate, OffsetDateTime checkedInAt) {
+    }
+}
@@ -0,0 +1,212 @@
+package com.oshayer.event_manager.ticketing.service.impl;
+
+import com.oshayer.event_manager.events.entity.EventSeatEntity.EventSeatStatus;
+import com.oshayer.event_manager.events.repository.EventSeatRepository;
+import com.oshayer.event_manager.events.repository.EventSeatRepository.ReleasedSeatView;
+import com.oshayer.event_manager.events.repository.EventTicketTierRepository;
+import com.oshayer.event_manager.events.service.SeatInventoryService;
+import com.oshayer.event_manager.ticketing.expiry.HoldTimingWheel;
+import com.oshayer.event_manager.ticketing.repository.ReservationHoldRepository;
+import com.oshayer.event_manager.ticketing.repository.ReservationHoldRepository.HoldExpiryView;
+import com.oshayer.event_manager.ticketing.service.HoldExpiryService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class HoldExpiryServiceImpl implements HoldExpiryService {
+
+    private final ReservationHoldRepository holdRepo;
+    private final EventSeatRepository eventSeatRepo;
+    private final EventTicketTierRepository tierRepo;
+    private final SeatInventoryService seatInventoryService;
+    private final TransactionTemplate batchTransaction;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final HoldTimingWheel wheel;
+
+    private final Counter expiredHolds;
+    private final Counter releasedSeats;
+    private final Timer sweepTimer;
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public HoldExpiryServiceImpl(ReservationHoldRepository holdRepo,
+                                 EventSeatRepository eventSeatRepo,
+                                 EventTicketTierRepository tierRepo,
+                                 SeatInventoryService seatInventoryService,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.holds.expiry.batch-size:200}") int batchSize,
+                                 @Value("${app.holds.expiry.max-batches-per-run:50}") int maxBatchesPerRun,
+                                 @Value("${app.holds.expiry.wheel.tick-ms:250}") long wheelTickMs,
+                                 @Value("${app.holds.expiry.wheel.slots:64}") int wheelSlots,
+                                 @Value("${app.holds.expiry.wheel.levels:4}") int wheelLevels) {
+        this.holdRepo = holdRepo;
+        this.eventSeatRepo = eventSeatRepo;
+        this.tierRepo = tierRepo;
+        this.seatInventoryService = seatInventoryService;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.wheel = new HoldTimingWheel(wheelTickMs, wheelSlots, wheelLevels, System.currentTimeMillis());
+
+        this.expiredHolds = Counter.builder("holds.expiry.expired")
+                .description("Holds moved to EXPIRED by the sweeper")
+                .register(meterRegistry);
+        this.releasedSeats = Counter.builder("holds.expiry.seats.released")
+                .description("Seats returned to AVAILABLE by the sweeper")
+                .register(meterRegistry);
+        this.sweepTimer = Timer.builder("holds.expiry.sweep")
+                .description("Duration of one expiry sweep")
+                .register(meterRegistry);
+        Gauge.builder("holds.expiry.lag", lagMillis, millis -> millis.get() / 1000.0)
+                .description("Seconds the oldest overdue ACTIVE hold has been waiting, as of the last sweep")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("holds.expiry.wheel.size", wheel, HoldTimingWheel::size)
+                .description("Holds currently scheduled on the in-memory expiry wheel")
+                .register(meterRegistry);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.holds.expiry.interval-ms:5000}")
+    public int expireDueHolds() {
+        return sweepTimer.record(() -> {
+            int total = 0;
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                BatchResult result = batchTransaction.execute(tx -> expireBatch(OffsetDateTime.now()));
+                expiredHolds.increment(result.holds());
+                releasedSeats.increment(result.seats());
+                total += result.holds();
+                if (result.holds() < batchSize) {
+                    break;
+                }
+            }
+            recordLag();
+            if (total > 0) {
+                log.debug("Expired {} reservation holds", total);
+            }
+            return total;
+        });
+    }
+
+    @Override
+    public void track(UUID holdId, OffsetDateTime expiresAt) {
+        afterCommit(() -> wheel.schedule(holdId, expiresAt.toInstant().toEpochMilli()));
+    }
+
+    @Override
+    public void untrack(UUID holdId) {
+        afterCommit(() -> wheel.cancel(holdId));
+    }
+
+    /**
+     * Seeds the wheel with every hold that is still running, so a restart does not push expiry back to
+     * the database sweep.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildWheel() {
+        var active = holdRepo.findActiveNotExpiredExpiries(OffsetDateTime.now());
+        active.forEach(hold -> wheel.schedule(hold.getId(), hold.getExpiresAt().toInstant().toEpochMilli()));
+        log.info("Scheduled {} active reservation holds on the expiry wheel", active.size());
+    }
+
+    @Scheduled(fixedRateString = "${app.holds.expiry.wheel.tick-ms:250}")
+    public void advanceWheel() {
+        List<UUID> due = wheel.advance(System.currentTimeMillis());
+        if (due.isEmpty()) {
+            return;
+        }
+        for (int from = 0; from < due.size(); from += batchSize) {
+            var batch = due.subList(from, Math.min(due.size(), from + batchSize));
+            BatchResult result = batchTransaction.execute(tx -> expireHolds(batch, OffsetDateTime.now()));
+            expiredHolds.increment(result.holds());
+            releasedSeats.increment(result.seats());
+        }
+    }
+
+    // -------- helpers --------
+
+    private BatchResult expireBatch(OffsetDateTime now) {
+        return expire(holdRepo.lockExpiredActive(now, batchSize), now);
+    }
+
+    /**
+     * Holds that are gone, no longer ACTIVE or locked by a checkout are skipped; anything still due
+     * afterwards is picked up by the next database sweep.
+     */
+    private BatchResult expireHolds(Collection<UUID> candidates, OffsetDateTime now) {
+        return expire(holdRepo.lockExpiredActiveByIds(candidates, now), now);
+    }
+
+    private BatchResult expire(List<HoldExpiryView> locked, OffsetDateTime now) {
+        List<UUID> holdIds = locked.stream()
+                .map(HoldExpiryView::getId)
+                .toList();
+        if (holdIds.isEmpty()) {
+            return new BatchResult(0, 0);
+        }
+
+        holdRepo.markExpired(holdIds, now);
+        List<ReleasedSeatView> released = eventSeatRepo.releaseReservedSeatsOfHolds(holdIds);
+
+        // The rows are already AVAILABLE in the database; the in-memory inventories follow on commit
+        released.stream()
+                .collect(Collectors.groupingBy(ReleasedSeatView::getEventId,
+                        Collectors.mapping(ReleasedSeatView::getId, Collectors.toList())))
+                .forEach((eventId, eventSeatIds) ->
+                        seatInventoryService.sync(eventId, eventSeatIds, EventSeatStatus.AVAILABLE));
+        released.stream()
+                .filter(seat -> seat.getTierCode() != null)
+                .collect(Collectors.groupingBy(ReleasedSeatView::getEventId,
+                        Collectors.groupingBy(ReleasedSeatView::getTierCode, Collectors.counting())))
+                .forEach((eventId, byTier) -> byTier.forEach((tierCode, count) ->
+                        tierRepo.adjustSeatCounters(eventId, tierCode, -count.intValue(), 0, 0)));
+
+        // Holds found by the database sweep may still be on this node's wheel
+        afterCommit(() -> holdIds.forEach(wheel::cancel));
+        return new BatchResult(holdIds.size(), released.size());
+    }
+
+    private void recordLag() {
+        OffsetDateTime now = OffsetDateTime.now();
+        OffsetDateTime oldest = holdRepo.findOldestExpiredActive(now);
+        lagMillis.set(oldest == null ? 0 : Duration.between(oldest, now).toMillis());
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record BatchResult(int holds, int seats) {
+    }
+}
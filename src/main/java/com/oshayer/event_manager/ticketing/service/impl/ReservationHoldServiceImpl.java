@@ -12,20 +12,23 @@ import com.oshayer.event_manager.events.entity.EventTicketTier;
 import com.oshayer.event_manager.events.repository.EventRepository;
 import com.oshayer.event_manager.events.repository.EventSeatRepository;
 import com.oshayer.event_manager.events.repository.EventTicketTierRepository;
-import com.oshayer.event_manager.seat.entity.SeatEntity;
-import com.oshayer.event_manager.seat.entity.SeatLayout;
-import com.oshayer.event_manager.seat.repository.SeatLayoutRepository;
-import com.oshayer.event_manager.seat.repository.SeatRepository;
-import com.oshayer.event_manager.venues.entity.EventVenue;
-import com.oshayer.event_manager.venues.repository.EventVenueRepository;
+import com.oshayer.event_manager.events.service.SeatInventoryService;
+import com.oshayer.event_manager.shared.web.CursorPage;
+import com.oshayer.event_manager.shared.web.KeysetCursor;
 import com.oshayer.event_manager.ticketing.dto.HoldConvertRequest;
 import com.oshayer.event_manager.ticketing.dto.HoldCreateRequest;
 import com.oshayer.event_manager.ticketing.dto.HoldReleaseRequest;
 import com.oshayer.event_manager.ticketing.dto.HoldResponse;
+import com.oshayer.event_manager.ticketing.entity.HoldLineItems;
 import com.oshayer.event_manager.ticketing.entity.ReservationHoldDiscountEntity;
 import com.oshayer.event_manager.ticketing.entity.ReservationHoldEntity;
 import com.oshayer.event_manager.ticketing.entity.ReservationHoldEntity.HoldStatus;
+import com.oshayer.event_manager.ticketing.repository.ReservationHoldDiscountRepository;
+import com.oshayer.event_manager.ticketing.repository.ReservationHoldDiscountRepository.AppliedDiscountView;
 import com.oshayer.event_manager.ticketing.repository.ReservationHoldRepository;
+import com.oshayer.event_manager.ticketing.repository.ReservationHoldRepository.HeldSeatView;
+import com.oshayer.event_manager.ticketing.repository.ReservationHoldRepository.HoldListingView;
+import com.oshayer.event_manager.ticketing.service.HoldExpiryService;
 import com.oshayer.event_manager.ticketing.service.ReservationHoldService;
 import com.oshayer.event_manager.users.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
@@ -33,9 +36,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.OffsetDateTime;
-import org.springframework.data.domain.PageRequest;
 
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
@@ -43,6 +44,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -51,14 +53,14 @@ import java.util.stream.Collectors;
 public class ReservationHoldServiceImpl implements ReservationHoldService {
 
     private final ReservationHoldRepository holdRepo;
+    private final ReservationHoldDiscountRepository holdDiscountRepo;
     private final EventSeatRepository eventSeatRepo;
     private final EventRepository eventRepo;
     private final EventTicketTierRepository eventTicketTierRepository;
-    private final SeatRepository seatRepository;
-    private final SeatLayoutRepository seatLayoutRepository;
-    private final EventVenueRepository venueRepository;
     private final UserRepository userRepo;
     private final DiscountService discountService;
+    private final SeatInventoryService seatInventoryService;
+    private final HoldExpiryService holdExpiryService;
 
     @Override
     public HoldResponse create(HoldCreateRequest req) {
@@ -99,7 +101,7 @@ public class ReservationHoldServiceImpl implements ReservationHoldService {
                 .event(event)
                 .status(HoldStatus.ACTIVE)
                 .heldSeats(seatsToHold)
-                .itemsJson(buildItemsJson(seatsToHold))
+                .lineItems(HoldLineItems.of(seatsToHold))
                 .expiresAt(req.getExpiresAt())
                 .subtotalAmount(discountResult.getSubtotal())
                 .discountAmount(discountResult.getDiscountTotal())
@@ -115,41 +117,38 @@ public class ReservationHoldServiceImpl implements ReservationHoldService {
         hold.setAppliedDiscounts(mapAppliedDiscounts(hold, discountResult));
 
         ReservationHoldEntity h = holdRepo.save(hold);
+        holdExpiryService.track(h.getId(), h.getExpiresAt());
         return toResponse(h);
     }
 
     @Override
     public HoldResponse release(HoldReleaseRequest req) {
-        ReservationHoldEntity h = holdRepo.findById(req.getHoldId())
-                .orElseThrow(() -> new EntityNotFoundException("Hold not found"));
+        ReservationHoldEntity h = lockWithDetails(req.getHoldId());
         if (h.getStatus() != HoldStatus.ACTIVE) return toResponse(h);
 
         // Make all held seats available again
-        for (EventSeatEntity seat : h.getHeldSeats()) {
-            seat.setStatus(EventSeatStatus.AVAILABLE);
-        }
+        releaseSeats(h);
 
         h.setStatus(HoldStatus.RELEASED);
+        holdExpiryService.untrack(h.getId());
         return toResponse(h);
     }
 
     @Override
     public HoldResponse convert(HoldConvertRequest req) {
-        ReservationHoldEntity h = holdRepo.findById(req.getHoldId())
-                .orElseThrow(() -> new EntityNotFoundException("Hold not found"));
+        ReservationHoldEntity h = lockWithDetails(req.getHoldId());
         if (h.getStatus() != HoldStatus.ACTIVE)
             throw new IllegalStateException("Only ACTIVE holds can be converted");
         if (h.getExpiresAt().isBefore(OffsetDateTime.now())) {
             // When a hold expires, release the seats
-            for (EventSeatEntity seat : h.getHeldSeats()) {
-                seat.setStatus(EventSeatStatus.AVAILABLE);
-            }
+            releaseSeats(h);
             h.setStatus(HoldStatus.EXPIRED);
             throw new IllegalStateException("Hold has expired");
         }
 
         h.setStatus(HoldStatus.CONVERTED);
         h.setFinalizedPaymentId(req.getPaymentId());
+        holdExpiryService.untrack(h.getId());
         discountService.recordRedemptionForHold(h);
         // Note: The seats remain RESERVED. They will be marked as SOLD when the actual ticket is issued.
         return toResponse(h);
@@ -158,32 +157,86 @@ public class ReservationHoldServiceImpl implements ReservationHoldService {
     @Override
     @Transactional(readOnly = true)
     public HoldResponse get(UUID holdId) {
-        return holdRepo.findById(holdId).map(this::toResponse)
+        ReservationHoldEntity h = holdRepo.findWithSeatsById(holdId)
                 .orElseThrow(() -> new EntityNotFoundException("Hold not found"));
+        holdRepo.findWithDiscountsById(holdId);
+        return toResponse(h);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<HoldResponse> listActive(UUID eventId) {
-        return holdRepo.findActiveNotExpired(eventId, OffsetDateTime.now())
-                .stream().map(this::toResponse).toList();
+    public CursorPage<HoldResponse> listActive(UUID eventId, String cursor, Integer limit) {
+        int size = CursorPage.limit(limit);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<HoldListingView> rows = holdRepo.findActivePage(eventId, OffsetDateTime.now(),
+                after != null ? after.timestampKey() : null, after != null ? after.id() : null,
+                CursorPage.fetch(size));
+        CursorPage<HoldListingView> page = CursorPage.of(rows, size,
+                h -> new KeysetCursor(h.getExpiresAt(), h.getId()));
+        if (page.items().isEmpty()) {
+            return new CursorPage<>(List.of(), null);
+        }
+
+        // Seats and discounts for the whole page in one query each
+        List<UUID> holdIds = page.items().stream().map(HoldListingView::getId).toList();
+        Map<UUID, List<HoldResponse.HeldSeatInfo>> seatsByHold = holdRepo.findHeldSeats(holdIds).stream()
+                .collect(Collectors.groupingBy(HeldSeatView::getHoldId, Collectors.mapping(
+                        s -> HoldResponse.HeldSeatInfo.builder()
+                                .seatId(s.getSeatId())
+                                .seatLabel(s.getSeatLabel())
+                                .tierCode(s.getTierCode())
+                                .build(),
+                        Collectors.toList())));
+        Map<UUID, List<HoldResponse.AppliedDiscountInfo>> discountsByHold =
+                holdDiscountRepo.findAppliedByHoldIds(holdIds).stream()
+                        .collect(Collectors.groupingBy(AppliedDiscountView::getHoldId, Collectors.mapping(
+                                d -> HoldResponse.AppliedDiscountInfo.builder()
+                                        .discountId(d.getDiscountId())
+                                        .code(d.getCode())
+                                        .name(d.getName())
+                                        .amount(d.getAmount())
+                                        .autoApplied(Boolean.TRUE.equals(d.getAutoApplied()))
+                                        .build(),
+                                Collectors.toList())));
+
+        List<HoldResponse> holds = page.items().stream()
+                .map(h -> HoldResponse.builder()
+                        .id(h.getId())
+                        .eventId(h.getEventId())
+                        .buyerId(h.getBuyerId())
+                        .status(h.getStatus().name())
+                        .heldSeats(seatsByHold.getOrDefault(h.getId(), List.of()))
+                        .expiresAt(h.getExpiresAt())
+                        .finalizedPaymentId(h.getFinalizedPaymentId())
+                        .createdAt(h.getCreatedAt())
+                        .updatedAt(h.getUpdatedAt())
+                        .subtotalAmount(h.getSubtotalAmount())
+                        .discountAmount(h.getDiscountAmount())
+                        .totalAmount(h.getTotalAmount())
+                        .appliedDiscounts(discountsByHold.getOrDefault(h.getId(), List.of()))
+                        .build())
+                .toList();
+        return new CursorPage<>(holds, page.nextCursor());
     }
 
     // -------- helper --------
 
-    private List<EventSeatEntity> reserveExplicitSeats(EventEntity event, List<UUID> seatIds) {
-        List<EventSeatEntity> seatsToHold = new ArrayList<>();
-        for (UUID seatId : seatIds) {
-            EventSeatEntity seat = eventSeatRepo.findByEventIdAndSeatId(event.getId(), seatId)
-                    .orElseThrow(() -> new EntityNotFoundException("Seat with ID " + seatId + " not found for this event"));
+    /**
+     * Locks the hold, then loads everything {@link #toResponse} and the seat release walk: seats with their
+     * seat rows and discounts with their discount rows. Both loads fill in the already-managed instance.
+     */
+    private ReservationHoldEntity lockWithDetails(UUID holdId) {
+        ReservationHoldEntity h = holdRepo.findByIdForUpdate(holdId)
+                .orElseThrow(() -> new EntityNotFoundException("Hold not found"));
+        holdRepo.findWithSeatsById(holdId);
+        holdRepo.findWithDiscountsById(holdId);
+        return h;
+    }
 
-            if (seat.getStatus() != EventSeatStatus.AVAILABLE) {
-                throw new IllegalStateException("Seat " + seat.getSeat().getLabel() + " is not available.");
-            }
-            seat.setStatus(EventSeatStatus.RESERVED);
-            seatsToHold.add(seat);
-        }
-        return seatsToHold;
+    private List<EventSeatEntity> reserveExplicitSeats(EventEntity event, List<UUID> seatIds) {
+        // Availability is decided in memory; the database only sees one fetch for the hold's rows.
+        List<UUID> eventSeatIds = seatInventoryService.claimSeats(event.getId(), seatIds);
+        return loadInOrder(eventSeatIds);
     }
 
     private List<EventSeatEntity> reserveGeneralAdmissionSeats(EventEntity event, List<HoldCreateRequest.TierSelection> tierSelections) {
@@ -199,7 +252,6 @@ public class ReservationHoldServiceImpl implements ReservationHoldService {
         Map<String, EventTicketTier> tiersByCode = tiers.stream()
                 .collect(Collectors.toMap(EventTicketTier::getTierCode, t -> t, (a, b) -> a, LinkedHashMap::new));
 
-        SeatLayout layout = null;
         List<EventSeatEntity> seatsToHold = new ArrayList<>();
 
         for (HoldCreateRequest.TierSelection selection : tierSelections) {
@@ -213,91 +265,33 @@ public class ReservationHoldServiceImpl implements ReservationHoldService {
                 throw new IllegalArgumentException("Quantity for tier " + tierCode + " must be positive.");
             }
 
-            long sold = tier.getSoldQuantity() == null ? 0 : tier.getSoldQuantity();
-            long reserved = eventSeatRepo.countByEventAndTierAndStatuses(
-                    event.getId(), tierCode, List.of(EventSeatStatus.RESERVED, EventSeatStatus.BLOCKED));
-            long available = tier.getTotalQuantity() - sold - reserved;
-            if (available < quantity) {
-                throw new IllegalStateException("Only " + Math.max(available, 0) + " tickets remain for tier " + tierCode + ".");
-            }
-
-            List<EventSeatEntity> reusable = eventSeatRepo.findAvailableSeats(
-                    event.getId(), tierCode, EventSeatStatus.AVAILABLE, PageRequest.of(0, quantity));
-            reusable.forEach(seat -> seat.setStatus(EventSeatStatus.RESERVED));
-            if (!reusable.isEmpty()) {
-                eventSeatRepo.saveAll(reusable);
-            }
-            seatsToHold.addAll(reusable);
-
-            int remaining = quantity - reusable.size();
-            if (remaining > 0) {
-                if (layout == null) {
-                    layout = ensureGeneralAdmissionSeatLayout(event, tiers);
-                }
-                long existing = eventSeatRepo.countByEvent_IdAndTierCode(event.getId(), tierCode);
-                for (int i = 0; i < remaining; i++) {
-                    long index = existing + i + 1;
-                    String label = tierCode + "-GA-" + String.format("%04d", index);
-
-                    SeatEntity seatEntity = SeatEntity.builder()
-                            .seatLayout(layout)
-                            .row(tierCode)
-                            .number((int) index)
-                            .label(label)
-                            .type("GENERAL")
-                            .build();
-                    seatEntity = seatRepository.save(seatEntity);
-
-                    EventSeatEntity eventSeat = EventSeatEntity.builder()
-                            .event(event)
-                            .seat(seatEntity)
-                            .tierCode(tierCode)
-                            .price(tier.getPrice())
-                            .status(EventSeatStatus.RESERVED)
-                            .build();
-                    eventSeat = eventSeatRepo.save(eventSeat);
-                    seatsToHold.add(eventSeat);
-                }
+            // Availability is checked and reserved on the tier's counters in one conditional update
+            List<UUID> claimed = seatInventoryService.claimByTier(event.getId(), tierCode, quantity);
+            if (claimed.size() < quantity) {
+                // The tier counter allowed it but the pool is smaller than the tier; it is topped up when
+                // the event's tiers are saved, never from the hold path
+                throw new IllegalStateException("General admission pool for tier " + tierCode + " has no free seats left.");
             }
+            seatsToHold.addAll(loadInOrder(claimed));
         }
 
         return seatsToHold;
     }
 
-    private SeatLayout ensureGeneralAdmissionSeatLayout(EventEntity event, List<EventTicketTier> tiers) {
-        if (event.getSeatLayoutId() != null) {
-            return seatLayoutRepository.findById(event.getSeatLayoutId())
-                    .orElseThrow(() -> new IllegalArgumentException("Seat layout not found: " + event.getSeatLayoutId()));
-        }
-
-        EventVenue venue = venueRepository.findById(event.getVenueId())
-                .orElseThrow(() -> new IllegalArgumentException("Venue not found: " + event.getVenueId()));
-
-        int capacity = tiers.stream().mapToInt(EventTicketTier::getTotalQuantity).sum();
-        String baseName = "Freestyle layout - " + event.getEventName();
-        String layoutName = baseName;
-        int suffix = 1;
-        while (seatLayoutRepository.existsByVenue_IdAndLayoutName(venue.getId(), layoutName)) {
-            layoutName = baseName + " (" + suffix++ + ")";
+    private List<EventSeatEntity> loadInOrder(List<UUID> eventSeatIds) {
+        if (eventSeatIds.isEmpty()) {
+            return new ArrayList<>();
         }
+        Map<UUID, EventSeatEntity> byId = eventSeatRepo.findAllWithSeatByIdIn(eventSeatIds).stream()
+                .collect(Collectors.toMap(EventSeatEntity::getId, Function.identity()));
+        return eventSeatIds.stream().map(byId::get).collect(Collectors.toCollection(ArrayList::new));
+    }
 
-        SeatLayout freestyleLayout = SeatLayout.builder()
-                .venue(venue)
-                .typeCode("220")
-                .typeName("Freestyle")
-                .layoutName(layoutName)
-                .totalRows(tiers.size())
-                .totalCols(capacity)
-                .standingCapacity(capacity)
-                .totalCapacity(capacity)
-                .isActive(true)
-                .build();
-
-        freestyleLayout = seatLayoutRepository.save(freestyleLayout);
-        event.setSeatLayoutId(freestyleLayout.getId());
-        eventRepo.save(event);
-        return freestyleLayout;
+    private void releaseSeats(ReservationHoldEntity hold) {
+        List<UUID> eventSeatIds = hold.getHeldSeats().stream().map(EventSeatEntity::getId).toList();
+        seatInventoryService.transition(hold.getEvent().getId(), eventSeatIds, EventSeatStatus.AVAILABLE);
     }
+
     private HoldResponse toResponse(ReservationHoldEntity h) {
         List<HoldResponse.HeldSeatInfo> heldSeatInfo = h.getHeldSeats().stream()
                 .map(es -> HoldResponse.HeldSeatInfo.builder()
@@ -324,22 +318,6 @@ public class ReservationHoldServiceImpl implements ReservationHoldService {
                 .build();
     }
 
-    private String buildItemsJson(List<EventSeatEntity> seats) {
-        return seats.stream()
-                .map(es -> "{" +
-                        "\"seatId\":\"" + es.getId() + "\"," +
-                        "\"seatLabel\":\"" + escapeJson(es.getSeat().getLabel()) + "\"," +
-                        "\"tierCode\":\"" + escapeJson(es.getTierCode()) + "\"," +
-                        "\"price\":\"" + (es.getPrice() != null ? es.getPrice() : BigDecimal.ZERO) + "\"" +
-                        "}")
-                .collect(Collectors.joining(",", "[", "]"));
-    }
-
-    private String escapeJson(String value) {
-        if (value == null) return "";
-        return value.replace("\\", "\\\\").replace("\"", "\\\"");
-    }
-
     private List<DiscountLineItem> buildLineItems(List<EventSeatEntity> seats) {
         return seats.stream().map(seat -> {
             if (seat.getPrice() == null) {
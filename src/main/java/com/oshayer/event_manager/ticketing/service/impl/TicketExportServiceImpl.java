@@ -0,0 +1,135 @@
+package com.oshayer.event_manager.ticketing.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oshayer.event_manager.events.repository.EventRepository;
+import com.oshayer.event_manager.ticketing.repository.TicketRepository;
+import com.oshayer.event_manager.ticketing.repository.TicketRepository.TicketListingView;
+import com.oshayer.event_manager.ticketing.service.TicketExportService;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+@Service
+public class TicketExportServiceImpl implements TicketExportService {
+
+    private static final int WRITE_BUFFER_CHARS = 64 * 1024;
+
+    /** Export columns, in TicketResponse order. */
+    private static final List<Map.Entry<String, Function<TicketListingView, Object>>> COLUMNS = List.of(
+            Map.entry("id", TicketListingView::getId),
+            Map.entry("status", TicketListingView::getStatus),
+            Map.entry("eventId", TicketListingView::getEventId),
+            Map.entry("buyerId", TicketListingView::getBuyerId),
+            Map.entry("seatId", TicketListingView::getSeatId),
+            Map.entry("seatLabel", TicketListingView::getSeatLabel),
+            Map.entry("tierCode", TicketListingView::getTierCode),
+            Map.entry("price", TicketListingView::getPrice),
+            Map.entry("qrCode", TicketListingView::getQrCode),
+            Map.entry("verificationCode", TicketListingView::getVerificationCode),
+            Map.entry("holderName", TicketListingView::getHolderName),
+            Map.entry("holderEmail", TicketListingView::getHolderEmail),
+            Map.entry("gate", TicketListingView::getGate),
+            Map.entry("checkerId", TicketListingView::getCheckerId),
+            Map.entry("checkedInAt", TicketListingView::getCheckedInAt),
+            Map.entry("reservedUntil", TicketListingView::getReservedUntil),
+            Map.entry("issuedAt", TicketListingView::getIssuedAt),
+            Map.entry("refundAmount", TicketListingView::getRefundAmount),
+            Map.entry("refundedAt", TicketListingView::getRefundedAt),
+            Map.entry("createdAt", TicketListingView::getCreatedAt),
+            Map.entry("updatedAt", TicketListingView::getUpdatedAt));
+
+    private final TicketRepository ticketRepository;
+    private final EventRepository eventRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readTransaction;
+
+    public TicketExportServiceImpl(TicketRepository ticketRepository,
+                                   EventRepository eventRepository,
+                                   ObjectMapper objectMapper,
+                                   PlatformTransactionManager transactionManager) {
+        this.ticketRepository = ticketRepository;
+        this.eventRepository = eventRepository;
+        this.objectMapper = objectMapper;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public StreamingResponseBody exportByEvent(UUID eventId, Format format) {
+        if (!eventRepository.existsById(eventId)) {
+            throw new EntityNotFoundException("Event not found");
+        }
+        // Runs on the async request thread; the cursor only lives inside this transaction
+        return out -> readTransaction.executeWithoutResult(status -> {
+            Writer writer = new BufferedWriter(
+                    new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_CHARS);
+            try (Stream<TicketListingView> rows = ticketRepository.streamByEvent(eventId)) {
+                if (format == Format.CSV) {
+                    writeCsv(rows, writer);
+                } else {
+                    writeNdjson(rows, writer);
+                }
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void writeCsv(Stream<TicketListingView> rows, Writer writer) throws IOException {
+        writer.write(String.join(",", COLUMNS.stream().map(Map.Entry::getKey).toList()));
+        writer.write("\r\n");
+        for (TicketListingView row : (Iterable<TicketListingView>) rows::iterator) {
+            for (int i = 0; i < COLUMNS.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                Object value = COLUMNS.get(i).getValue().apply(row);
+                if (value != null) {
+                    writer.write(csvField(value.toString()));
+                }
+            }
+            writer.write("\r\n");
+        }
+    }
+
+    private void writeNdjson(Stream<TicketListingView> rows, Writer writer) throws IOException {
+        try (JsonGenerator json = objectMapper.createGenerator(writer)) {
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            json.setRootValueSeparator(null); // records are separated by the newline below
+            for (TicketListingView row : (Iterable<TicketListingView>) rows::iterator) {
+                json.writeStartObject();
+                for (Map.Entry<String, Function<TicketListingView, Object>> column : COLUMNS) {
+                    json.writeObjectField(column.getKey(), column.getValue().apply(row));
+                }
+                json.writeEndObject();
+                json.writeRaw('\n');
+            }
+        }
+    }
+
+    /** RFC 4180 quoting, only where the value needs it. */
+    private static String csvField(String value) {
+        boolean plain = value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0;
+        if (plain) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -3,7 +3,10 @@ package com.oshayer.event_manager.ticketing.service.impl;
 import com.oshayer.event_manager.events.entity.EventSeatEntity;
 import com.oshayer.event_manager.events.entity.EventSeatEntity.EventSeatStatus;
 import com.oshayer.event_manager.events.repository.EventSeatRepository;
-import com.oshayer.event_manager.events.repository.EventTicketTierRepository;
+import com.oshayer.event_manager.events.service.SeatInventoryService;
+import com.oshayer.event_manager.notification.service.EmailService;
+import com.oshayer.event_manager.shared.web.CursorPage;
+import com.oshayer.event_manager.shared.web.KeysetCursor;
 import com.oshayer.event_manager.ticketing.dto.TicketCheckInRequest;
 import com.oshayer.event_manager.ticketing.dto.TicketCreateRequest;
 import com.oshayer.event_manager.ticketing.dto.TicketRefundRequest;
@@ -11,12 +14,14 @@ import com.oshayer.event_manager.ticketing.dto.TicketResponse;
 import com.oshayer.event_manager.ticketing.entity.TicketEntity;
 import com.oshayer.event_manager.ticketing.entity.TicketEntity.TicketStatus;
 import com.oshayer.event_manager.ticketing.repository.TicketRepository;
+import com.oshayer.event_manager.ticketing.repository.TicketRepository.TicketListingView;
 import com.oshayer.event_manager.ticketing.service.TicketService;
 import com.oshayer.event_manager.users.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.time.OffsetDateTime;
 import java.util.List;
@@ -29,28 +34,23 @@ public class TicketServiceImpl implements TicketService {
 
     private final TicketRepository ticketRepository;
     private final EventSeatRepository eventSeatRepository;
-    private final EventTicketTierRepository eventTicketTierRepository;
     private final UserRepository userRepository;
+    private final SeatInventoryService seatInventoryService;
+    private final EmailService emailService;
 
     @Override
     public TicketResponse createPending(TicketCreateRequest req) {
-        // 1. Find the requested EventSeat
-        EventSeatEntity eventSeat = eventSeatRepository.findByEventIdAndSeatId(req.getEventId(), req.getSeatId())
-                .orElseThrow(() -> new EntityNotFoundException("Event seat not found"));
+        // 1. Claim the requested seat in the inventory (checks existence + availability, marks it reserved)
+        UUID eventSeatId = seatInventoryService.claimSeats(req.getEventId(), List.of(req.getSeatId())).get(0);
 
-        // 2. Check if it's available
-        if (eventSeat.getStatus() != EventSeatStatus.AVAILABLE) {
-            throw new IllegalStateException("Seat " + eventSeat.getSeat().getLabel() + " is not available");
-        }
+        // 2. Load the claimed EventSeat
+        EventSeatEntity eventSeat = eventSeatRepository.findById(eventSeatId)
+                .orElseThrow(() -> new EntityNotFoundException("Event seat not found"));
 
         // 3. Find the buyer
         var buyer = userRepository.findById(req.getBuyerId())
                 .orElseThrow(() -> new EntityNotFoundException("Buyer not found"));
 
-        // 4. Mark the seat as reserved
-        eventSeat.setStatus(EventSeatStatus.RESERVED);
-        eventSeatRepository.save(eventSeat);
-
         // 5. Create the ticket
         String qr = UUID.randomUUID().toString();
         String shortCode = UUID.randomUUID().toString().replace("-", "").substring(0, 10).toUpperCase();
@@ -79,14 +79,19 @@ public class TicketServiceImpl implements TicketService {
         if (t.getReservedUntil() != null && t.getReservedUntil().isBefore(OffsetDateTime.now())) {
             t.setStatus(TicketStatus.EXPIRED);
             // Revert the seat status to AVAILABLE
-            t.getEventSeat().setStatus(EventSeatStatus.AVAILABLE);
+            moveSeat(t.getEventSeat(), EventSeatStatus.AVAILABLE);
             return toResponse(t);
         }
         t.setStatus(TicketStatus.ISSUED);
         t.setIssuedAt(OffsetDateTime.now());
         // Mark the seat as permanently SOLD
-        t.getEventSeat().setStatus(EventSeatStatus.SOLD);
-        adjustTierSoldCount(t.getEventSeat(), 1);
+        moveSeat(t.getEventSeat(), EventSeatStatus.SOLD);
+        // Queued with the issue itself; rendering the QR code and sending happen in the background
+        EventSeatEntity es = t.getEventSeat();
+        emailService.sendTicketEmail(
+                StringUtils.hasText(t.getHolderEmail()) ? t.getHolderEmail() : t.getBuyer().getEmail(),
+                t.getId(), t.getQrCode(), t.getVerificationCode(),
+                es.getEvent().getEventName(), es.getSeat().getLabel());
         return toResponse(t);
     }
 
@@ -118,8 +123,7 @@ public class TicketServiceImpl implements TicketService {
         }
 
         // Business Decision: When a ticket is refunded, the seat should become available again.
-        t.getEventSeat().setStatus(EventSeatStatus.AVAILABLE);
-        adjustTierSoldCount(t.getEventSeat(), -1);
+        moveSeat(t.getEventSeat(), EventSeatStatus.AVAILABLE);
 
         t.setStatus(TicketStatus.REFUNDED);
         t.setRefundAmount(req.getRefundAmount());
@@ -139,14 +143,24 @@ public class TicketServiceImpl implements TicketService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<TicketResponse> listByEvent(UUID eventId) {
-        return ticketRepository.findByEventSeat_Event_Id(eventId).stream().map(this::toResponse).toList();
+    public CursorPage<TicketResponse> listByEvent(UUID eventId, String cursor, Integer limit) {
+        int size = CursorPage.limit(limit);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<TicketListingView> rows = ticketRepository.findPageByEvent(eventId,
+                after != null ? after.timestampKey() : null, after != null ? after.id() : null,
+                CursorPage.fetch(size));
+        return toPage(rows, size);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<TicketResponse> listByBuyer(UUID buyerId) {
-        return ticketRepository.findByBuyer_Id(buyerId).stream().map(this::toResponse).toList();
+    public CursorPage<TicketResponse> listByBuyer(UUID buyerId, String cursor, Integer limit) {
+        int size = CursorPage.limit(limit);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<TicketListingView> rows = ticketRepository.findPageByBuyer(buyerId,
+                after != null ? after.timestampKey() : null, after != null ? after.id() : null,
+                CursorPage.fetch(size));
+        return toPage(rows, size);
     }
 
     // -------- helpers --------
@@ -180,21 +194,39 @@ public class TicketServiceImpl implements TicketService {
                 .build();
     }
 
-    private void adjustTierSoldCount(EventSeatEntity seat, int delta) {
-        if (seat == null || delta == 0) {
-            return;
-        }
+    private CursorPage<TicketResponse> toPage(List<TicketListingView> rows, int size) {
+        List<TicketResponse> tickets = rows.stream().map(this::toResponse).toList();
+        return CursorPage.of(tickets, size, t -> new KeysetCursor(t.getCreatedAt(), t.getId()));
+    }
 
-        var event = seat.getEvent();
-        if (event == null) {
-            return;
-        }
+    private TicketResponse toResponse(TicketListingView v) {
+        return TicketResponse.builder()
+                .id(v.getId())
+                .status(v.getStatus().name())
+                .eventId(v.getEventId())
+                .buyerId(v.getBuyerId())
+                .seatId(v.getSeatId())
+                .seatLabel(v.getSeatLabel())
+                .tierCode(v.getTierCode())
+                .price(v.getPrice())
+                .qrCode(v.getQrCode())
+                .verificationCode(v.getVerificationCode())
+                .holderName(v.getHolderName())
+                .holderEmail(v.getHolderEmail())
+                .gate(v.getGate())
+                .checkerId(v.getCheckerId())
+                .reservedUntil(v.getReservedUntil())
+                .issuedAt(v.getIssuedAt())
+                .checkedInAt(v.getCheckedInAt())
+                .refundAmount(v.getRefundAmount())
+                .refundedAt(v.getRefundedAt())
+                .createdAt(v.getCreatedAt())
+                .updatedAt(v.getUpdatedAt())
+                .build();
+    }
 
-        eventTicketTierRepository.findByEventIdAndTierCode(event.getId(), seat.getTierCode())
-                .ifPresent(tier -> {
-                    int current = tier.getSoldQuantity() == null ? 0 : tier.getSoldQuantity();
-                    int updated = Math.max(0, current + delta);
-                    tier.setSoldQuantity(updated);
-                });
+    // The inventory also moves the tier's reserved/sold counters
+    private void moveSeat(EventSeatEntity seat, EventSeatStatus status) {
+        seatInventoryService.transition(seat.getEvent().getId(), List.of(seat.getId()), status);
     }
 }
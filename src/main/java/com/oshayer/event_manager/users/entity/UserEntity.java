@@ -117,6 +117,10 @@ public class UserEntity {
     @Column(name = "last_logout_at")
     private OffsetDateTime lastLogoutAt;
 
+    // JWTs issued before this are no longer accepted (set on password change/reset)
+    @Column(name = "tokens_valid_after")
+    private OffsetDateTime tokensValidAfter;
+
     // ===================== Ticketing Behavior =====================
     @Column(name = "total_ticket_count", nullable = false)
     private Integer totalTicketCount = 0;
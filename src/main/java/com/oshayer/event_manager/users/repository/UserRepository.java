@@ -38,9 +38,26 @@ public interface UserRepository extends JpaRepository<UserEntity, UUID> {
     """)
     List<RoleCountView> countByRole(OffsetDateTime start, OffsetDateTime end);
 
+    /** The account fields a JWT is checked against on each request (through UserAuthStateCache). */
+    @Query("""
+        select u.emailVerified as emailVerified, u.role as role, o.id as organizationId,
+               u.tokensValidAfter as tokensValidAfter
+        from UserEntity u
+        left join u.organization o
+        where u.id = :id
+    """)
+    Optional<AuthStateView> findAuthStateById(UUID id);
+
     interface RoleCountView {
         EnumUserRole getRole();
         Long getCount();
     }
 
+    interface AuthStateView {
+        Boolean getEmailVerified();
+        EnumUserRole getRole();
+        UUID getOrganizationId();
+        OffsetDateTime getTokensValidAfter();
+    }
+
 }
@@ -10,7 +10,8 @@ import org.modelmapper.ModelMapper;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import com.oshayer.event_manager.auth.security.CustomUserDetails;
+import com.oshayer.event_manager.auth.security.AuthenticatedUser;
+import com.oshayer.event_manager.auth.security.UserAuthStateCache;
 
 import java.util.List;
 import java.util.UUID;
@@ -23,6 +24,7 @@ public class UserServiceImpl implements UserService {
     private final PasswordEncoder passwordEncoder;
     private final ModelMapper modelMapper;
     private final OrganizationRepository organizationRepository;
+    private final UserAuthStateCache userAuthStateCache;
 
     @Override
     public UserResponse getCurrentUserProfile() {
@@ -98,8 +100,9 @@ public class UserServiceImpl implements UserService {
     private UserEntity getCurrentAuthenticatedUser() {
         Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
 
-        if (principal instanceof CustomUserDetails customUserDetails) {
-            return customUserDetails.getUser();
+        if (principal instanceof AuthenticatedUser authenticatedUser) {
+            return userRepository.findById(authenticatedUser.id())
+                    .orElseThrow(() -> new RuntimeException("User not found"));
         } else {
             String email = SecurityContextHolder.getContext().getAuthentication().getName();
             return userRepository.findByEmail(email)
@@ -107,10 +110,11 @@ public class UserServiceImpl implements UserService {
         }
     }
 
+    // The JWT principal only carries claims, so endpoints that need the entity load it here
     private UserEntity getCurrentUserEntity() {
         Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        if (principal instanceof CustomUserDetails customUserDetails) {
-            return customUserDetails.getUser();
+        if (principal instanceof AuthenticatedUser authenticatedUser) {
+            return userRepository.findById(authenticatedUser.id()).orElse(null);
         }
         return null;
     }
@@ -139,6 +143,7 @@ public class UserServiceImpl implements UserService {
         }
 
         userRepository.delete(user);
+        userAuthStateCache.evict(user.getId());
     }
 
     @Override
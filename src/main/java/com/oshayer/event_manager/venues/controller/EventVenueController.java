@@ -1,12 +1,13 @@
 package com.oshayer.event_manager.venues.controller;
 
+import com.oshayer.event_manager.shared.web.CursorPage;
 import com.oshayer.event_manager.venues.dto.EventVenueDTO;
 import com.oshayer.event_manager.venues.service.EventVenueService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -27,8 +28,14 @@ public class EventVenueController {
     }
 
     @GetMapping
-    public ResponseEntity<List<EventVenueDTO>> getAllVenues() {
-        return ResponseEntity.ok(venueService.getAllVenues());
+    public ResponseEntity<CursorPage<EventVenueDTO>> listVenues(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String typeCode,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "asc") String direction) {
+        return ResponseEntity.ok(
+                venueService.listVenues(q, typeCode, cursor, limit, Sort.Direction.fromString(direction)));
     }
 
     @PutMapping("/{id}")
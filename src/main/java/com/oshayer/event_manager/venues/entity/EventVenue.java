@@ -2,6 +2,8 @@ package com.oshayer.event_manager.venues.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import com.oshayer.event_manager.seat.entity.SeatLayout;
@@ -10,6 +12,8 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "venues")
 @Table(name = "event_venues")
 @Data
 @NoArgsConstructor
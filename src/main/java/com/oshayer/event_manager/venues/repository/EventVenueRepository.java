@@ -1,11 +1,36 @@
 package com.oshayer.event_manager.venues.repository;
 
+import com.oshayer.event_manager.venues.dto.EventVenueDTO;
 import com.oshayer.event_manager.venues.entity.EventVenue;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface EventVenueRepository extends JpaRepository<EventVenue, UUID> {
     Optional<EventVenue> findByVenueCode(String venueCode);
+
+    /**
+     * Keyset page of venues straight into DTOs, optionally filtered by a lower-case pattern over name and code
+     * and by an exact type code. Paging works as in {@code ArtistRepository.findPage}, keyed on venue name.
+     */
+    @Query("""
+        select new com.oshayer.event_manager.venues.dto.EventVenueDTO(
+            v.id, v.typeCode, v.typeName, v.venueCode, v.venueName, v.address, v.email, v.phone,
+            v.totalEvents, v.liveEvents, v.eventsUpcoming, v.maxCapacity, v.mapAddress,
+            v.socialMediaLink, v.websiteLink)
+        from EventVenue v
+        where (:pattern is null or lower(v.venueName) like :pattern or lower(v.venueCode) like :pattern)
+          and (:typeCode is null or v.typeCode = :typeCode)
+          and (:afterId is null
+               or (:descending = false
+                   and (v.venueName > :afterName or (v.venueName = :afterName and v.id > :afterId)))
+               or (:descending = true
+                   and (v.venueName < :afterName or (v.venueName = :afterName and v.id < :afterId))))
+    """)
+    List<EventVenueDTO> findPage(String pattern, String typeCode, String afterName, UUID afterId,
+                                 boolean descending, Pageable pageable);
 }
@@ -1,14 +1,16 @@
 package com.oshayer.event_manager.venues.service;
 
+import com.oshayer.event_manager.shared.web.CursorPage;
 import com.oshayer.event_manager.venues.dto.EventVenueDTO;
+import org.springframework.data.domain.Sort;
 
-import java.util.List;
 import java.util.UUID;
 
 public interface EventVenueService {
     EventVenueDTO createVenue(EventVenueDTO dto);
     EventVenueDTO getVenue(UUID id);
-    List<EventVenueDTO> getAllVenues();
+    CursorPage<EventVenueDTO> listVenues(String query, String typeCode, String cursor, Integer limit,
+                                         Sort.Direction direction);
     EventVenueDTO updateVenue(UUID id, EventVenueDTO dto);
     void deleteVenue(UUID id);
 }
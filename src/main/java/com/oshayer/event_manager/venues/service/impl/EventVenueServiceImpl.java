@@ -1,21 +1,27 @@
 package com.oshayer.event_manager.venues.service.impl;
 
+import com.oshayer.event_manager.seat.entity.SeatLayout;
+import com.oshayer.event_manager.shared.cache.ReferenceDataCache;
+import com.oshayer.event_manager.shared.web.CursorPage;
+import com.oshayer.event_manager.shared.web.KeysetCursor;
 import com.oshayer.event_manager.venues.dto.EventVenueDTO;
 import com.oshayer.event_manager.venues.entity.EventVenue;
 import com.oshayer.event_manager.venues.repository.EventVenueRepository;
 import com.oshayer.event_manager.venues.service.EventVenueService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class EventVenueServiceImpl implements EventVenueService {
 
     private final EventVenueRepository venueRepository;
+    private final ReferenceDataCache referenceDataCache;
 
     @Override
     public EventVenueDTO createVenue(EventVenueDTO dto) {
@@ -49,10 +55,16 @@ public class EventVenueServiceImpl implements EventVenueService {
     }
 
     @Override
-    public List<EventVenueDTO> getAllVenues() {
-        return venueRepository.findAll().stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<EventVenueDTO> listVenues(String query, String typeCode, String cursor, Integer limit,
+                                                Sort.Direction direction) {
+        int size = CursorPage.limit(limit);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<EventVenueDTO> rows = venueRepository.findPage(
+                CursorPage.containsPattern(query), typeCode,
+                after != null ? after.key() : null, after != null ? after.id() : null,
+                direction.isDescending(), CursorPage.fetch(size, Sort.by(direction, "venueName", "id")));
+        return CursorPage.of(rows, size, v -> new KeysetCursor(v.getVenueName(), v.getId()));
     }
 
     @Override
@@ -71,12 +83,16 @@ public class EventVenueServiceImpl implements EventVenueService {
         venue.setPhone(dto.getPhone());
 
         venueRepository.save(venue);
+        referenceDataCache.evictAfterCommit(EventVenue.class, id);
         return toDTO(venue);
     }
 
     @Override
     public void deleteVenue(UUID id) {
         venueRepository.deleteById(id);
+        referenceDataCache.evictAfterCommit(EventVenue.class, id);
+        // the venue's layouts go with it (cascade)
+        referenceDataCache.evictAllAfterCommit(SeatLayout.class);
     }
 
     private EventVenueDTO toDTO(EventVenue venue) {
@@ -0,0 +1,6 @@
+-- Ticket delivery emails: the outbox row carries the ticket's QR payload, and the dispatcher renders the PNG and
+-- attaches it when it builds the message, so issuing a ticket only writes a row.
+alter table email_outbox add column if not exists ticket_id uuid;
+alter table email_outbox add column if not exists qr_code varchar(256);
+-- "Was this ticket emailed?" lookups from support
+create index if not exists idx_email_outbox_ticket on email_outbox (ticket_id) where ticket_id is not null;
@@ -0,0 +1,4 @@
+-- Gate check-in nodes poll for tickets changed since their last look (issued, refunded or checked in elsewhere).
+-- Built CONCURRENTLY like V3, so see the matching .conf file.
+create index concurrently if not exists idx_ticket_updated_at
+    on tickets (updated_at);
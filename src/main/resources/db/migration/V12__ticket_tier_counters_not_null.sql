@@ -0,0 +1,15 @@
+-- Backfill the reserved/blocked counters of tiers that predate V2 here, before the application serves a request:
+-- tryReserve compares against their sum, and a NULL counter turns every GA reservation on the tier into a sellout.
+update event_ticket_tiers t
+set reserved_quantity = coalesce(t.reserved_quantity, (
+        select count(*) from event_seats es
+        where es.event_id = t.event_id and es.tier_code = t.tier_code and es.status = 'RESERVED')),
+    blocked_quantity = coalesce(t.blocked_quantity, (
+        select count(*) from event_seats es
+        where es.event_id = t.event_id and es.tier_code = t.tier_code and es.status = 'BLOCKED'))
+where t.reserved_quantity is null or t.blocked_quantity is null;
+
+alter table event_ticket_tiers alter column reserved_quantity set default 0;
+alter table event_ticket_tiers alter column reserved_quantity set not null;
+alter table event_ticket_tiers alter column blocked_quantity set default 0;
+alter table event_ticket_tiers alter column blocked_quantity set not null;
@@ -0,0 +1,3 @@
+-- email_outbox.qr_code holds a copy of tickets.qr_code, so it takes the same varchar(256). Databases that ran V10
+-- before it was corrected still have varchar(255); widening a varchar only touches the catalog, not the rows.
+alter table email_outbox alter column qr_code type varchar(256);
@@ -0,0 +1,375 @@
+-- Baseline: the schema as Hibernate's ddl-auto=update used to create it.
+-- Databases that already have these tables are baselined at this version (spring.flyway.baseline-on-migrate)
+-- and only run the migrations after it.
+
+create extension if not exists "uuid-ossp";
+
+-- ===================== Organizations & users =====================
+
+create table organizations (
+    id                     uuid primary key,
+    org_code               varchar(50)  not null,
+    name                   varchar(255) not null,
+    address                varchar(255),
+    contact_email          varchar(255),
+    phone                  varchar(255),
+    website                varchar(255),
+    image_url              varchar(255),
+    owner_name             varchar(255),
+    transac_currency       varchar(10)  not null,
+    biz_license_no         varchar(255),
+    biz_license_issue_date date,
+    biz_license_exp_date   date,
+    meta                   jsonb,
+    created_at             timestamp(6) with time zone not null,
+    updated_at             timestamp(6) with time zone not null,
+    constraint uk_org_code unique (org_code),
+    constraint uk_org_name unique (name)
+);
+create index idx_org_code_name on organizations (org_code, name);
+
+create table users (
+    id                        uuid primary key,
+    role                      varchar(255) not null,
+    role_code                 varchar(10)  not null,
+    role_name                 varchar(255) not null,
+    organization_id           uuid constraint fk_user_org references organizations,
+    username                  varchar(255) not null,
+    first_name                varchar(255),
+    middle_name               varchar(255),
+    last_name                 varchar(255),
+    full_name                 varchar(255),
+    address                   varchar(255),
+    email                     varchar(255) not null,
+    phone                     varchar(255),
+    image_url                 varchar(255),
+    password_hash             varchar(255),
+    is_email_verified         boolean      not null,
+    email_verified_at         timestamp(6) with time zone,
+    email_verification_token  varchar(255),
+    email_verification_expiry timestamp(6) with time zone,
+    is_mobile_verified        boolean      not null,
+    mobile_verified_at        timestamp(6) with time zone,
+    reset_password_token      varchar(255),
+    reset_password_expiry     timestamp(6) with time zone,
+    signup_date               timestamp(6) with time zone not null,
+    signup_at                 timestamp(6) with time zone,
+    last_login_at             timestamp(6) with time zone,
+    last_logout_at            timestamp(6) with time zone,
+    total_ticket_count        integer      not null,
+    total_ticket_price        real         not null,
+    tickets_used              integer      not null,
+    tickets_at_hand           integer      not null,
+    data_digest               varchar(255),
+    user_consent              varchar(255),
+    created_at                timestamp(6) with time zone not null,
+    updated_at                timestamp(6) with time zone not null,
+    constraint uk_users_email unique (email),
+    constraint uk_users_username unique (username)
+);
+create index idx_users_name on users (full_name);
+
+-- ===================== Directory =====================
+
+create table artists (
+    id             uuid primary key,
+    name           varchar(255)  not null,
+    description    varchar(2000),
+    email          varchar(255),
+    mobile         varchar(255),
+    address        varchar(1000),
+    facebook_link  varchar(255),
+    instagram_link varchar(255),
+    youtube_link   varchar(255),
+    website_link   varchar(255),
+    image_url      varchar(255)
+);
+
+create table sponsors (
+    id             uuid primary key,
+    name           varchar(255)  not null,
+    description    varchar(2000),
+    email          varchar(255),
+    mobile         varchar(255),
+    address        varchar(1000),
+    category       varchar(255),
+    facebook_link  varchar(255),
+    instagram_link varchar(255),
+    youtube_link   varchar(255),
+    website_link   varchar(255),
+    image_url      varchar(255)
+);
+
+create table business_organizations (
+    id            uuid primary key,
+    name          varchar(255)  not null,
+    description   varchar(2000),
+    email         varchar(255),
+    mobile        varchar(255),
+    address       varchar(1000),
+    facebook_link varchar(255),
+    youtube_link  varchar(255),
+    website_link  varchar(255),
+    image_url     varchar(255)
+);
+
+-- ===================== Venues & layouts =====================
+
+create table event_venues (
+    id                uuid primary key,
+    type_code         varchar(255) not null,
+    type_name         varchar(255) not null,
+    venue_code        varchar(255) not null unique,
+    venue_name        varchar(255) not null unique,
+    max_capacity      varchar(255),
+    map_address       varchar(255),
+    social_media_link varchar(255),
+    website_link      varchar(255),
+    address           varchar(255) not null,
+    email             varchar(255),
+    phone             varchar(255),
+    total_events      integer      not null,
+    live_events       integer      not null,
+    events_upcoming   integer      not null,
+    created_by        varchar(255),
+    created_at        timestamp(6) with time zone not null,
+    edited_by         varchar(255),
+    edited_at         timestamp(6) with time zone,
+    data_digest       varchar(255)
+);
+
+create table seat_layout (
+    id                   uuid primary key,
+    type_code            varchar(255) not null,
+    type_name            varchar(255) not null,
+    venue_id             uuid         not null references event_venues,
+    layout_name          varchar(255) not null,
+    total_rows           integer,
+    total_cols           integer,
+    total_tables         integer,
+    chairs_per_table     integer,
+    standing_capacity    integer,
+    total_capacity       integer      not null,
+    is_active            boolean      not null,
+    created_by           varchar(255),
+    created_at           timestamp(6) with time zone not null,
+    edited_by            varchar(255),
+    edited_at            timestamp(6) with time zone,
+    data_digest          text,
+    layout_configuration text,
+    constraint uk_seat_layout_venue_name unique (venue_id, layout_name)
+);
+create index idx_seat_layout_venue on seat_layout (venue_id);
+
+create table seats (
+    id             uuid primary key,
+    seat_layout_id uuid         not null references seat_layout,
+    seat_row       varchar(255) not null,
+    seat_number    integer      not null,
+    label          varchar(255) not null,
+    type           varchar(255),
+    constraint uk_seat_layout_label unique (seat_layout_id, label)
+);
+
+-- ===================== Events =====================
+
+create table events (
+    id                uuid default uuid_generate_v4() primary key,
+    type_code         varchar(255) not null,
+    type_name         varchar(255) not null,
+    event_code        varchar(255) not null,
+    event_name        varchar(255) not null,
+    event_description text,
+    privacy_policy    text,
+    event_start       timestamp(6) with time zone not null,
+    event_end         timestamp(6) with time zone not null,
+    venue_id          uuid         not null,
+    seat_layout_id    uuid,
+    event_manager     uuid         not null,
+    event_operator1   uuid         not null,
+    event_operator2   uuid,
+    event_checker1    uuid         not null,
+    event_checker2    uuid,
+    created_at        timestamp(6) with time zone not null,
+    edited_at         timestamp(6) with time zone not null,
+    data_digest       varchar(255),
+    version           bigint       not null,
+    constraint uk_events_event_code unique (event_code)
+);
+create index idx_events_start on events (event_start);
+create index idx_events_venue on events (venue_id);
+
+create table event_images (
+    event_id  uuid not null references events,
+    image_url varchar(255)
+);
+
+create table event_ticket_tiers (
+    id             uuid default uuid_generate_v4() primary key,
+    event_id       uuid           not null,
+    tier_code      varchar(20)    not null,
+    tier_name      varchar(50)    not null,
+    total_quantity integer        not null,
+    price          numeric(12, 2) not null,
+    cost           numeric(12, 2) not null,
+    visible        boolean        not null,
+    sold_quantity  integer        not null,
+    used_quantity  integer        not null,
+    created_at     timestamp(6) with time zone not null,
+    edited_at      timestamp(6) with time zone not null,
+    version        bigint         not null,
+    constraint uk_event_ticket_tier unique (event_id, tier_code)
+);
+
+create table event_artists (
+    id        uuid primary key,
+    event_id  uuid not null,
+    artist_id uuid not null,
+    constraint uk_event_artist unique (event_id, artist_id)
+);
+
+create table event_sponsors (
+    id         uuid primary key,
+    event_id   uuid not null,
+    sponsor_id uuid not null,
+    constraint uk_event_sponsor unique (event_id, sponsor_id)
+);
+
+create table event_organizers (
+    id       uuid primary key,
+    event_id uuid not null,
+    org_id   uuid not null,
+    constraint uk_event_organizer unique (event_id, org_id)
+);
+
+create table event_seats (
+    id         uuid primary key,
+    event_id   uuid        not null references events,
+    seat_id    uuid        not null references seats,
+    status     varchar(20) not null,
+    tier_code  varchar(20) not null,
+    price      numeric(12, 2),
+    created_at timestamp(6) with time zone not null,
+    updated_at timestamp(6) with time zone not null,
+    constraint uk_event_seat unique (event_id, seat_id)
+);
+create index idx_event_seat_status on event_seats (status);
+
+-- ===================== Discounts =====================
+
+create table discounts (
+    id                        uuid default uuid_generate_v4() primary key,
+    name                      varchar(64)    not null,
+    code                      varchar(64)    not null,
+    value_type                varchar(20)    not null,
+    value                     numeric(12, 2) not null,
+    max_discount_amount       numeric(12, 2),
+    min_order_amount          numeric(12, 2),
+    max_redemptions           integer,
+    max_redemptions_per_buyer integer,
+    starts_at                 timestamp(6) with time zone,
+    ends_at                   timestamp(6) with time zone,
+    event_id                  uuid,
+    tier_code                 varchar(32),
+    auto_apply                boolean        not null,
+    stackable                 boolean        not null,
+    active                    boolean        not null,
+    allow_guest_redemption    boolean        not null,
+    priority                  integer        not null,
+    notes                     text,
+    created_at                timestamp(6) with time zone not null,
+    updated_at                timestamp(6) with time zone not null,
+    constraint uk_discount_code unique (code)
+);
+create index idx_discount_event on discounts (event_id);
+create index idx_discount_active on discounts (active);
+
+create table discount_redemptions (
+    id          uuid default uuid_generate_v4() primary key,
+    discount_id uuid not null references discounts,
+    buyer_id    uuid,
+    hold_id     uuid,
+    ticket_id   uuid,
+    amount      numeric(12, 2),
+    redeemed_at timestamp(6) with time zone not null
+);
+create index idx_discount_redemption_discount on discount_redemptions (discount_id);
+create index idx_discount_redemption_buyer on discount_redemptions (buyer_id);
+
+-- ===================== Holds, tickets & payments =====================
+
+create table reservation_holds (
+    id                   uuid primary key,
+    event_id             uuid           not null references events,
+    buyer_id             uuid references users,
+    status               varchar(20)    not null,
+    items_json           text           not null,
+    subtotal_amount      numeric(12, 2) not null,
+    discount_amount      numeric(12, 2) not null,
+    total_amount         numeric(12, 2) not null,
+    expires_at           timestamp(6) with time zone not null,
+    finalized_payment_id uuid,
+    created_at           timestamp(6) with time zone not null,
+    updated_at           timestamp(6) with time zone not null
+);
+create index idx_hold_event on reservation_holds (event_id);
+create index idx_hold_buyer on reservation_holds (buyer_id);
+create index idx_hold_status on reservation_holds (status);
+create index idx_hold_expires on reservation_holds (expires_at);
+
+create table reservation_hold_seats (
+    hold_id       uuid not null references reservation_holds,
+    event_seat_id uuid not null references event_seats
+);
+
+create table reservation_hold_discounts (
+    id            uuid default uuid_generate_v4() primary key,
+    hold_id       uuid           not null references reservation_holds,
+    discount_id   uuid           not null references discounts,
+    discount_code varchar(64)    not null,
+    amount        numeric(12, 2) not null,
+    auto_applied  boolean        not null,
+    stack_rank    integer
+);
+create index idx_hold_discount_discount on reservation_hold_discounts (discount_id);
+create index idx_hold_discount_hold on reservation_hold_discounts (hold_id);
+
+create table tickets (
+    id                uuid primary key,
+    event_seat_id     uuid         not null unique references event_seats,
+    buyer_id          uuid         not null references users,
+    status            varchar(20)  not null,
+    reserved_until    timestamp(6) with time zone,
+    issued_at         timestamp(6) with time zone,
+    checked_in_at     timestamp(6) with time zone,
+    qr_code           varchar(256) not null,
+    verification_code varchar(32),
+    holder_name       varchar(255),
+    holder_email      varchar(255),
+    checker_id        uuid references users,
+    gate              varchar(255),
+    refund_amount     numeric(12, 2),
+    refunded_at       timestamp(6) with time zone,
+    created_at        timestamp(6) with time zone not null,
+    updated_at        timestamp(6) with time zone not null,
+    version           bigint       not null,
+    constraint uk_ticket_qr_code unique (qr_code)
+);
+create index idx_ticket_buyer on tickets (buyer_id);
+create index idx_ticket_status on tickets (status);
+
+create table payments (
+    id                       uuid primary key,
+    hold_id                  uuid        not null references reservation_holds,
+    event_id                 uuid        not null references events,
+    customer_email           varchar(255),
+    amount_cents             bigint      not null,
+    currency                 varchar(10) not null,
+    stripe_payment_intent_id varchar(64),
+    status                   varchar(40) not null,
+    description              varchar(255),
+    last_error               varchar(500),
+    created_at               timestamp(6) with time zone not null,
+    updated_at               timestamp(6) with time zone not null,
+    constraint uk_payment_intent unique (stripe_payment_intent_id)
+);
@@ -0,0 +1,4 @@
+-- Reserved/blocked seat counters next to sold_quantity. Nullable here: rows that predate the counters are
+-- backfilled from event_seats, and the columns made NOT NULL, in V12__ticket_tier_counters_not_null.
+alter table event_ticket_tiers add column if not exists reserved_quantity integer;
+alter table event_ticket_tiers add column if not exists blocked_quantity integer;
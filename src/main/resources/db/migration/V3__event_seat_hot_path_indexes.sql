@@ -0,0 +1,26 @@
+-- Indexes for the per-event seat queries. Built CONCURRENTLY so a live event_seats table keeps taking
+-- writes; that cannot run inside a transaction, see the matching .conf file.
+
+-- Per-event reads: seat listing, inventory load, status aggregate, tier counts and counter backfill.
+create index concurrently if not exists idx_event_seat_event_tier_status
+    on event_seats (event_id, tier_code, status);
+
+-- Next free seats of a tier in creation order (findAvailableSeats). Only AVAILABLE rows are indexed,
+-- so the index shrinks as an event sells out; status itself is implied by the predicate.
+create index concurrently if not exists idx_event_seat_available
+    on event_seats (event_id, tier_code, created_at)
+    where status = 'AVAILABLE';
+
+-- The status-only index is too unselective to be picked for any of the above.
+drop index concurrently if exists idx_event_seat_status;
+
+-- Expiry sweeper: overdue ACTIVE holds in expires_at order, skipping the long tail of finished holds.
+create index concurrently if not exists idx_hold_active_expires
+    on reservation_holds (expires_at)
+    where status = 'ACTIVE';
+
+-- Join table lookups from both sides (hold -> seats on release, seat -> hold on admin views).
+create index concurrently if not exists idx_hold_seats_hold
+    on reservation_hold_seats (hold_id);
+create index concurrently if not exists idx_hold_seats_event_seat
+    on reservation_hold_seats (event_seat_id);
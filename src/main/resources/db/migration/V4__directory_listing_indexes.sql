@@ -0,0 +1,6 @@
+-- Keyset listings of the public directories walk (name, id) in either direction, so each page is an index
+-- range scan instead of a sort of the whole table. Venues page on venue_name, which is already unique.
+-- These reference tables are small, so a plain (locking) build is fine.
+create index if not exists idx_artists_name_id on artists (name, id);
+create index if not exists idx_sponsors_name_id on sponsors (name, id);
+create index if not exists idx_business_organizations_name_id on business_organizations (name, id);
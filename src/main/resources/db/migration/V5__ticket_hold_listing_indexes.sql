@@ -0,0 +1,10 @@
+-- Keyset listings of tickets and holds. Built CONCURRENTLY like V3, so see the matching .conf file.
+
+-- A buyer's tickets in (created_at, id) order: each page is a range scan from the cursor.
+create index concurrently if not exists idx_ticket_buyer_created
+    on tickets (buyer_id, created_at, id);
+
+-- An event's live holds, soonest to expire first. Finished holds stay out of the index.
+create index concurrently if not exists idx_hold_event_active_expires
+    on reservation_holds (event_id, expires_at, id)
+    where status = 'ACTIVE';
@@ -0,0 +1,26 @@
+-- Holds keep a typed, versioned line-item snapshot as jsonb instead of a hand-built JSON string in a text column.
+-- Old rows were a bare array of {seatId, seatLabel, tierCode, price} where seatId was the event seat and price a
+-- string; they are rewritten to the version 1 shape ({schemaVersion, items[{eventSeatId, seatId, seatLabel,
+-- tierCode, price}]}), taking the layout seat id from event_seats.
+alter table reservation_holds add column line_items jsonb;
+
+update reservation_holds h
+set line_items = jsonb_build_object(
+        'schemaVersion', 1,
+        'items', coalesce((
+            select jsonb_agg(jsonb_build_object(
+                       'eventSeatId', item ->> 'seatId',
+                       'seatId', es.seat_id,
+                       'seatLabel', nullif(item ->> 'seatLabel', ''),
+                       'tierCode', nullif(item ->> 'tierCode', ''),
+                       'price', coalesce(nullif(item ->> 'price', '')::numeric, 0)
+                   ) order by ord)
+            from jsonb_array_elements(h.items_json::jsonb) with ordinality as e(item, ord)
+            left join event_seats es on es.id = (item ->> 'seatId')::uuid
+        ), '[]'::jsonb));
+
+alter table reservation_holds alter column line_items set not null;
+alter table reservation_holds drop column items_json;
+
+-- Containment lookups for reporting, e.g. line_items @> '{"items":[{"tierCode":"VIP"}]}'
+create index if not exists idx_hold_line_items on reservation_holds using gin (line_items jsonb_path_ops);
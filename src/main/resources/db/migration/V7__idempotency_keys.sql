@@ -0,0 +1,11 @@
+-- Idempotency-Key records for the create endpoints (holds, ticket reservations, payment intents).
+-- id is "<scope>:<client key>"; expires_at is the in-progress lease, then the replay retention once completed.
+create table if not exists idempotency_keys (
+    id            varchar(320) primary key,
+    request_hash  varchar(64) not null,
+    status        varchar(20) not null,
+    response_body text,
+    created_at    timestamp(6) with time zone not null,
+    expires_at    timestamp(6) with time zone not null
+);
+create index if not exists idx_idempotency_expires on idempotency_keys (expires_at);
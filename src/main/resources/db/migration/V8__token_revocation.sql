@@ -0,0 +1,13 @@
+-- Revoked JWTs by jti. Each node keeps the unexpired rows in memory and polls for new ones by revoked_at, so
+-- revoked_at comes from the database clock; rows are purged once the token would have expired anyway.
+create table if not exists revoked_tokens (
+    jti        uuid primary key,
+    user_id    uuid,
+    expires_at timestamp(6) with time zone not null,
+    revoked_at timestamp(6) with time zone not null default now()
+);
+create index if not exists idx_revoked_tokens_revoked_at on revoked_tokens (revoked_at);
+create index if not exists idx_revoked_tokens_expires_at on revoked_tokens (expires_at);
+
+-- Password change/reset: tokens issued before this instant are rejected (checked with the cached account state)
+alter table users add column if not exists tokens_valid_after timestamp(6) with time zone;
@@ -0,0 +1,16 @@
+-- Outgoing emails are written here in the same transaction as the change that triggers them (signup, password
+-- reset) and sent by EmailOutboxDispatcher, so SMTP latency and failures never reach the request.
+create table if not exists email_outbox (
+    id              uuid primary key,
+    recipient       varchar(320) not null,
+    subject         varchar(255) not null,
+    body            text         not null,
+    status          varchar(20)  not null,
+    attempts        integer      not null default 0,
+    next_attempt_at timestamp(6) with time zone not null,
+    last_error      varchar(500),
+    created_at      timestamp(6) with time zone not null,
+    sent_at         timestamp(6) with time zone
+);
+-- The dispatcher only ever looks for due PENDING rows
+create index if not exists idx_email_outbox_due on email_outbox (next_attempt_at) where status = 'PENDING';
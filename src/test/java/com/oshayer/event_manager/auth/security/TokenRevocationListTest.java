@@ -0,0 +1,130 @@
+package com.oshayer.event_manager.auth.security;
+
+import com.oshayer.event_manager.auth.repository.RevokedTokenRepository;
+import com.oshayer.event_manager.auth.repository.RevokedTokenRepository.RevokedTokenView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenRevocationListTest {
+
+    private final RevokedTokenRepository repository = mock(RevokedTokenRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    // small enough that a handful of revocations overflows the initial filter
+    private final TokenRevocationList revocations = new TokenRevocationList(repository,
+            mock(PlatformTransactionManager.class), meterRegistry, 4, 0.001, Duration.ofSeconds(30));
+
+    @Test
+    void revokedTokenIsRejectedRightAwayAndRecorded() {
+        UUID jti = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        Instant expiresAt = Instant.now().plusSeconds(3600);
+
+        revocations.revoke(jti, userId, expiresAt);
+
+        assertTrue(revocations.isRevoked(jti));
+        assertFalse(revocations.isRevoked(UUID.randomUUID()));
+        verify(repository).insertIfAbsent(jti, userId, expiresAt.atOffset(ZoneOffset.UTC));
+    }
+
+    @Test
+    void pollPicksUpRevocationsFromOtherNodes() {
+        UUID jti = UUID.randomUUID();
+        when(repository.findRevokedSince(any(), any())).thenReturn(List.of(row(jti, Instant.now().plusSeconds(3600))));
+
+        revocations.refresh();
+
+        assertTrue(revocations.isRevoked(jti));
+        assertEquals(1.0, meterRegistry.get("auth.revocation.size").gauge().value());
+    }
+
+    @Test
+    void pruningExpiredTokensRebuildsTheFilterWithoutLosingTheRest() {
+        List<UUID> live = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            UUID jti = UUID.randomUUID();
+            revocations.revoke(jti, UUID.randomUUID(), Instant.now().plusSeconds(3600));
+            live.add(jti);
+        }
+        UUID expired = UUID.randomUUID();
+        revocations.revoke(expired, UUID.randomUUID(), Instant.now().minusSeconds(1));
+
+        revocations.refresh();
+
+        assertFalse(revocations.isRevoked(expired));
+        for (UUID jti : live) {
+            assertTrue(revocations.isRevoked(jti), "lost " + jti + " in the rebuild");
+        }
+        assertEquals(3.0, meterRegistry.get("auth.revocation.size").gauge().value());
+    }
+
+    @Test
+    void outgrowingTheFilterRebuildsItLargerWithoutLosingAnything() {
+        List<UUID> revoked = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            UUID jti = UUID.randomUUID();
+            revocations.revoke(jti, UUID.randomUUID(), Instant.now().plusSeconds(3600));
+            revoked.add(jti);
+        }
+
+        revocations.refresh();
+
+        for (UUID jti : revoked) {
+            assertTrue(revocations.isRevoked(jti), "lost " + jti + " in the rebuild");
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (revocations.isRevoked(UUID.randomUUID())) {
+                falsePositives++;
+            }
+        }
+        assertEquals(0, falsePositives, "a positive from the filter must still be checked against the exact set");
+    }
+
+    @Test
+    void revocationsRevokedAfterARebuildAreStillSeen() {
+        revocations.revoke(UUID.randomUUID(), UUID.randomUUID(), Instant.now().minusSeconds(1));
+        revocations.refresh();
+
+        UUID jti = UUID.randomUUID();
+        revocations.revoke(jti, UUID.randomUUID(), Instant.now().plusSeconds(3600));
+
+        assertTrue(revocations.isRevoked(jti));
+    }
+
+    private static RevokedTokenView row(UUID jti, Instant expiresAt) {
+        OffsetDateTime revokedAt = OffsetDateTime.now();
+        return new RevokedTokenView() {
+            @Override
+            public UUID getJti() {
+                return jti;
+            }
+
+            @Override
+            public OffsetDateTime getExpiresAt() {
+                return expiresAt.atOffset(ZoneOffset.UTC);
+            }
+
+            @Override
+            public OffsetDateTime getRevokedAt() {
+                return revokedAt;
+            }
+        };
+    }
+}
@@ -0,0 +1,77 @@
+package com.oshayer.event_manager.auth.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UuidBloomFilterTest {
+
+    @Test
+    void neverMissesAnAddedId() {
+        UuidBloomFilter filter = new UuidBloomFilter(10_000, 0.001);
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            UUID id = UUID.randomUUID();
+            filter.add(id);
+            ids.add(id);
+        }
+
+        for (UUID id : ids) {
+            assertTrue(filter.mightContain(id), "false negative for " + id);
+        }
+    }
+
+    @Test
+    void neverMissesSequentialIds() {
+        // not random like a jti, so the hashing has to spread them
+        UuidBloomFilter filter = new UuidBloomFilter(1_000, 0.001);
+        for (long i = 0; i < 1_000; i++) {
+            filter.add(new UUID(0, i));
+        }
+
+        for (long i = 0; i < 1_000; i++) {
+            assertTrue(filter.mightContain(new UUID(0, i)));
+        }
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTheConfiguredOneAtCapacity() {
+        UuidBloomFilter filter = new UuidBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add(UUID.randomUUID());
+        }
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain(UUID.randomUUID())) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < probes * 0.02, falsePositives + " false positives in " + probes);
+    }
+
+    @Test
+    void emptyFilterContainsNothing() {
+        UuidBloomFilter filter = new UuidBloomFilter(100, 0.001);
+
+        assertFalse(filter.mightContain(UUID.randomUUID()));
+    }
+
+    @Test
+    void isOverCapacityOnlyPastTheSizedCount() {
+        UuidBloomFilter filter = new UuidBloomFilter(100, 0.001);
+        for (int i = 0; i < 100; i++) {
+            filter.add(UUID.randomUUID());
+        }
+        assertFalse(filter.isOverCapacity());
+
+        filter.add(UUID.randomUUID());
+        assertTrue(filter.isOverCapacity());
+    }
+}
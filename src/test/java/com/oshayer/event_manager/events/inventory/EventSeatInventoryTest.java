@@ -0,0 +1,179 @@
+package com.oshayer.event_manager.events.inventory;
+
+import com.oshayer.event_manager.events.entity.EventSeatEntity.EventSeatStatus;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventSeatInventoryTest {
+
+    private static final long INITIAL_VERSION = 1_000;
+
+    private final List<InventorySlot> slots = new ArrayList<>();
+    private EventSeatInventory inventory;
+
+    @BeforeEach
+    void setUp() {
+        slots.clear();
+        slots.add(slot("A-1", "VIP", EventSeatStatus.AVAILABLE));
+        slots.add(slot("A-2", "VIP", EventSeatStatus.AVAILABLE));
+        slots.add(slot("A-3", "VIP", EventSeatStatus.SOLD));
+        slots.add(slot("B-1", "GOLD", EventSeatStatus.AVAILABLE));
+        inventory = new EventSeatInventory(UUID.randomUUID(), slots, INITIAL_VERSION);
+    }
+
+    @Test
+    void claimReservesEverySeat() {
+        EventSeatInventory.Change change = inventory.claim(List.of(seatId(0), seatId(1)));
+
+        assertEquals(List.of(eventSeatId(0), eventSeatId(1)), change.eventSeatIds());
+        assertEquals(EventSeatStatus.RESERVED, change.target());
+        assertEquals(List.of(EventSeatStatus.AVAILABLE, EventSeatStatus.AVAILABLE), change.previous());
+        assertEquals(EventSeatStatus.RESERVED, inventory.statusOf(eventSeatId(0)));
+        assertEquals(EventSeatStatus.RESERVED, inventory.statusOf(eventSeatId(1)));
+    }
+
+    @Test
+    void claimIsAllOrNothingWhenASeatIsTaken() {
+        long before = inventory.version();
+
+        assertThrows(IllegalStateException.class, () -> inventory.claim(List.of(seatId(0), seatId(1), seatId(2))));
+
+        assertEquals(EventSeatStatus.AVAILABLE, inventory.statusOf(eventSeatId(0)));
+        assertEquals(EventSeatStatus.AVAILABLE, inventory.statusOf(eventSeatId(1)));
+        assertEquals(before, inventory.version(), "a failed claim must not log changes");
+    }
+
+    @Test
+    void claimIsAllOrNothingWhenASeatIsUnknown() {
+        assertThrows(EntityNotFoundException.class, () -> inventory.claim(List.of(seatId(0), UUID.randomUUID())));
+
+        assertEquals(EventSeatStatus.AVAILABLE, inventory.statusOf(eventSeatId(0)));
+    }
+
+    @Test
+    void claimByTierTakesOnlyAvailableSeatsOfThatTier() {
+        EventSeatInventory.Change change = inventory.claimByTier("VIP", 5);
+
+        assertEquals(List.of(eventSeatId(0), eventSeatId(1)), change.eventSeatIds());
+        assertEquals(EventSeatStatus.AVAILABLE, inventory.statusOf(eventSeatId(3)));
+    }
+
+    @Test
+    void restoreOnlyTouchesSeatsStillInTheChangedStatus() {
+        EventSeatInventory.Change sold = inventory.transition(
+                List.of(eventSeatId(0), eventSeatId(1)), EventSeatStatus.SOLD);
+        // seat 1 moves on before the sale is undone
+        inventory.transition(List.of(eventSeatId(1)), EventSeatStatus.BLOCKED);
+
+        inventory.restore(sold);
+
+        assertEquals(EventSeatStatus.AVAILABLE, inventory.statusOf(eventSeatId(0)));
+        assertEquals(EventSeatStatus.BLOCKED, inventory.statusOf(eventSeatId(1)));
+    }
+
+    @Test
+    void restoredClaimIsLoggedAsAChange() {
+        EventSeatInventory.Change claim = inventory.claim(List.of(seatId(0)));
+        long claimed = inventory.version();
+
+        inventory.restore(claim);
+
+        assertEquals(EventSeatStatus.AVAILABLE, inventory.statusOf(eventSeatId(0)));
+        assertEquals(Map.of(eventSeatId(0), EventSeatStatus.AVAILABLE), inventory.changesSince(claimed).changes());
+    }
+
+    @Test
+    void transitionSkipsUnknownSeatsAndSeatsAlreadyInTheTargetStatus() {
+        EventSeatInventory.Change change = inventory.transition(
+                List.of(eventSeatId(0), eventSeatId(2), UUID.randomUUID()), EventSeatStatus.SOLD);
+
+        assertEquals(List.of(eventSeatId(0)), change.eventSeatIds());
+        assertEquals(List.of(EventSeatStatus.AVAILABLE), change.previous());
+    }
+
+    @Test
+    void changesSinceReturnsEachChangedSeatOnceWithItsCurrentStatus() {
+        long since = inventory.version();
+        inventory.claim(List.of(seatId(0)));
+        inventory.transition(List.of(eventSeatId(0)), EventSeatStatus.SOLD);
+        inventory.transition(List.of(eventSeatId(3)), EventSeatStatus.BLOCKED);
+
+        EventSeatInventory.Delta delta = inventory.changesSince(since);
+
+        assertFalse(delta.reset());
+        assertEquals(since + 3, delta.version());
+        assertEquals(Map.of(eventSeatId(0), EventSeatStatus.SOLD, eventSeatId(3), EventSeatStatus.BLOCKED),
+                delta.changes());
+        assertTrue(inventory.changesSince(inventory.version()).isEmpty());
+    }
+
+    @Test
+    void changesSinceResetsOutsideTheLog() {
+        assertTrue(inventory.changesSince(INITIAL_VERSION - 1).reset(), "before the load");
+        assertTrue(inventory.changesSince(inventory.version() + 1).reset(), "from the future");
+
+        long since = inventory.version();
+        // overrun the ring: one change more than it holds
+        for (int i = 0; i <= 16_384; i++) {
+            inventory.transition(List.of(eventSeatId(0)),
+                    i % 2 == 0 ? EventSeatStatus.SOLD : EventSeatStatus.AVAILABLE);
+        }
+        assertTrue(inventory.changesSince(since).reset());
+        assertFalse(inventory.changesSince(since + 1).reset());
+    }
+
+    @Test
+    void appendStartsANewStructureVersionOnlyForNewSeats() {
+        long before = inventory.version();
+        InventorySlot added = slot("C-1", "GOLD", EventSeatStatus.AVAILABLE);
+
+        inventory.append(List.of(added, slots.get(0)));
+
+        assertEquals(5, inventory.size());
+        assertEquals(inventory.version(), inventory.structureVersion());
+        assertTrue(inventory.structureVersion() > before);
+        assertTrue(inventory.changesSince(before).reset());
+        assertEquals(EventSeatStatus.AVAILABLE, inventory.statusOf(added.eventSeatId()));
+
+        long structure = inventory.structureVersion();
+        inventory.append(List.of(added));
+        assertEquals(structure, inventory.structureVersion(), "re-appending known seats changes nothing");
+    }
+
+    @Test
+    void retiredInventoryRejectsMutations() {
+        inventory.retire();
+
+        assertThrows(EventSeatInventory.RetiredException.class, () -> inventory.claim(List.of(seatId(0))));
+        assertThrows(EventSeatInventory.RetiredException.class,
+                () -> inventory.transition(List.of(eventSeatId(0)), EventSeatStatus.SOLD));
+        assertThrows(EventSeatInventory.RetiredException.class,
+                () -> inventory.append(List.of(slot("C-1", "GOLD", EventSeatStatus.AVAILABLE))));
+        assertEquals(EventSeatStatus.AVAILABLE, inventory.statusOf(eventSeatId(0)), "reads still work");
+    }
+
+    // -------- helpers --------
+
+    private UUID seatId(int index) {
+        return slots.get(index).seatId();
+    }
+
+    private UUID eventSeatId(int index) {
+        return slots.get(index).eventSeatId();
+    }
+
+    private static InventorySlot slot(String label, String tierCode, EventSeatStatus status) {
+        return new InventorySlot(UUID.randomUUID(), UUID.randomUUID(), label, tierCode, status);
+    }
+}
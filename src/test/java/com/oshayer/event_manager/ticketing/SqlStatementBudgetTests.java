@@ -0,0 +1,210 @@
+package com.oshayer.event_manager.ticketing;
+
+import com.oshayer.event_manager.shared.observability.SqlStatementBudget;
+import com.oshayer.event_manager.shared.observability.SqlStatementCounter;
+import com.oshayer.event_manager.ticketing.controller.ReservationHoldController;
+import com.oshayer.event_manager.ticketing.controller.TicketController;
+import com.oshayer.event_manager.ticketing.dto.HoldCreateRequest;
+import com.oshayer.event_manager.ticketing.dto.HoldReleaseRequest;
+import com.oshayer.event_manager.ticketing.service.ReservationHoldService;
+import com.oshayer.event_manager.ticketing.service.TicketService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.reflect.Method;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the hold and ticket read paths against a small event and checks that each one stays within the
+ * {@link SqlStatementBudget} of its endpoint, counting statements the same way the request filter does.
+ * Pages hold several rows with seats and discounts, so an N+1 regression goes over budget here.
+ */
+@SpringBootTest
+class SqlStatementBudgetTests {
+
+    private static final int SEATS = 6;
+    private static final int HOLDS = 3;
+
+    @Autowired
+    private ReservationHoldService holdService;
+    @Autowired
+    private TicketService ticketService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final String run = UUID.randomUUID().toString().substring(0, 8);
+    private final UUID venueId = UUID.randomUUID();
+    private final UUID layoutId = UUID.randomUUID();
+    private final UUID eventId = UUID.randomUUID();
+    private final UUID buyerId = UUID.randomUUID();
+    private final UUID discountId = UUID.randomUUID();
+    private final List<UUID> seatIds = new ArrayList<>();
+    private final List<UUID> eventSeatIds = new ArrayList<>();
+    private final List<UUID> holdIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        OffsetDateTime now = OffsetDateTime.now();
+        jdbcTemplate.update("""
+                insert into event_venues (id, type_code, type_name, venue_code, venue_name, address,
+                                          total_events, live_events, events_upcoming, created_at)
+                values (?, 'HALL', 'Hall', ?, ?, 'Test street 1', 0, 0, 0, ?)
+                """, venueId, "BUDGET-" + run, "Budget venue " + run, now);
+        jdbcTemplate.update("""
+                insert into seat_layout (id, type_code, type_name, venue_id, layout_name, total_capacity,
+                                         is_active, created_at)
+                values (?, 'SEATED', 'Seated', ?, 'Main', ?, true, ?)
+                """, layoutId, venueId, SEATS, now);
+        jdbcTemplate.update("""
+                insert into events (id, type_code, type_name, event_code, event_name, event_start, event_end,
+                                    venue_id, seat_layout_id, event_manager, event_operator1, event_checker1,
+                                    created_at, edited_at, version)
+                values (?, 'CONCERT', 'Concert', ?, 'Budget check', ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)
+                """, eventId, "BUDGET-" + run, now.plusDays(7), now.plusDays(7).plusHours(3),
+                venueId, layoutId, buyerId, buyerId, buyerId, now, now);
+        jdbcTemplate.update("""
+                insert into event_ticket_tiers (id, event_id, tier_code, tier_name, total_quantity, price, cost,
+                                                visible, sold_quantity, used_quantity, reserved_quantity,
+                                                blocked_quantity, created_at, edited_at, version)
+                values (?, ?, 'VIP', 'VIP', ?, 100.00, 0.00, true, 0, 0, 0, 0, ?, ?, 0)
+                """, UUID.randomUUID(), eventId, SEATS, now, now);
+        for (int i = 1; i <= SEATS; i++) {
+            UUID seatId = UUID.randomUUID();
+            UUID eventSeatId = UUID.randomUUID();
+            jdbcTemplate.update("""
+                    insert into seats (id, seat_layout_id, seat_row, seat_number, label)
+                    values (?, ?, 'A', ?, ?)
+                    """, seatId, layoutId, i, "A-" + i);
+            jdbcTemplate.update("""
+                    insert into event_seats (id, event_id, seat_id, status, tier_code, price, created_at, updated_at)
+                    values (?, ?, ?, 'AVAILABLE', 'VIP', 100.00, ?, ?)
+                    """, eventSeatId, eventId, seatId, now, now);
+            seatIds.add(seatId);
+            eventSeatIds.add(eventSeatId);
+        }
+        jdbcTemplate.update("""
+                insert into users (id, role, role_code, role_name, username, email, is_email_verified,
+                                   is_mobile_verified, signup_date, total_ticket_count, total_ticket_price,
+                                   tickets_used, tickets_at_hand, created_at, updated_at)
+                values (?, 'ROLE_USER', '801', 'User', ?, ?, true, false, ?, 0, 0, 0, 0, ?, ?)
+                """, buyerId, "budget-" + run, "budget-" + run + "@example.test", now, now, now);
+        jdbcTemplate.update("""
+                insert into discounts (id, name, code, value_type, value, event_id, auto_apply, stackable, active,
+                                       allow_guest_redemption, priority, created_at, updated_at)
+                values (?, 'Early bird', ?, 'PERCENTAGE', 10.00, ?, true, true, true, true, 0, ?, ?)
+                """, discountId, "BUDGET-" + run, eventId, now, now);
+
+        // One seat per hold; the rest are sold as tickets
+        for (int i = 0; i < HOLDS; i++) {
+            holdIds.add(holdService.create(HoldCreateRequest.builder()
+                    .eventId(eventId)
+                    .buyerId(buyerId)
+                    .seatIds(List.of(seatIds.get(i)))
+                    .expiresAt(now.plusHours(1))
+                    .build()).getId());
+        }
+        for (int i = HOLDS; i < SEATS; i++) {
+            jdbcTemplate.update("update event_seats set status = 'SOLD' where id = ?", eventSeatIds.get(i));
+            jdbcTemplate.update("""
+                    insert into tickets (id, event_seat_id, buyer_id, status, issued_at, qr_code, holder_name,
+                                         created_at, updated_at, version)
+                    values (?, ?, ?, 'ISSUED', ?, ?, 'Budget guest', ?, ?, 0)
+                    """, UUID.randomUUID(), eventSeatIds.get(i), buyerId, now, "budget-" + run + "-" + i, now, now);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (UUID holdId : holdIds) {
+            holdService.release(HoldReleaseRequest.builder().holdId(holdId).build());
+        }
+        jdbcTemplate.update("delete from discount_redemptions where discount_id = ?", discountId);
+        jdbcTemplate.update("""
+                delete from reservation_hold_discounts
+                where hold_id in (select id from reservation_holds where event_id = ?)
+                """, eventId);
+        jdbcTemplate.update("""
+                delete from reservation_hold_seats
+                where hold_id in (select id from reservation_holds where event_id = ?)
+                """, eventId);
+        jdbcTemplate.update("delete from reservation_holds where event_id = ?", eventId);
+        jdbcTemplate.update("delete from tickets where buyer_id = ?", buyerId);
+        jdbcTemplate.update("delete from discounts where id = ?", discountId);
+        jdbcTemplate.update("delete from event_seats where event_id = ?", eventId);
+        jdbcTemplate.update("delete from event_ticket_tiers where event_id = ?", eventId);
+        jdbcTemplate.update("delete from events where id = ?", eventId);
+        jdbcTemplate.update("delete from seats where seat_layout_id = ?", layoutId);
+        jdbcTemplate.update("delete from seat_layout where id = ?", layoutId);
+        jdbcTemplate.update("delete from event_venues where id = ?", venueId);
+        jdbcTemplate.update("delete from users where id = ?", buyerId);
+    }
+
+    @Test
+    void holdGetStaysWithinBudget() {
+        var hold = countWithinBudget(budget(ReservationHoldController.class, "get", UUID.class),
+                () -> holdService.get(holdIds.get(0)));
+
+        assertEquals(1, hold.getAppliedDiscounts().size());
+    }
+
+    @Test
+    void holdListingStaysWithinBudgetForAFullPage() {
+        var page = countWithinBudget(
+                budget(ReservationHoldController.class, "listActive", UUID.class, String.class, Integer.class),
+                () -> holdService.listActive(eventId, null, 100));
+
+        assertEquals(HOLDS, page.items().size());
+    }
+
+    @Test
+    void holdReleaseStaysWithinBudget() {
+        UUID holdId = holdIds.remove(0);
+
+        countWithinBudget(budget(ReservationHoldController.class, "release", HoldReleaseRequest.class),
+                () -> holdService.release(HoldReleaseRequest.builder().holdId(holdId).build()));
+    }
+
+    @Test
+    void ticketListingStaysWithinBudgetForAFullPage() {
+        var page = countWithinBudget(
+                budget(TicketController.class, "listTickets", UUID.class, UUID.class, String.class, Integer.class),
+                () -> ticketService.listByEvent(eventId, null, 100));
+
+        assertEquals(SEATS - HOLDS, page.items().size());
+    }
+
+    // -------- helpers --------
+
+    private static <T> T countWithinBudget(int budget, Supplier<T> call) {
+        SqlStatementCounter.start();
+        T result;
+        int statements;
+        try {
+            result = call.get();
+        } finally {
+            statements = SqlStatementCounter.stop();
+        }
+        assertTrue(statements <= budget, "ran %d SQL statements, budget is %d".formatted(statements, budget));
+        return result;
+    }
+
+    private static int budget(Class<?> controller, String handler, Class<?>... parameterTypes) {
+        try {
+            Method method = controller.getMethod(handler, parameterTypes);
+            return method.getAnnotation(SqlStatementBudget.class).value();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.oshayer.event_manager.ticketing.checkin;
+
+import com.oshayer.event_manager.ticketing.checkin.GateCheckInIndex.Outcome;
+import com.oshayer.event_manager.ticketing.checkin.GateCheckInIndex.Scan;
+import com.oshayer.event_manager.ticketing.entity.TicketEntity.TicketStatus;
+import com.oshayer.event_manager.ticketing.repository.TicketRepository.GateTicketView;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class GateCheckInIndexTest {
+
+    private static final OffsetDateTime NOW = OffsetDateTime.parse("2024-05-15T19:00:00Z");
+
+    private final GateCheckInIndex index = new GateCheckInIndex();
+    private final UUID ticketId = UUID.randomUUID();
+
+    @Test
+    void issuedTicketIsAdmittedOnceThenReportedAsUsed() {
+        index.apply(ticket(TicketStatus.ISSUED, null, null));
+
+        Scan first = index.scan("qr-1", "North", NOW);
+        Scan second = index.scan("qr-1", "South", NOW.plusMinutes(1));
+
+        assertEquals(Outcome.ADMITTED, first.outcome());
+        assertEquals(TicketStatus.USED, first.status());
+        assertEquals(ticketId, first.ticketId());
+        assertEquals(Outcome.ALREADY_USED, second.outcome());
+        assertSame(first.checkIn(), second.checkIn(), "the second scan reports where and when it was admitted");
+    }
+
+    @Test
+    void concurrentScansOfOneTicketAdmitItExactlyOnce() throws Exception {
+        index.apply(ticket(TicketStatus.ISSUED, null, null));
+        int gates = 32;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(gates);
+        try {
+            List<Future<Scan>> scans = new ArrayList<>();
+            for (int i = 0; i < gates; i++) {
+                String gate = "gate-" + i;
+                scans.add(pool.submit(() -> {
+                    start.await();
+                    return index.scan("qr-1", gate, NOW);
+                }));
+            }
+            start.countDown();
+
+            List<Scan> admitted = new ArrayList<>();
+            List<Scan> rejected = new ArrayList<>();
+            for (Future<Scan> scan : scans) {
+                Scan result = scan.get();
+                (result.outcome() == Outcome.ADMITTED ? admitted : rejected).add(result);
+            }
+            assertEquals(1, admitted.size());
+            for (Scan scan : rejected) {
+                assertEquals(Outcome.ALREADY_USED, scan.outcome());
+                assertSame(admitted.get(0).checkIn(), scan.checkIn());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void staleRowAppliedAfterAScanKeepsTheLocalCheckIn() {
+        index.apply(ticket(TicketStatus.ISSUED, null, null));
+        Scan admitted = index.scan("qr-1", "North", NOW);
+
+        // the sync reads the row before this node's check-in was written back
+        index.apply(ticket(TicketStatus.ISSUED, null, null));
+        Scan again = index.scan("qr-1", "South", NOW.plusMinutes(1));
+
+        assertEquals(Outcome.ALREADY_USED, again.outcome());
+        assertSame(admitted.checkIn(), again.checkIn());
+    }
+
+    @Test
+    void writtenBackRowDoesNotReplaceTheLocalCheckIn() {
+        index.apply(ticket(TicketStatus.ISSUED, null, null));
+        Scan admitted = index.scan("qr-1", "North", NOW);
+
+        index.apply(ticket(TicketStatus.USED, NOW.plusSeconds(1), "North"));
+
+        assertSame(admitted.checkIn(), index.scan("qr-1", "South", NOW.plusMinutes(1)).checkIn());
+    }
+
+    @Test
+    void checkInFromAnotherNodeIsReportedAsUsed() {
+        index.apply(ticket(TicketStatus.ISSUED, null, null));
+        index.apply(ticket(TicketStatus.USED, NOW.minusMinutes(5), "East"));
+
+        Scan scan = index.scan("qr-1", "North", NOW);
+
+        assertEquals(Outcome.ALREADY_USED, scan.outcome());
+        assertEquals(new GateCheckInIndex.CheckIn(NOW.minusMinutes(5), "East"), scan.checkIn());
+    }
+
+    @Test
+    void refundedTicketIsNotValid() {
+        index.apply(ticket(TicketStatus.ISSUED, null, null));
+        index.apply(ticket(TicketStatus.REFUNDED, null, null));
+
+        Scan scan = index.scan("qr-1", "North", NOW);
+
+        assertEquals(Outcome.NOT_VALID, scan.outcome());
+        assertEquals(TicketStatus.REFUNDED, scan.status());
+        assertNull(scan.checkIn());
+    }
+
+    @Test
+    void verificationCodeMatchesInAnyCase() {
+        index.apply(ticket(TicketStatus.ISSUED, null, null));
+
+        assertEquals(Outcome.ADMITTED, index.scan("ab12cd34", "North", NOW).outcome());
+    }
+
+    @Test
+    void unknownCodeReturnsOnlyTheOutcome() {
+        index.apply(ticket(TicketStatus.ISSUED, null, null));
+
+        Scan scan = index.scan("nope", "North", NOW);
+
+        assertEquals(Outcome.UNKNOWN, scan.outcome());
+        assertNull(scan.ticketId());
+        assertEquals(1, index.size());
+    }
+
+    // -------- helpers --------
+
+    private GateTicketView ticket(TicketStatus status, OffsetDateTime checkedInAt, String gate) {
+        UUID eventId = UUID.randomUUID();
+        return new GateTicketView() {
+            @Override
+            public UUID getId() {
+                return ticketId;
+            }
+
+            @Override
+            public UUID getEventId() {
+                return eventId;
+            }
+
+            @Override
+            public TicketStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public String getQrCode() {
+                return "qr-1";
+            }
+
+            @Override
+            public String getVerificationCode() {
+                return "AB12CD34";
+            }
+
+            @Override
+            public String getSeatLabel() {
+                return "A-1";
+            }
+
+            @Override
+            public String getHolderName() {
+                return "Alex Guest";
+            }
+
+            @Override
+            public OffsetDateTime getCheckedInAt() {
+                return checkedInAt;
+            }
+
+            @Override
+            public String getGate() {
+                return gate;
+            }
+
+            @Override
+            public OffsetDateTime getUpdatedAt() {
+                return NOW;
+            }
+        };
+    }
+}
@@ -0,0 +1,127 @@
+package com.oshayer.event_manager.ticketing.expiry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HoldTimingWheelTest {
+
+    // 1 ms ticks, 4 slots, 3 levels: level 0 spans 4 ticks, level 1 16, level 2 64
+    private static final long START = 1_000;
+    private final HoldTimingWheel wheel = new HoldTimingWheel(1, 4, 3, START);
+
+    @Test
+    void holdOnLevelZeroFiresOnItsTick() {
+        UUID hold = UUID.randomUUID();
+        wheel.schedule(hold, START + 3);
+
+        assertEquals(Map.of(hold, START + 3), stepTo(START + 10));
+    }
+
+    @Test
+    void holdsOnHigherLevelsCascadeDownAndFireOnTheirTickExactly() {
+        Map<UUID, Long> deadlines = new HashMap<>();
+        // 5 and 15 land on level 1, 17 and 63 on level 2; every one crosses at least one rollover
+        for (long offset : new long[]{5, 15, 17, 40, 63}) {
+            UUID hold = UUID.randomUUID();
+            wheel.schedule(hold, START + offset);
+            deadlines.put(hold, START + offset);
+        }
+
+        assertEquals(deadlines, stepTo(START + 70));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void holdBeyondTheTopLevelIsParkedUntilInRange() {
+        UUID hold = UUID.randomUUID();
+        wheel.schedule(hold, START + 200);
+
+        assertEquals(Map.of(hold, START + 200), stepTo(START + 260));
+    }
+
+    @Test
+    void deadlineIsRoundedUpToTheNextTick() {
+        HoldTimingWheel coarse = new HoldTimingWheel(10, 4, 3, START);
+        UUID hold = UUID.randomUUID();
+        coarse.schedule(hold, START + 11);
+
+        assertTrue(coarse.advance(START + 10).isEmpty());
+        assertTrue(coarse.advance(START + 19).isEmpty(), "must not fire before the deadline");
+        assertEquals(List.of(hold), coarse.advance(START + 20));
+    }
+
+    @Test
+    void pastDeadlineFiresOnTheNextAdvance() {
+        UUID hold = UUID.randomUUID();
+        wheel.schedule(hold, START - 50);
+
+        assertEquals(List.of(hold), wheel.advance(START));
+    }
+
+    @Test
+    void cancelledHoldNeverFires() {
+        UUID kept = UUID.randomUUID();
+        UUID cancelled = UUID.randomUUID();
+        wheel.schedule(kept, START + 20);
+        wheel.schedule(cancelled, START + 20);
+
+        assertTrue(wheel.cancel(cancelled));
+        assertFalse(wheel.cancel(cancelled));
+        assertFalse(wheel.cancel(UUID.randomUUID()));
+        assertEquals(1, wheel.size());
+        assertEquals(Map.of(kept, START + 20), stepTo(START + 30));
+    }
+
+    @Test
+    void rescheduleReplacesTheEarlierDeadline() {
+        UUID hold = UUID.randomUUID();
+        wheel.schedule(hold, START + 5);
+        wheel.schedule(hold, START + 30);
+
+        assertEquals(1, wheel.size());
+        assertEquals(Map.of(hold, START + 30), stepTo(START + 40));
+    }
+
+    @Test
+    void fallingBehindMoreThanATurnFiresWhatIsDueAndKeepsTheRest() {
+        UUID due = UUID.randomUUID();
+        UUID alsoDue = UUID.randomUUID();
+        UUID later = UUID.randomUUID();
+        wheel.schedule(due, START + 3);
+        wheel.schedule(alsoDue, START + 30);
+        wheel.schedule(later, START + 50);
+
+        // one jump of 40 ticks, far more than level 0's 4
+        List<UUID> fired = wheel.advance(START + 40);
+
+        assertEquals(2, fired.size());
+        assertTrue(fired.containsAll(List.of(due, alsoDue)));
+        assertEquals(1, wheel.size());
+        assertEquals(Map.of(later, START + 50), stepTo(START + 60, START + 41));
+    }
+
+    // -------- helpers --------
+
+    private Map<UUID, Long> stepTo(long endMillis) {
+        return stepTo(endMillis, START + 1);
+    }
+
+    /** Advances one tick at a time and records the tick each hold fired on. */
+    private Map<UUID, Long> stepTo(long endMillis, long fromMillis) {
+        Map<UUID, Long> firedAt = new HashMap<>();
+        for (long now = fromMillis; now <= endMillis; now++) {
+            for (UUID hold : wheel.advance(now)) {
+                firedAt.put(hold, now);
+            }
+        }
+        return firedAt;
+    }
+}